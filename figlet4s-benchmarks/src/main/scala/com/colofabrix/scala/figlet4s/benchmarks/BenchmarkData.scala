@@ -0,0 +1,39 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import cats.effect._
+import com.colofabrix.scala.figlet4s.core._
+import com.colofabrix.scala.figlet4s.figfont._
+
+/**
+ * Fixed inputs shared by the benchmarks, so that results are comparable between runs
+ */
+@SuppressWarnings(Array("org.wartremover.warts.Throw"))
+private[benchmarks] object BenchmarkData {
+
+  /** A short text that fits in a single line */
+  val shortText: String = "Hello, World!"
+
+  /** A long text, that fits in a single line only when there is no limit on the width */
+  val longText: String =
+    Vector.fill(10)("The quick brown fox jumps over the lazy dog 0123456789").mkString(" ")
+
+  /** Width used by the inputs that wrap on multiple lines */
+  val wrappingWidth: Int = 80
+
+  /** Returns the text and the max width associated to the name of an input */
+  def input(name: String): (String, Int) =
+    name match {
+      case "short"    => (shortText, Int.MaxValue)
+      case "long"     => (longText, Int.MaxValue)
+      case "wrapping" => (longText, wrappingWidth)
+      case _          => throw new IllegalArgumentException(s"Unknown input: $name")
+    }
+
+  /** Loads an internal FIGfont, failing the benchmark if it's not valid */
+  def loadFont(name: String): FIGfont =
+    Figlet4sClient
+      .loadFontInternal[SyncIO](name)
+      .unsafeRunSync()
+      .fold(e => throw e.head, identity)
+
+}
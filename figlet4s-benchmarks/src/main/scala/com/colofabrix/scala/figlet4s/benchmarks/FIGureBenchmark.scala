@@ -0,0 +1,67 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
+import com.colofabrix.scala.figlet4s.unsafe._
+import java.io.Writer
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Measures the materialization of the representations of a rendered FIGure
+ *
+ * The lines of a FIGure are views over its packed characters that create the Strings when they are read, so every
+ * invocation reads all of them.
+ *
+ * Run with `sbt "figlet4sBenchmarks/Jmh/run -prof gc FIGureBenchmark"`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings(Array("org.wartremover.warts.Null", "org.wartremover.warts.Var"))
+class FIGureBenchmark {
+
+  @Param(Array("short", "long", "wrapping"))
+  var input: String = ""
+
+  private var figure: FIGure = null
+
+  @Setup
+  def setup(): Unit = {
+    val (text, maxWidth) = BenchmarkData.input(input)
+    val options = RenderOptions(
+      font = BenchmarkData.loadFont("standard"),
+      maxWidth = maxWidth,
+      horizontalLayout = HorizontalLayout.FontDefault,
+      printDirection = PrintDirection.LeftToRight,
+      justification = Justification.FlushLeft,
+    )
+    figure = Rendering.render(text, options)
+  }
+
+  /** Materializes the lines of the FIGure */
+  @Benchmark
+  def lines(blackhole: Blackhole): Unit =
+    figure.lines.foreach(_.foreach(line => blackhole.consume(line)))
+
+  /** Materializes the lines of the FIGure stripped of the hardblanks */
+  @Benchmark
+  def cleanLines(blackhole: Blackhole): Unit =
+    figure.cleanLines.foreach(_.foreach(line => blackhole.consume(line)))
+
+  /** Materializes the FIGure as a single String */
+  @Benchmark
+  def asString(): Any =
+    figure.asString()
+
+  /** Streams the FIGure to a Writer that discards the output */
+  @Benchmark
+  def writeTo(): Unit =
+    figure.writeTo(Writer.nullWriter())
+
+}
@@ -0,0 +1,63 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.unsafe._
+import java.math.BigInteger
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import scala.io._
+
+/**
+ * Compares the computation of the identifier of all the FIGfonts shipped with the library, between the former MD5
+ * digest chained on every line and the [[FontDigest]] of the raw bytes of the files
+ *
+ * Run with `sbt "figlet4sBenchmarks/Jmh/run FontIdBenchmark"`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings(Array("org.wartremover.warts.Var"))
+class FontIdBenchmark {
+
+  private var contents: Vector[Array[Byte]] = Vector.empty
+  private var fonts: Vector[Vector[String]]  = Vector.empty
+
+  @Setup
+  def setup(): Unit = {
+    contents = Figlet4s.internalFonts.toVector.map { name =>
+      val stream = getClass.getClassLoader.getResourceAsStream(s"fonts/$name.flf")
+      try stream.readAllBytes()
+      finally stream.close()
+    }
+    fonts = contents.map(content => Source.fromBytes(content)(Codec.ISO8859).getLines().toVector)
+  }
+
+  /** The former identifier, where every line is hashed and then hashed again together with the running hash */
+  @Benchmark
+  def chainedMd5(bh: Blackhole): Unit =
+    fonts.foreach { lines =>
+      bh.consume(lines.foldLeft(md5(""))((hash, line) => md5(hash + md5(line))))
+    }
+
+  /** The current identifier, where the raw bytes of the file are fed once to a single digest */
+  @Benchmark
+  def streamingDigest(bh: Blackhole): Unit =
+    contents.foreach { content =>
+      bh.consume(FontDigest.of(ByteBuffer.wrap(content)))
+    }
+
+  //  Support  //
+
+  private def md5(value: String): String = {
+    val digest = MessageDigest.getInstance("MD5").digest(value.getBytes(StandardCharsets.ISO_8859_1))
+    new BigInteger(1, digest).toString(16)
+  }
+
+}
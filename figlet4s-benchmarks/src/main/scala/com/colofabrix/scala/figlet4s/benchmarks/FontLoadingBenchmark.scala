@@ -0,0 +1,90 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import cats.effect._
+import com.colofabrix.scala.figlet4s.core._
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.unsafe._
+import java.io._
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations._
+import org.openjdk.jmh.infra.Blackhole
+import scala.io._
+
+/**
+ * Measures the time to load all the FIGfonts shipped with the library
+ *
+ * Run with `sbt "figlet4sBenchmarks/Jmh/run FontLoadingBenchmark"`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings(Array("org.wartremover.warts.Throw", "org.wartremover.warts.Var"))
+class FontLoadingBenchmark {
+
+  private var names: Vector[String]                 = Vector.empty
+  private var fonts: Vector[(File, Vector[String])] = Vector.empty
+  private var compiled: Vector[(File, Array[Byte])] = Vector.empty
+  private var cacheSize: Int                        = 0
+
+  @Setup
+  def setup(): Unit = {
+    names = Figlet4s.internalFonts.toVector
+    fonts = names.map { name =>
+      val path   = s"fonts/$name.flf"
+      val source = Source.fromResource(path)(Codec.ISO8859)
+      try new File(path) -> source.getLines().toVector
+      finally source.close()
+    }
+    compiled = fonts.map { case (file, lines) =>
+      val output = new ByteArrayOutputStream()
+      CompiledFont.write(FIGfont(file, lines.iterator).fold(e => throw e.head, identity), output)
+      file -> output.toByteArray
+    }
+    // Every iteration must go through the loading of the FIGfonts
+    cacheSize = Figlet4s.fontCacheStats.maxSize
+    Figlet4s.resizeFontCache(0)
+  }
+
+  @TearDown
+  def tearDown(): Unit =
+    Figlet4s.resizeFontCache(cacheSize)
+
+  /** Parses all the FIGfonts from lines already in memory */
+  @Benchmark
+  def parseAll(bh: Blackhole): Unit =
+    fonts.foreach { case (file, lines) =>
+      bh.consume(FIGfont(file, lines.iterator))
+    }
+
+  /** Parses all the FIGfonts from lines already in memory, validating each FIGcharacter only when it's used */
+  @Benchmark
+  def parseAllIndexed(bh: Blackhole): Unit =
+    fonts.foreach { case (file, lines) =>
+      bh.consume(FIGfont.indexed(file, lines.iterator))
+    }
+
+  /** Decodes all the compiled FIGfonts from bytes already in memory */
+  @Benchmark
+  def readAllCompiled(bh: Blackhole): Unit =
+    compiled.foreach { case (file, bytes) =>
+      bh.consume(CompiledFont.read(file, bytes))
+    }
+
+  /** Loads all the FIGfonts from the resources, including the reading of the files */
+  @Benchmark
+  def loadAll(bh: Blackhole): Unit =
+    names.foreach { name =>
+      bh.consume(Figlet4s.loadFontInternal(name))
+    }
+
+  /** Loads all the FIGfonts from the resources parsing their FLF files */
+  @Benchmark
+  def loadAllFlf(bh: Blackhole): Unit =
+    names.foreach { name =>
+      bh.consume(Figlet4sClient.loadFlfInternal[SyncIO](name).unsafeRunSync())
+    }
+
+}
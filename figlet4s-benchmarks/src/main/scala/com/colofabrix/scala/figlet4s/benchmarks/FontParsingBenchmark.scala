@@ -0,0 +1,46 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import com.colofabrix.scala.figlet4s.figfont._
+import java.io.File
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations._
+import scala.io._
+
+/**
+ * Measures the time to parse a single FIGfont from lines already in memory
+ *
+ * Run with `sbt "figlet4sBenchmarks/Jmh/run -prof gc FontParsingBenchmark"` to include the allocation rate
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings(Array("org.wartremover.warts.Var"))
+class FontParsingBenchmark {
+
+  @Param(Array("standard", "banner3-D", "univers"))
+  var fontName: String = ""
+
+  private var file: File            = new File("")
+  private var lines: Vector[String] = Vector.empty
+
+  @Setup
+  def setup(): Unit = {
+    val path   = s"fonts/$fontName.flf"
+    val source = Source.fromResource(path)(Codec.ISO8859)
+    try lines = source.getLines().toVector
+    finally source.close()
+    file = new File(path)
+  }
+
+  @Benchmark
+  def parse(): Any =
+    FIGfont(file, lines.iterator)
+
+  @Benchmark
+  def parseIndexed(): Any =
+    FIGfont.indexed(file, lines.iterator)
+
+}
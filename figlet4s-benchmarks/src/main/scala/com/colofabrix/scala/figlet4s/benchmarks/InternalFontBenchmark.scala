@@ -0,0 +1,49 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import cats.effect._
+import com.colofabrix.scala.figlet4s.core._
+import com.colofabrix.scala.figlet4s.unsafe._
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations._
+
+/**
+ * Measures the time to load a single internal FIGfont, bypassing the FIGfont cache
+ *
+ * Run with `sbt "figlet4sBenchmarks/Jmh/run -prof gc InternalFontBenchmark"`. Other FIGfonts can be measured using
+ * `-p fontName=<name>,<name>`.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings(Array("org.wartremover.warts.Var"))
+class InternalFontBenchmark {
+
+  @Param(Array("standard", "banner3-D", "univers"))
+  var fontName: String = ""
+
+  private var cacheSize: Int = 0
+
+  @Setup
+  def setup(): Unit = {
+    cacheSize = Figlet4s.fontCacheStats.maxSize
+    Figlet4s.resizeFontCache(0)
+  }
+
+  @TearDown
+  def tearDown(): Unit =
+    Figlet4s.resizeFontCache(cacheSize)
+
+  /** Loads the FIGfont the same way as the client APIs */
+  @Benchmark
+  def loadFontInternal(): Any =
+    Figlet4sClient.loadFontInternal[SyncIO](fontName).unsafeRunSync()
+
+  /** Loads the FIGfont parsing its FLF file */
+  @Benchmark
+  def loadFlfInternal(): Any =
+    Figlet4sClient.loadFlfInternal[SyncIO](fontName).unsafeRunSync()
+
+}
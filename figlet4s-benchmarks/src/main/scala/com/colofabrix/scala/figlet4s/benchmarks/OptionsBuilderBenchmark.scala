@@ -0,0 +1,58 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import cats.effect._
+import com.colofabrix.scala.figlet4s.options._
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations._
+
+/**
+ * Measures the compilation of an OptionsBuilder into the data used to render a text
+ *
+ * The internal FIGfont is loaded once during the setup so the benchmarks measure a cache hit and not the loading of
+ * the FIGfont, see [[InternalFontBenchmark]] for that.
+ *
+ * Run with `sbt "figlet4sBenchmarks/Jmh/run -prof gc OptionsBuilderBenchmark"`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings(Array("org.wartremover.warts.Var"))
+class OptionsBuilderBenchmark {
+
+  private var defaultBuilder: OptionsBuilder      = OptionsBuilder()
+  private var internalFontBuilder: OptionsBuilder = OptionsBuilder()
+  private var fullBuilder: OptionsBuilder         = OptionsBuilder()
+
+  @Setup
+  def setup(): Unit = {
+    val font = BenchmarkData.loadFont("standard")
+
+    defaultBuilder = OptionsBuilder().text(BenchmarkData.shortText)
+    internalFontBuilder = defaultBuilder.withInternalFont("standard")
+    fullBuilder = defaultBuilder
+      .withFont(font)
+      .withHorizontalLayout(HorizontalLayout.HorizontalSmushing)
+      .withMaxWidth(BenchmarkData.wrappingWidth)
+      .withPrintDirection(PrintDirection.LeftToRight)
+      .withJustification(Justification.FlushLeft)
+  }
+
+  /** Compiles a builder that uses only the default values */
+  @Benchmark
+  def compileDefault(): Any =
+    defaultBuilder.compile[SyncIO].unsafeRunSync()
+
+  /** Compiles a builder that selects an internal FIGfont */
+  @Benchmark
+  def compileInternalFont(): Any =
+    internalFontBuilder.compile[SyncIO].unsafeRunSync()
+
+  /** Compiles a builder where all the options are set */
+  @Benchmark
+  def compileAllOptions(): Any =
+    fullBuilder.compile[SyncIO].unsafeRunSync()
+
+}
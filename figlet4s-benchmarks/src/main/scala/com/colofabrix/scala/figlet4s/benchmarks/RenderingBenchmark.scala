@@ -0,0 +1,72 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations._
+
+/**
+ * Measures the rendering of a text for every horizontal layout
+ *
+ * The inputs are a short text, a long text on a single line and the same long text wrapped at a fixed max width. Each
+ * text is rendered both from scratch and with a Renderer created once for the options. Typing one more character is
+ * measured both by rendering the whole text again and by appending the character to the FIGure of the text.
+ *
+ * Run with `sbt "figlet4sBenchmarks/Jmh/run -prof gc RenderingBenchmark"`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings(Array("org.wartremover.warts.Null", "org.wartremover.warts.Var"))
+class RenderingBenchmark {
+
+  @Param(Array("FullWidth", "HorizontalFitting", "HorizontalSmushing", "ForceHorizontalSmushing", "FontDefault"))
+  var layout: String = ""
+
+  @Param(Array("short", "long", "wrapping"))
+  var input: String = ""
+
+  @Param(Array("standard"))
+  var fontName: String = ""
+
+  private var text: String           = ""
+  private var options: RenderOptions = null
+  private var renderer: Renderer     = null
+  private var figure: FIGure         = null
+
+  @Setup
+  def setup(): Unit = {
+    val (value, maxWidth) = BenchmarkData.input(input)
+    text = value
+    options = RenderOptions(
+      font = BenchmarkData.loadFont(fontName),
+      maxWidth = maxWidth,
+      horizontalLayout = HorizontalLayout.withName(layout),
+      printDirection = PrintDirection.LeftToRight,
+      justification = Justification.FlushLeft,
+    )
+    renderer = new Renderer(options)
+    figure = renderer.renderText(text)
+  }
+
+  @Benchmark
+  def render(): Any =
+    Rendering.render(text, options)
+
+  @Benchmark
+  def renderWithRenderer(): Any =
+    renderer.renderText(text)
+
+  @Benchmark
+  def typeCharacterWithRender(): Any =
+    renderer.renderText(text + "x")
+
+  @Benchmark
+  def typeCharacterWithAppend(): Any =
+    renderer.appendText(figure, "x")
+
+}
@@ -0,0 +1,74 @@
+package com.colofabrix.scala.figlet4s.benchmarks
+
+import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
+import java.util.concurrent.TimeUnit
+import org.openjdk.jmh.annotations._
+
+/**
+ * Measures the throughput of the rendering when a single FIGfont is shared by an increasing number of threads
+ *
+ * All threads render with the same RenderOptions, and so with the same FIGfont and FIGcharacters, like the threads of a
+ * server do. The rendering doesn't take any lock on shared data, so the throughput should grow linearly with the
+ * number of threads up to the number of available cores.
+ *
+ * Run with `sbt "figlet4sBenchmarks/Jmh/run SharedFontBenchmark"`
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@SuppressWarnings(Array("org.wartremover.warts.Null", "org.wartremover.warts.Var"))
+class SharedFontBenchmark {
+
+  @Param(Array("short", "long", "wrapping"))
+  var input: String = ""
+
+  @Param(Array("standard"))
+  var fontName: String = ""
+
+  private var text: String           = ""
+  private var options: RenderOptions = null
+
+  @Setup
+  def setup(): Unit = {
+    val (value, maxWidth) = BenchmarkData.input(input)
+    text = value
+    options = RenderOptions(
+      font = BenchmarkData.loadFont(fontName),
+      maxWidth = maxWidth,
+      horizontalLayout = HorizontalLayout.FontDefault,
+      printDirection = PrintDirection.LeftToRight,
+      justification = Justification.FlushLeft,
+    )
+  }
+
+  @Benchmark
+  @Threads(1)
+  def threads1(): Any =
+    Rendering.render(text, options)
+
+  @Benchmark
+  @Threads(2)
+  def threads2(): Any =
+    Rendering.render(text, options)
+
+  @Benchmark
+  @Threads(4)
+  def threads4(): Any =
+    Rendering.render(text, options)
+
+  @Benchmark
+  @Threads(8)
+  def threads8(): Any =
+    Rendering.render(text, options)
+
+  /** As many threads as the available processors */
+  @Benchmark
+  @Threads(Threads.MAX)
+  def threadsMax(): Any =
+    Rendering.render(text, options)
+
+}
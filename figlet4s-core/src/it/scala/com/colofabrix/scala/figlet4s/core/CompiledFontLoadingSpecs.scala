@@ -0,0 +1,36 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.effect._
+import cats.effect.unsafe.implicits.global
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.figfont._
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+
+class CompiledFontLoadingSpecs extends AnyFlatSpec with Matchers {
+
+  "Compiled fonts" should "be bundled for all internal fonts" in {
+    val test = Figlet4sClient.internalFonts[IO].flatMap {
+      _.toVector.traverse { name =>
+        FontFileReader.readInternalCompiled[IO, Int](s"fonts/$name.flf")((_, bytes) => IO.pure(bytes.length))
+      }
+    }
+    all(test.unsafeRunSync()) should be(defined)
+  }
+
+  they should "load the same FIGfonts as the FLF files" in {
+    val test = Figlet4sClient.internalFonts[IO].flatMap {
+      _.toVector.traverse { name =>
+        val compiled = FontFileReader.readInternalCompiled[IO, FIGfont](s"fonts/$name.flf") { (file, bytes) =>
+          IO(CompiledFont.read(file, bytes).fold(e => throw e.head, identity))
+        }
+        val flf = Figlet4sClient.loadFlfInternal[IO](name).map(_.fold(e => throw e.head, identity))
+        (compiled, flf).tupled
+      }
+    }
+    test.unsafeRunSync().foreach { case (compiled, flf) =>
+      compiled shouldBe Some(flf)
+    }
+  }
+
+}
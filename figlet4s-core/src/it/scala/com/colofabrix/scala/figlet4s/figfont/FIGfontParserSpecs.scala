@@ -0,0 +1,79 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.unsafe._
+import java.io.File
+import org.scalacheck._
+import org.scalactic.anyvals._
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+import org.scalatestplus.scalacheck._
+import scala.io._
+
+class FIGfontParserSpecs extends AnyFlatSpec with Matchers with ScalaCheckDrivenPropertyChecks {
+
+  implicit override val generatorDrivenConfig: PropertyCheckConfiguration =
+    PropertyCheckConfiguration(minSuccessful = PosInt(500))
+
+  "FIGfontParser" should "parse all internal fonts into the same FIGfonts as the reference parser" in {
+    fontFiles.foreach { case (file, lines) =>
+      val computed = FIGfont(file, lines.iterator)
+      val expected = ReferenceFIGfont(file, lines.iterator)
+      computed.isValid shouldBe true
+      computed shouldBe expected
+    }
+  }
+
+  it should "return the same results as the reference parser on altered font files" in {
+    forAll(alteredFontGen) { case (file, lines) =>
+      val computed = errorMessages(FIGfont(file, lines.iterator))
+      val expected = errorMessages(ReferenceFIGfont(file, lines.iterator))
+      computed shouldBe expected
+    }
+  }
+
+  //  Support  //
+
+  private lazy val fontFiles: Vector[(File, Vector[String])] =
+    Figlet4s.internalFonts.toVector.map { name =>
+      val path   = s"fonts/$name.flf"
+      val source = Source.fromResource(path)(Codec.ISO8859)
+      try new File(path) -> source.getLines().toVector
+      finally source.close()
+    }
+
+  private def errorMessages(result: FigletResult[FIGfont]): Either[List[String], FIGfont] =
+    result.leftMap(_.map(e => s"${e.getClass.getSimpleName} - ${e.getMessage}").toList).toEither
+
+  private val alterLineGen: Gen[String => String] =
+    Gen.oneOf(
+      Vector[String => String](
+        _ => "",
+        _.dropRight(1),
+        _.drop(1),
+        _ + "@",
+        _ + "#",
+        _.replace('@', '#'),
+        _.replace('$', ' '),
+        _ => "0x20 A tag",
+        _ => "notANumber",
+      ),
+    )
+
+  private val alteredFontGen: Gen[(File, Vector[String])] =
+    for {
+      (file, lines) <- Gen.oneOf(fontFiles)
+      index         <- Gen.choose(0, lines.size - 1)
+      alterLine     <- alterLineGen
+      alteration <- Gen.oneOf(
+                      Vector[Vector[String] => Vector[String]](
+                        _.patch(index, Nil, 1),
+                        _.patch(index, Seq(lines(index)), 0),
+                        _.updated(index, alterLine(lines(index))),
+                        _.take(Math.max(1, index)),
+                      ),
+                    )
+    } yield file -> alteration(lines)
+
+}
@@ -0,0 +1,280 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import cats.data.Validated._
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.figfont.FIGfontParameters._
+import java.io.File
+import java.util.Locale
+
+/**
+ * Reference implementation of the parsing of FIGfonts based on a fold over an immutable state, kept to validate the
+ * behaviour of the optimised [[FIGfontParser]].
+ */
+@SuppressWarnings(Array("org.wartremover.warts.OptionPartial", "org.wartremover.warts.TraversableOps"))
+object ReferenceFIGfont {
+
+  /** State to build a font that is filled while scanning input lines */
+  final private case class FontBuilderState(
+      file: File,
+      header: Option[FIGheader] = None,
+      commentLines: Vector[String] = Vector.empty,
+      loadedNames: Set[Int] = Set.empty,
+      loadedChars: Vector[CharBuilderState] = Vector.empty,
+      loadedCharLines: Vector[String] = Vector.empty,
+      processTaggedFonts: Boolean = false,
+  )
+
+  /** State to build a character that is filled while scanning input lines */
+  final private case class CharBuilderState(
+      name: Int,
+      lines: Vector[String],
+      comment: Option[String],
+      position: Int,
+  )
+
+  /**
+   * Creates a new FIGfont by parsing an input collection of lines representing an FLF file
+   *
+   * @param file  The file that contains the FIGfont
+   * @param lines An Iterable that contains all the lines representing an FLF file that defines the FIGfont
+   * @return A [[com.colofabrix.scala.figlet4s.errors.FigletResult FigletResult]] containing the new FIGfont or a list
+   *         of errors occurred during the creation
+   */
+  def apply(file: File, lines: Iterator[String]): FigletResult[FIGfont] = {
+    val digest = new FontDigest()
+    lines
+      .map { line =>
+        digest.update(line)
+        line
+      }
+      .zipWithIndex
+      .foldLeft(FontBuilderState(file).validNec[FigletException]) {
+        case (i @ Invalid(_), _)           => i
+        case (Valid(state), (line, index)) => processLine(state, line, index)
+      }
+      .andThen(buildFont(_, digest.result()))
+  }
+
+  private val requiredChars: Seq[Char] = FIGfont.requiredChars
+
+  /**
+   * Processes a line calling the appropriate action based on the current state
+   */
+  private def processLine(state: FontBuilderState, line: String, index: Int): FigletResult[FontBuilderState] =
+    if (index === 0)
+      buildHeader(state, line)
+    else if (index <= state.header.get.commentLines)
+      buildComment(state, line)
+    else if (!state.processTaggedFonts)
+      buildCharacter(state, line, index)
+    else
+      buildTaggedCharacter(state, line, index)
+
+  /**
+   * Build the FIGfont by parsing the font builder state
+   */
+  private def buildFont(fontState: FontBuilderState, id: String): FigletResult[FIGfont] =
+    if (fontState.loadedCharLines.size =!= 0) {
+      // Check we didn't stop in the middle of a character
+      FIGcharacterError("Incomplete character definition at the end of the file").invalidNec
+
+    } else {
+      val header          = fontState.header.get
+      val nameV           = fontState.file.getName.split('.').init.mkString("").validNec
+      val fileV           = fontState.file.validNec
+      val idV             = id.validNec
+      val commentV        = fontState.commentLines.mkString("\n").validNec
+      val hLayoutV        = HorizontalLayout.fromHeader(header)
+      val vLayoutV        = VerticalLayout.fromHeader(header)
+      val printDirectionV = PrintDirection.fromHeader(header)
+      val settingsV = (hLayoutV, vLayoutV, printDirectionV).mapN {
+        FIGfontSettings.apply
+      }
+
+      val charsV = fontState
+        .loadedChars
+        .traverse(buildChar(fontState, id, _))
+        .andThen(validatedRequiredChars)
+        .andThen { chars =>
+          val loadedTaggedCount = chars.size - requiredChars.size
+          val codetagCount      = header.codetagCount.getOrElse(loadedTaggedCount)
+
+          if (loadedTaggedCount === codetagCount)
+            chars.validNec
+          else
+            FIGFontError(
+              s"The number of loaded tagged fonts $loadedTaggedCount doesn't correspond to the value " +
+              s"indicated in the header $codetagCount",
+            ).invalidNec
+        }
+        .map(FIGcharacterTable(_))
+
+      (idV, nameV, fileV, header.validNec, commentV, settingsV, charsV)
+        .mapN(FIGfont.apply)
+    }
+
+  /**
+   * Check all required characters are present
+   */
+  private def validatedRequiredChars(chars: Seq[(Int, FIGcharacter)]): FigletResult[Seq[(Int, FIGcharacter)]] = {
+    val loadedCharset = chars.map(_._1).toSet
+    val missing       = requiredChars.filterNot(c => loadedCharset.contains(c.toInt)) mkString ", "
+
+    if (missing.nonEmpty)
+      FIGcharacterError(s"Missing definition for required FIGlet characters: $missing").invalidNec
+    else
+      chars.validNec
+  }
+
+  /**
+   * Build the FIGfont by parsing the character builder state
+   */
+  private def buildChar(
+      fontState: FontBuilderState,
+      id: String,
+      charState: CharBuilderState,
+  ): FigletResult[(Int, FIGcharacter)] =
+    fontState
+      .header
+      .map { header =>
+        FIGcharacter
+          .fromCodePoint(
+            id,
+            header.maxLength,
+            header.height,
+            charState.name,
+            SubLines(charState.lines),
+            charState.comment,
+            charState.position,
+          )
+          .map(charState.name -> _)
+          .leftMap(_.map { err =>
+            val msg = s"Error while building a character on position ${charState.position}: ${err.getMessage}"
+            FIGFontError(msg, err)
+          })
+      }
+      .get
+
+  /**
+   * Parses the FLF header
+   */
+  private def buildHeader(state: FontBuilderState, line: String): FigletResult[FontBuilderState] =
+    FIGheader(line) andThen { header =>
+      state.copy(header = Some(header)).validNec
+    }
+
+  /**
+   * Builds the comment section
+   */
+  private def buildComment(state: FontBuilderState, line: String): FigletResult[FontBuilderState] =
+    state.copy(commentLines = state.commentLines :+ line).validNec
+
+  /**
+   * Builds characters using the given state and the current line
+   */
+  private def buildCharacter(state: FontBuilderState, line: String, index: Int): FigletResult[FontBuilderState] = {
+    val header          = state.header.get
+    val loadedCharLines = state.loadedCharLines :+ line
+
+    if (state.loadedCharLines.length + 1 < header.height) {
+      state.copy(loadedCharLines = loadedCharLines).validNec
+
+    } else {
+      val startLine = index - state.loadedCharLines.size
+      val charNum   = (startLine - header.commentLines - 1) / header.height
+
+      requiredChars
+        .lift(charNum)
+        .toValidNec(FIGcharacterError(s"Character index $charNum out of bounds"))
+        .map { charName =>
+          val charBuilder = CharBuilderState(charName, state.loadedCharLines :+ line, None, startLine)
+          state.copy(
+            loadedCharLines = Vector.empty,
+            loadedNames = state.loadedNames + charBuilder.name,
+            loadedChars = state.loadedChars :+ charBuilder,
+            processTaggedFonts = state.loadedChars.size + 1 >= requiredChars.size,
+          )
+        }
+    }
+  }
+
+  /**
+   * Builds tagged characters using the given state and the current line
+   */
+  private def buildTaggedCharacter(
+      state: FontBuilderState,
+      line: String,
+      index: Int,
+  ): FigletResult[FontBuilderState] = {
+    val header = state.header.get
+
+    if (state.loadedCharLines.length + 1 < header.height + 1) {
+      val loadedCharLines = state.loadedCharLines :+ line
+      state.copy(loadedCharLines = loadedCharLines).validNec
+
+    } else {
+      val tagLineIndex = index - state.loadedCharLines.size
+      val firstLineV =
+        state
+          .loadedCharLines
+          .headOption
+          .toValidNec(FIGcharacterError(s"Empty character lines at index $tagLineIndex"))
+      val loadedCharLines = state.loadedCharLines.drop(1) :+ line
+
+      firstLineV.andThen { firstLine =>
+        val nameV    = parseTagName(firstLine, tagLineIndex)
+        val commentV = parseTagComment(firstLine)
+
+        (nameV, commentV)
+          .mapN(CharBuilderState(_, loadedCharLines, _, tagLineIndex))
+          .map { charBuilder =>
+            state.copy(
+              loadedCharLines = Vector.empty,
+              loadedNames = state.loadedNames + charBuilder.name,
+              loadedChars = state.loadedChars :+ charBuilder,
+            )
+          }
+      }
+    }
+  }
+
+  /**
+   * Parses the line of a tag to extract the name
+   */
+  private def parseTagName(tagLine: String, tagLineIndex: Int): FigletResult[Int] = {
+    val splitFontTag = tagLine.replaceFirst(" +", "###").split("###").toVector
+    splitFontTag
+      .headOption
+      .toValidNec(
+        FIGcharacterError(s"Missing character code in the tag at line ${tagLineIndex + 1}: $tagLine"),
+      )
+      .andThen(parseCharCode(tagLineIndex, _))
+  }
+
+  /**
+   * Parses the line of a tag to extract the comment
+   */
+  private def parseTagComment(tagLine: String): FigletResult[Option[String]] = {
+    val splitFontTag = tagLine.replaceFirst(" +", "###").split("###").toVector
+    splitFontTag
+      .lift(1)
+      .getOrElse("")
+      .validNec[FigletException]
+      .map(Option(_))
+  }
+
+  /**
+   * Parses a character code into a code point
+   */
+  private def parseCharCode(index: Int, code: String): FigletResult[Int] =
+    if (code.matches("^-?\\d+$"))
+      Integer.parseInt(code, 10).validNec
+    else if (code.toLowerCase(Locale.ROOT).matches("^-?0x[0-9a-f]+$"))
+      Integer.parseInt(code.toLowerCase(Locale.ROOT).replace("0x", ""), 16).validNec
+    else if (code.matches("^-?0\\d+$"))
+      Integer.parseInt(code, 8).validNec
+    else
+      FIGcharacterError(s"Couldn't convert character code '$code' defined at line ${index + 1}").invalidNec
+
+}
@@ -0,0 +1,40 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering.MergeAction._
+import com.colofabrix.scala.figlet4s.rendering.Rendering._
+import com.colofabrix.scala.figlet4s.unsafe._
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+
+class MergeTableSpecs extends AnyFlatSpec with Matchers {
+
+  "MergeTable" should "produce the same outcomes as the merge strategy it's built from" in {
+    for {
+      fontName <- Vector("standard", "big", "slant", "alligator")
+      layout   <- HorizontalLayout.values
+      options = Figlet4s.builder().withInternalFont(fontName).withHorizontalLayout(layout).options
+      table   = HorizontalMergeRules.mergeTable(options)
+      state   <- Vector(MergeState(1, 5, 5), MergeState(1, 1, 5), MergeState(1, 5, 0))
+      merge = HorizontalMergeRules.mergeStrategy(options)(state)
+      a <- testChars
+      b <- testChars
+    } decode(table(a, b, HorizontalMergeRules.skipSmushing(state))) shouldBe merge(a, b)
+  }
+
+  it should "be reused across renderings with the same hardblank and layout" in {
+    val options = Figlet4s.builder().withInternalFont("standard").options
+    HorizontalMergeRules.mergeTable(options) should be theSameInstanceAs HorizontalMergeRules.mergeTable(options)
+  }
+
+  //  Support  //
+
+  private val testChars: Vector[Char] =
+    ((0 to 255) ++ Vector(0x100, 0x2500, 0xffff)).map(_.toChar).toVector
+
+  private def decode(outcome: Int): MergeAction[Char] =
+    if (MergeTable.isStop(outcome)) Stop
+    else if (MergeTable.isCurrentLast(outcome)) CurrentLast(MergeTable.value(outcome))
+    else Continue(MergeTable.value(outcome))
+
+}
@@ -0,0 +1,155 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering.MergeAction._
+import com.colofabrix.scala.figlet4s.rendering.ReferenceRendering._
+import com.colofabrix.scala.figlet4s.rendering.Rendering.{ MergeState, MergeStrategy }
+import scala.annotation.tailrec
+
+/**
+ * Reference implementation of the rendering algorithm based on immutable columns, kept to validate the behaviour of
+ * the optimised [[Rendering]]. See [[Rendering]] for a description of the algorithm.
+ *
+ * @param options The options of the rendering
+ */
+final class ReferenceRendering(options: RenderOptions) {
+
+  /**
+   * Renders a String into a FIGure for a given FIGfont and options
+   *
+   * @return A FIGure containing the rendered text following the rendering options
+   */
+  def render(text: String): FIGure = {
+    val figures = text.map(options.font(_).columns.value.toVector).toVector
+    val zero    = Vector(options.font.zero.lines.toSubcolumns.value.toVector)
+    val result  = appendLoop(figures, zero, AppendLoopState()).map(SubColumns(_))
+    FIGure(options.font, text, result)
+  }
+
+  //  ----  //
+
+  private val mergeStrategy: MergeStrategy = HorizontalMergeRules.mergeStrategy(options)
+
+  @tailrec
+  private def appendLoop(figures: Vector[Columns], partial: Vector[Columns], state: AppendLoopState): Vector[Columns] =
+    (figures, partial) match {
+      case (Vector(), _) =>
+        partial
+      case (figChar +: remainingChars, upperLines :+ lastLine) =>
+        val merged    = merge(MergeLoopState(lastLine, figChar, appendLoopState = state))
+        def onBorder  = merge(MergeLoopState(b = figChar))
+        val result    = if (merged.lengthIs <= options.maxWidth) upperLines :+ merged else partial :+ onBorder
+        val nextState = state.copy(lastCharWidth = figChar.length)
+        appendLoop(remainingChars, result, nextState)
+      case _ =>
+        partial
+    }
+
+  //  ----  //
+
+  @tailrec
+  private def merge(state: MergeLoopState): Columns =
+    if (state.overlap === 0) {
+      merge(state.copy(overlap = 1, partialResult = state.a ++ state.b))
+
+    } else if (state.overlap > state.b.length) {
+      state.partialResult
+
+    } else {
+      val mState = MergeState(state.overlap, state.b.length, state.appendLoopState.lastCharWidth)
+
+      val aLeftCut  = Math.max(0, state.a.length - state.overlap)
+      val aRightCut = Math.min(state.a.length, (state.a.length - state.overlap) + state.b.length)
+      val aSections = splitSections(aLeftCut, aRightCut, state.a)
+
+      val bLeftCut  = Math.max(0, state.overlap - state.a.length)
+      val bRightCut = Math.min(state.overlap, state.b.length)
+      val bSections = splitSections(bLeftCut, bRightCut, state.b)
+
+      val leftSide  = mergeOnLeftBorder(mState, bSections.left)
+      val merged    = mergeOverlappingSections(mState, aSections.overlap, bSections.overlap)
+      val rightSide = Continue(aSections.right ++ bSections.right)
+
+      val result = (leftSide, merged, rightSide).mapN { (_, merged, right) =>
+        aSections.left ++ merged ++ right
+      }
+
+      result match {
+        case Stop                 => state.partialResult
+        case CurrentLast(current) => current
+        case Continue(value)      => merge(state.copy(overlap = state.overlap + 1, partialResult = value))
+      }
+    }
+
+  /** Divides a set of columns into 3 sections with cuts in 2 points */
+  private def splitSections(aPoint: Int, bPoint: Int, figure: Columns): Sections =
+    figure
+      .zipWithIndex
+      .foldLeft(Sections(Vector.empty[String], Vector.empty[String], Vector.empty[String])) {
+        case (store, (column, i)) =>
+          if (i < aPoint)
+            store.copy(left = store.left :+ column)
+          else if (i >= bPoint)
+            store.copy(right = store.right :+ column)
+          else
+            store.copy(overlap = store.overlap :+ column)
+      }
+
+  /** Merges the two overlapping sections of two characters */
+  private def mergeOverlappingSections(state: MergeState, aSection: Columns, bSection: Columns): MergeAction[Columns] =
+    (aSection zip bSection)
+      .traverse {
+        case (aActiveColumn, bActiveColumn) =>
+          (aActiveColumn zip bActiveColumn)
+            .toVector
+            .traverse(mergeStrategy(state).tupled)
+            .map(_.mkString)
+      }
+
+  /** Merges a character on the left border */
+  private def mergeOnLeftBorder(state: MergeState, section: Columns): MergeAction[Unit] =
+    section
+      .traverse {
+        _.toVector.traverse {
+          case ' ' => mergeStrategy(state)(options.font.header.hardblank, ' ')
+          case _   => Stop
+        }
+      }.map(_ => ())
+
+}
+
+object ReferenceRendering {
+
+  /**
+   * Renders a String into a FIGure for a given FIGfont and options using the reference algorithm
+   *
+   * @param text    The String to render as a FIGure
+   * @param options The RenderOptions used to render the text
+   * @return A FIGure containing the rendered text following the rendering options
+   */
+  def render(text: String, options: RenderOptions): FIGure =
+    new ReferenceRendering(options).render(text)
+
+  //  ----  //
+
+  /** Status of the append loop */
+  final case class AppendLoopState(lastCharWidth: Int = 0)
+
+  /** Status of the merge loop */
+  final case class MergeLoopState(
+      a: Columns = Vector.empty,
+      b: Columns = Vector.empty,
+      overlap: Int = 0,
+      partialResult: Columns = Vector.empty,
+      appendLoopState: AppendLoopState = AppendLoopState(),
+  )
+
+  /** Represents the three sections of a set of columns */
+  final case class Sections(left: Columns, overlap: Columns, right: Columns)
+
+  /** Shortcut for a set of columns */
+  type Columns = Vector[String]
+
+}
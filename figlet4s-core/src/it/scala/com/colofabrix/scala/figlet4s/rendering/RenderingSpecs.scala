@@ -0,0 +1,162 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.testutils._
+import com.colofabrix.scala.figlet4s.unsafe._
+import org.scalacheck._
+import org.scalactic.anyvals._
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+import org.scalatestplus.scalacheck._
+
+class RenderingSpecs extends AnyFlatSpec with Matchers with Figlet4sMatchers with ScalaCheckDrivenPropertyChecks {
+
+  implicit override val generatorDrivenConfig: PropertyCheckConfiguration =
+    PropertyCheckConfiguration(minSuccessful = PosInt(200))
+
+  "Rendering" should "render the same FIGures as the reference algorithm" in {
+    forAll(renderOptionsGen(LineBreaking.Characters), renderTextGen) { (options, text) =>
+      val computed = Rendering.render(text, options)
+      val expected = ReferenceRendering.render(text, options)
+      computed should lookLike(expected)
+    }
+  }
+
+  it should "measure the same size of the rendered FIGure" in {
+    forAll(renderOptionsGen(LineBreaking.values: _*), renderTextGen) { (options, text) =>
+      val figure   = Rendering.render(text, options)
+      val computed = Rendering.measure(text, options)
+      computed shouldBe FIGureSize(figure.width, figure.columns.map(_.height).sum, figure.columns.size)
+    }
+  }
+
+  it should "render the empty string as a single empty line" in {
+    val options  = Figlet4s.builder().options
+    val computed = Rendering.render("", options)
+    computed.columns shouldBe Vector(SubColumns(Vector.empty))
+  }
+
+  it should "wrap the text on multiple lines when exceeding the maximum width" in {
+    val options  = Figlet4s.builder().withMaxWidth(30).options
+    val computed = Rendering.render("Hello, World!", options)
+    val expected = ReferenceRendering.render("Hello, World!", options)
+    computed.columns.length should be > 1
+    computed should lookLike(expected)
+  }
+
+  it should "wrap the text at the boundaries of the words when breaking the lines at words" in {
+    val options  = Figlet4s.builder().withMaxWidth(40).withLineBreaking(LineBreaking.Words).options
+    val computed = Rendering.render("Hello   World", options)
+    val expected = Rendering.render("Hello", options).cleanLines ++ Rendering.render("World", options).cleanLines
+    computed.cleanLines shouldBe expected
+  }
+
+  it should "justify each line within the maximum width when breaking the lines at words" in {
+    val builder = Figlet4s.builder().withMaxWidth(40).withLineBreaking(LineBreaking.Words)
+    val left    = Rendering.render("Hi", builder.options).cleanLines.flatMap(_.value)
+    val right   = Rendering.render("Hi", builder.withJustification(Justification.FlushRight).options)
+    val center  = Rendering.render("Hi", builder.withJustification(Justification.Center).options)
+    right.cleanLines.flatMap(_.value) shouldBe left.map(row => " " * (40 - row.length) + row)
+    center.cleanLines.flatMap(_.value) shouldBe left.map(row => " " * ((40 - row.length) / 2) + row)
+  }
+
+  it should "not justify the lines when breaking them at the FIGcharacters" in {
+    val builder  = Figlet4s.builder().withMaxWidth(40).withPrintDirection(PrintDirection.RightToLeft)
+    val expected = Rendering.render("Hi", builder.options)
+    val computed = Rendering.render("Hi", builder.withJustification(Justification.Center).options)
+    expected.width should be < 40
+    computed.columns shouldBe expected.columns
+  }
+
+  it should "render a character outside of the Basic Multilingual Plane as a single FIGcharacter" in {
+    val options  = withCodePoint(Figlet4s.builder().options, 0x1f600, 'A')
+    val computed = Rendering.render("x\ud83d\ude00x", options)
+    val expected = Rendering.render("xAx", options)
+    computed.columns shouldBe expected.columns
+  }
+
+  it should "render a surrogate pair split between the pieces of an incremental rendering" in {
+    val options     = withCodePoint(Figlet4s.builder().options, 0x1f600, 'A')
+    val incremental = Rendering.compile(options).incremental()
+    val computed    = (incremental.append("x\ud83d") ++ incremental.append("\ude00x")).toVector :+ incremental.finish()
+    val expected    = Rendering.render("xAx", options)
+    computed.flatten shouldBe expected.cleanLines.flatMap(_.value)
+  }
+
+  it should "append text to a FIGure as if the concatenation of the texts was rendered" in {
+    forAll(renderOptionsGen(LineBreaking.values: _*), Gen.listOf(renderTextGen)) { (options, pieces) =>
+      val rendering = Rendering.compile(options)
+      val computed  = pieces.foldLeft(rendering.render(""))(rendering.append)
+      val expected  = rendering.render(pieces.mkString)
+      computed.value shouldBe expected.value
+      computed.columns shouldBe expected.columns
+    }
+  }
+
+  it should "append different texts to the same FIGure without changing it" in {
+    val options   = Figlet4s.builder().withMaxWidth(60).options
+    val rendering = Rendering.compile(options)
+    val figure    = rendering.render("Hello ")
+    val before    = figure.columns
+    rendering.append(figure, "World").columns shouldBe rendering.render("Hello World").columns
+    rendering.append(figure, "there").columns shouldBe rendering.render("Hello there").columns
+    figure.columns shouldBe before
+  }
+
+  it should "append text to a FIGure rendered before many others by rendering it again" in {
+    val options   = Figlet4s.builder().withMaxWidth(60).options
+    val rendering = Rendering.compile(options)
+    val figures   = (1 to 200).map(i => rendering.render(s"Hello $i "))
+    figures.zipWithIndex.foreach { case (figure, i) =>
+      rendering.append(figure, "World").columns shouldBe rendering.render(s"Hello ${i + 1} World").columns
+    }
+  }
+
+  it should "append text to a FIGure rendered with different options by rendering it again" in {
+    val options  = Figlet4s.builder().withMaxWidth(60).options
+    val figure   = Rendering.render("Hello ", Figlet4s.builder().withInternalFont("banner").options)
+    val rendering = Rendering.compile(options)
+    rendering.append(figure, "World").columns shouldBe Rendering.render("Hello World", options).columns
+    rendering.append(figure, "there").columns shouldBe Rendering.render("Hello there", options).columns
+  }
+
+  it should "render a surrogate pair split between two appended texts" in {
+    val options   = withCodePoint(Figlet4s.builder().options, 0x1f600, 'A')
+    val rendering = Rendering.compile(options)
+    val first     = rendering.render("x\ud83d")
+    val computed  = rendering.append(first, "\ude00x")
+    first.columns shouldBe rendering.render("x\ud83d").columns
+    computed.columns shouldBe rendering.render("xAx").columns
+  }
+
+  //  Support  //
+
+  private def withCodePoint(options: RenderOptions, codePoint: Int, like: Char): RenderOptions = {
+    val font = options.font
+    val char  = font(like).copy(name = codePoint.toChar)
+    val table = FIGcharacterTable(font.table.codePoints.toVector :+ (codePoint -> char))
+    options.copy(font = font.copy(characters = table))
+  }
+
+  private def renderOptionsGen(lineBreakings: LineBreaking*): Gen[RenderOptions] =
+    for {
+      fontName      <- Gen.oneOf(Figlet4s.internalFonts)
+      layout        <- Gen.oneOf(HorizontalLayout.values)
+      maxWidth      <- Gen.oneOf(Gen.const(Int.MaxValue), Gen.choose(1, 120))
+      justification <- Gen.oneOf(Justification.values)
+      lineBreaking  <- Gen.oneOf(lineBreakings)
+    } yield Figlet4s
+      .builder()
+      .withInternalFont(fontName)
+      .withHorizontalLayout(layout)
+      .withMaxWidth(maxWidth)
+      .withJustification(justification)
+      .withLineBreaking(lineBreaking)
+      .options
+
+  private def renderTextGen: Gen[String] =
+    Gen.listOf(Gen.frequency(10 -> Gen.choose(32, 126).map(_.toChar), 1 -> Gen.const(' '))).map(_.mkString)
+
+}
@@ -1,6 +1,9 @@
 package com.colofabrix.scala.figlet4s.unsafe
 
 import com.colofabrix.scala.figlet4s.StandardTestData._
+import com.colofabrix.scala.figlet4s.figfont._
+import java.io.StringWriter
+import java.nio.CharBuffer
 import org.scalatest.flatspec._
 import org.scalatest.matchers.should._
 
@@ -26,4 +29,45 @@ class UnsafeFIGureSpecs extends AnyFlatSpec with Matchers {
     computed should equal(expected)
   }
 
+  it should "write the same data as asString() to a Writer" in {
+    val figure = standardBuilder.render(standardInput)
+    val writer = new StringWriter()
+    figure.writeTo(writer)
+    writer.toString should equal(figure.asString())
+  }
+
+  it should "write the same data as asString() to a CharBuffer" in {
+    val figure = standardBuilder.render(standardInput)
+    val buffer = CharBuffer.allocate(4096)
+    figure.writeTo(buffer)
+    buffer.flip().toString should equal(figure.asString())
+  }
+
+  it should "write the same data as asString() to a StringBuilder" in {
+    val figure  = standardBuilder.withMaxWidth(30).render(standardInput)
+    val builder = new java.lang.StringBuilder()
+    figure.writeTo(builder)
+    builder.toString should equal(figure.asString())
+  }
+
+  it should "write the same data as asString() to any Appendable" in {
+    val figure = standardBuilder.withMaxWidth(30).render(standardInput)
+    val stream = new java.io.ByteArrayOutputStream()
+    val output = new java.io.PrintStream(stream)
+    figure.writeTo(output)
+    output.flush()
+    stream.toString() should equal(figure.asString())
+  }
+
+  it should "contain the character of the FIGcharacter it's created from" in {
+    val font = standardBuilder.options.font
+    FIGure(font('A'), font).value should equal("A")
+    FIGure('A', font).value should equal("A")
+  }
+
+  it should "contain the null character when it's created empty" in {
+    val font = standardBuilder.options.font
+    FIGure(font).value should equal("\u0000")
+  }
+
 }
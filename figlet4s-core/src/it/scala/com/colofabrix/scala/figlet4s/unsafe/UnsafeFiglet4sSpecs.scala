@@ -8,8 +8,13 @@ import com.colofabrix.scala.figlet4s.errors._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.StandardTestData._
 import com.colofabrix.scala.figlet4s.testutils._
+import java.io.File
+import java.nio.channels.FileChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file._
 import org.scalatest.flatspec._
 import org.scalatest.matchers.should._
+import scala.concurrent.ExecutionContext
 import scala.util._
 import scala.util.matching.Regex
 
@@ -42,6 +47,31 @@ class UnsafeFiglet4sSpecs extends AnyFlatSpec with Matchers with Figlet4sMatcher
     }
   }
 
+  it should "measure a text with the size of its FIGure" in {
+    val computed = standardBuilder.withMaxWidth(40).measure(standardInput)
+    val expected = standardBuilder.withMaxWidth(40).render(standardInput)
+    computed shouldBe FIGureSize(expected.width, expected.cleanLines.map(_.value.size).sum, expected.columns.size)
+  }
+
+  it should "find the first font that renders a text within a width" in {
+    val options = standardBuilder.withMaxWidth(Int.MaxValue).options
+    val fonts   = Vector("banner3", "big", "small", "mini").map(Figlet4s.loadFontInternal)
+    val width   = Figlet4s.renderString(standardInput, options.copy(font = fonts(2))).width
+
+    Figlet4s.fittingFont(standardInput, options, fonts, width).map(_.name) shouldBe Some("small")
+    Figlet4s.fittingFont(standardInput, options, fonts, 0) shouldBe None
+  }
+
+  it should "find the first font that renders a text within a width without breaking its lines" in {
+    val options  = Figlet4s.builder().options
+    val fonts    = Vector("banner3", "big", "small", "mini").map(Figlet4s.loadFontInternal)
+    val computed = Figlet4s.fittingFont("Hello, World!", options, fonts, 100)
+
+    computed.map(_.name) shouldBe Some("big")
+    computed.map(font => Figlet4s.measureString("Hello, World!", options.copy(font = font, maxWidth = 100)).lines) shouldBe
+      Some(1)
+  }
+
   //  Internal fonts  //
 
   "Internal Fonts API" should "return the list of internal fonts containing at least the \"standard\" font" in {
@@ -102,6 +132,21 @@ class UnsafeFiglet4sSpecs extends AnyFlatSpec with Matchers with Figlet4sMatcher
     actual should contain theSameElementsInOrderAs expected
   }
 
+  it should "describe all the internal fonts" in {
+    val actual   = Figlet4s.internalFontsMetadata.map(_.name)
+    val expected = Figlet4s.internalFonts
+    actual should contain theSameElementsAs expected
+  }
+
+  it should "describe an internal font with the same values of the loaded font" in {
+    val metadata = Figlet4s.internalFontsMetadata.find(_.name == Figlet4sClient.defaultFont)
+    val font     = Figlet4s.loadFontInternal(Figlet4sClient.defaultFont)
+
+    metadata.map(_.id) shouldBe Some(font.id)
+    metadata.map(_.header) shouldBe Some(font.header)
+    metadata.map(_.settings) shouldBe Some(font.settings)
+  }
+
   it should "load all internal fonts successfully" in {
     val loadingErrors =
       for {
@@ -127,6 +172,18 @@ class UnsafeFiglet4sSpecs extends AnyFlatSpec with Matchers with Figlet4sMatcher
     test.unsafeRunSync()
   }
 
+  it should "preload internal fonts in parallel into the font cache" in {
+    implicit val ec: scala.concurrent.ExecutionContext = scala.concurrent.ExecutionContext.global
+    val fonts    = Figlet4s.internalFonts.take(10)
+    val computed = Figlet4s.preloadFontsInternal(fonts, warmUp = true)
+    val before   = Figlet4s.fontCacheStats
+    fonts.foreach(Figlet4s.loadFontInternal(_))
+    val after = Figlet4s.fontCacheStats
+
+    computed.map(_.name) should contain theSameElementsInOrderAs fonts
+    after.hits - before.hits shouldBe fonts.length.toLong
+  }
+
   it should "throw a FigletLoadingError when trying to load a font that doesn't exist" in {
     assertThrows[FigletLoadingError] {
       Figlet4s.loadFontInternal("non_existent")
@@ -158,6 +215,85 @@ class UnsafeFiglet4sSpecs extends AnyFlatSpec with Matchers with Figlet4sMatcher
     caught.getMessage() shouldBe "Cannot read font file from ZIP"
   }
 
+  it should "index the fonts of a directory" in {
+    val directory = new File(getClass.getResource("/raw.flf").getPath).getParent
+    val catalog   = Figlet4s.indexFonts(directory)(ExecutionContext.global)
+
+    catalog.names shouldBe Vector("compressed", "multiple", "raw")
+    catalog.invalid shouldBe Vector(new File(directory, "empty.flf").getPath)
+    catalog.entries.foreach { entry =>
+      Figlet4s.loadFont(entry).id shouldBe entry.id
+    }
+  }
+
+  it should "load every font of a ZIP archive of a catalog" in {
+    val directory = Files.createTempDirectory("figlet4s")
+    val _         = Files.copy(Paths.get(getClass.getResource("/multiple.flf").toURI), directory.resolve("multiple.zip"))
+    val catalog   = Figlet4s.indexFonts(directory.toString)(ExecutionContext.global)
+
+    catalog.names shouldBe Vector("multiple/alligator", "multiple/standard")
+    catalog.entries.foreach { entry =>
+      Figlet4s.loadFont(entry).id shouldBe entry.id
+    }
+  }
+
+  it should "save and read a catalog of fonts" in {
+    val directory = new File(getClass.getResource("/raw.flf").getPath).getParent
+    val catalog   = Figlet4s.indexFonts(directory)(ExecutionContext.global)
+    val path      = Files.createTempFile("figlet4s", ".tsv").toString
+
+    Figlet4s.writeFontCatalog(catalog, path)
+    Figlet4s.readFontCatalog(path).entries shouldBe catalog.entries
+  }
+
+  it should "load every font of a ZIP archive at once" in {
+    val fontPath = Paths.get(getClass.getResource("/multiple.flf").toURI)
+    val fonts    = Figlet4s.loadFontsFrom(FontSource.FromPath(fontPath))
+
+    fonts.map(_.name) shouldBe Vector("standard", "alligator")
+    fonts.head.id shouldBe Figlet4s.loadFont(fontPath.toString).id
+  }
+
+  it should "load the same font from a path, a mapped buffer and a stream" in {
+    val fontPath = Paths.get(getClass.getResource("/compressed.flf").toURI)
+    val expected = Figlet4s.loadFont(fontPath.toString)
+
+    val channel = FileChannel.open(fontPath)
+    val mapped  = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size)
+    val stream  = Files.newInputStream(fontPath)
+    try {
+      Figlet4s.loadFontFrom(FontSource.FromBuffer(mapped, "compressed.flf")).id shouldBe expected.id
+      Figlet4s.loadFontFrom(FontSource.FromStream(stream, "compressed.flf")).id shouldBe expected.id
+    } finally {
+      stream.close()
+      channel.close()
+    }
+  }
+
+  it should "load a font from a file of any file system" in {
+    val archive    = Paths.get(getClass.getResource("/multiple.flf").toURI)
+    val fileSystem = FileSystems.newFileSystem(archive, getClass.getClassLoader)
+    try {
+      val font = Figlet4s.loadFontFrom(FontSource.FromPath(fileSystem.getPath("alligator.flf")))
+      font.name shouldBe "alligator"
+    } finally {
+      fileSystem.close()
+    }
+  }
+
+  it should "fail to load a font file with a FIGcharacter that is not valid" in {
+    assertThrows[FigletException] {
+      Figlet4s.loadFont(invalidCharacterFont)
+    }
+  }
+
+  it should "render a FIGcharacter that is not valid as missing when the font file is loaded lazily" in {
+    val font = Figlet4s.builder().withLazyFont(invalidCharacterFont).options.font
+    font.characters.get('!') shouldBe None
+    font('!') shouldBe font.zero
+    font('a').lines shouldBe Figlet4s.loadFontInternal("standard")('a').lines
+  }
+
   //  Fonts  //
 
   "Fonts API" should "read a font from the file system" in {
@@ -173,6 +309,48 @@ class UnsafeFiglet4sSpecs extends AnyFlatSpec with Matchers with Figlet4sMatcher
     }
   }
 
+  //  Font cache  //
+
+  "Font cache API" should "serve fonts loaded more than once from the cache" in {
+    val first  = Figlet4s.loadFontInternal("small")
+    val before = Figlet4s.fontCacheStats
+    val second = Figlet4s.loadFontInternal("small")
+    val after  = Figlet4s.fontCacheStats
+
+    second should be theSameInstanceAs first
+    after.hits should be > before.hits
+  }
+
+  it should "throw a FigletError when resized to a negative size" in {
+    assertThrows[FigletError] {
+      Figlet4s.resizeFontCache(-1)
+    }
+  }
+
+  //  Render cache  //
+
+  "Render cache API" should "serve texts rendered more than once from the cache when enabled" in {
+    Figlet4s.resizeRenderCache(100000)
+    try {
+      val options = standardBuilder.options
+      val first   = Figlet4s.renderString("Cached", options)
+      val before  = Figlet4s.renderCacheStats
+      val second  = Figlet4s.renderString("Cached", options)
+      val after   = Figlet4s.renderCacheStats
+
+      second should be theSameInstanceAs first
+      after.hits should be > before.hits
+    } finally {
+      Figlet4s.resizeRenderCache(0)
+    }
+  }
+
+  it should "throw a FigletError when resized to a negative weight" in {
+    assertThrows[FigletError] {
+      Figlet4s.resizeRenderCache(-1)
+    }
+  }
+
   //  Builder  //
 
   "Builder API" should "create a builder" in {
@@ -181,19 +359,9 @@ class UnsafeFiglet4sSpecs extends AnyFlatSpec with Matchers with Figlet4sMatcher
 
   //  Support  //
 
-  private lazy val (startPathRegex: Regex, pathSeparator: String) =
-    LibraryLocation.discover[cats.Id] match {
-      case LibraryLocation.Jar(_) =>
-        // NOTE: I do not know how I can ever test this section if not by publishing locally
-        val regex     = "^([^/]+/|)[^/]+$".r
-        val separator = "/"
-        (regex, separator)
-      case LibraryLocation.FileSystem(_, separator) =>
-        val regex = ("^([^\\" + separator + "]+\\" + separator + "|)[^\\" + separator + "]+$").r
-        (regex, separator)
-      case LibraryLocation.Unknown =>
-        fail("Could not detect the correct location of the current code")
-    }
+  // The names of the internal fonts read from the manifest use "/" to separate the subdirectories on every system
+  private lazy val startPathRegex: Regex = "^([^/]+/|)[^/]+$".r
+  private lazy val pathSeparator: String = "/"
 
   private lazy val fontsSubdirectories: Map[String, Int] =
     Map(
@@ -201,6 +369,16 @@ class UnsafeFiglet4sSpecs extends AnyFlatSpec with Matchers with Figlet4sMatcher
       "c64"      -> 186,
     )
 
+  // The standard font with the end mark of the last line of the "!" FIGcharacter removed
+  private lazy val invalidCharacterFont: String = {
+    val cwd   = System.getProperty("user.dir")
+    val font  = Paths.get(s"$cwd/figlet4s-core/src/main/resources/fonts/standard.flf")
+    val lines = Files.readAllLines(font, StandardCharsets.ISO_8859_1)
+    val _     = lines.set(23, lines.get(23).replace("@@", ""))
+    val path  = Files.createTempFile("figlet4s", ".flf")
+    Files.write(path, lines, StandardCharsets.ISO_8859_1).toString
+  }
+
   private def interpretResult(font: String): PartialFunction[Try[_], Option[String]] = {
     case Failure(fe @ FigletException(message)) =>
       Some(s"${fe.getClass.getSimpleName} on $font: $message")
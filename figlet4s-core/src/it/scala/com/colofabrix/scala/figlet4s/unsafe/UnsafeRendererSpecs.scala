@@ -0,0 +1,53 @@
+package com.colofabrix.scala.figlet4s.unsafe
+
+import com.colofabrix.scala.figlet4s.StandardTestData._
+import java.util.concurrent.Executors
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+import scala.concurrent.ExecutionContext
+
+class UnsafeRendererSpecs extends AnyFlatSpec with Matchers {
+
+  private val texts: Seq[String] = (1 to 100).map(i => s"$standardInput $i")
+
+  "Renderer" should "render the same FIGure as renderString()" in {
+    val options  = standardBuilder.options
+    val renderer = Figlet4s.renderer(options)
+    renderer.render(standardInput) should equal(Figlet4s.renderString(standardInput, options))
+  }
+
+  it should "use the options of the builder that created it" in {
+    val builder  = standardBuilder.withMaxWidth(30)
+    val renderer = builder.renderer()
+    renderer.options should equal(builder.options)
+    renderer.render(standardInput) should equal(builder.render(standardInput))
+  }
+
+  it should "append a text to a FIGure as if the concatenation of the texts was rendered" in {
+    val renderer = standardBuilder.withMaxWidth(80).renderer()
+    val computed = texts.take(5).foldLeft(renderer.render(""))(renderer.append)
+    computed should equal(renderer.render(texts.take(5).mkString))
+  }
+
+  it should "render all the texts of a collection in order" in {
+    val renderer = standardBuilder.renderer()
+    renderer.renderAll(texts) should equal(texts.map(renderer.render))
+  }
+
+  it should "render all the texts of an Iterator in order" in {
+    val renderer = standardBuilder.renderer()
+    renderer.renderAll(texts.iterator).toVector should equal(texts.map(renderer.render))
+  }
+
+  it should "render all the texts in parallel in order" in {
+    val executor = Executors.newFixedThreadPool(4)
+    try {
+      implicit val ec: ExecutionContext = ExecutionContext.fromExecutor(executor)
+      val renderer                      = standardBuilder.renderer()
+      renderer.renderAllPar(texts) should equal(texts.map(renderer.render))
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+}
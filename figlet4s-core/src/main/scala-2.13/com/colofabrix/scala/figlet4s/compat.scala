@@ -2,9 +2,6 @@ package com.colofabrix.scala.figlet4s
 
 import cats.implicits._
 import com.colofabrix.scala.figlet4s.errors._
-import java.math.BigInteger
-import java.nio.charset.Charset
-import java.security.MessageDigest
 import scala.collection.immutable.BitSet
 import scala.util._
 import scala.util.matching.Regex
@@ -32,21 +29,6 @@ private[figlet4s] object compat {
     def toBitSet: BitSet = BitSet.fromBitMask(Array(self.toLong))
   }
 
-  /**
-   * Enrichment methods for String to calculate the MD5 hash
-   */
-  implicit final class MD5String(private val self: String) extends AnyVal {
-    /**
-     * MD5 hash of the string
-     */
-    def md5: String = {
-      val md     = MessageDigest.getInstance("MD5")
-      val digest = md.digest(self.getBytes(Charset.forName("ISO-8859-1")))
-      val bigInt = new BigInteger(1, digest)
-      bigInt.toString(16)
-    }
-  }
-
   /**
    * Enrichment methods for StringContext
    */
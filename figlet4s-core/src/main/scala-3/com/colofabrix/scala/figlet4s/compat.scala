@@ -3,9 +3,6 @@ package com.colofabrix.scala.figlet4s
 import cats.data.*
 import cats.implicits.*
 import com.colofabrix.scala.figlet4s.errors.*
-import java.math.BigInteger
-import java.nio.charset.Charset
-import java.security.MessageDigest
 import scala.collection.immutable.BitSet
 import scala.util.*
 import scala.util.matching.Regex
@@ -35,20 +32,6 @@ private[figlet4s] object compat {
 
   }
 
-  extension (self: String) {
-
-    /**
-     * MD5 hash of the string
-     */
-    def md5: String = {
-      val md     = MessageDigest.getInstance("MD5")
-      val digest = md.digest(self.getBytes(Charset.forName("ISO-8859-1")))
-      val bigInt = new BigInteger(1, digest)
-      bigInt.toString(16)
-    }
-
-  }
-
   extension (sc: StringContext) {
 
     def r: Regex = new Regex(sc.parts.mkString, sc.parts.drop(1).map(_ => "x")*)
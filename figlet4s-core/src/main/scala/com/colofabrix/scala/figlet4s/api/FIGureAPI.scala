@@ -19,6 +19,17 @@ trait FIGureAPI[F[_]] {
    */
   def print(): F[Unit]
 
+  /**
+   * Writes the FIGure one displayable line at a time, without building the lines or the String of the whole FIGure
+   *
+   * The output is the same as [[asString]]. Any [[java.lang.Appendable Appendable]] is accepted, like a
+   * [[java.io.Writer Writer]], a [[java.lang.StringBuilder StringBuilder]] or a [[java.nio.CharBuffer CharBuffer]], and
+   * it's not flushed nor closed at the end.
+   *
+   * @param out The destination of the lines of the FIGure
+   */
+  def writeTo(out: Appendable): F[Unit]
+
   /**
    * The figure as a collection of String, one String per displayable line
    *
@@ -54,6 +65,17 @@ trait FIGureEffectfulAPI[F[_]] {
    */
   def print(): F[Unit]
 
+  /**
+   * Writes the FIGure one displayable line at a time, without building the lines or the String of the whole FIGure
+   *
+   * The output is the same as [[asStringF]]. Any [[java.lang.Appendable Appendable]] is accepted, like a
+   * [[java.io.Writer Writer]], a [[java.lang.StringBuilder StringBuilder]] or a [[java.nio.CharBuffer CharBuffer]], and
+   * it's not flushed nor closed at the end.
+   *
+   * @param out The destination of the lines of the FIGure
+   */
+  def writeTo(out: Appendable): F[Unit]
+
   /**
    * The figure as a collection of String, one String per displayable line
    *
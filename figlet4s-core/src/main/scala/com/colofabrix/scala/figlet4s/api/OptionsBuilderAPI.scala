@@ -2,6 +2,7 @@ package com.colofabrix.scala.figlet4s.api
 
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
 
 /**
  * Common interface of all implementations of option builders
@@ -39,4 +40,26 @@ trait OptionsBuilderAPI[F[_]] {
    */
   def render(text: String): F[FIGure]
 
+  /**
+   * Builds the options and then computes the size of the FIGure of the text, without building the FIGure
+   *
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measure(): F[FIGureSize]
+
+  /**
+   * Builds the options and then computes the size of the FIGure of the text, without building the FIGure
+   *
+   * @param text The text to measure
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measure(text: String): F[FIGureSize]
+
+  /**
+   * Builds the options and then creates a renderer that renders any number of texts with them
+   *
+   * @return A Renderer that uses the RenderOptions resulting from building the internal state
+   */
+  def renderer(): F[Renderer]
+
 }
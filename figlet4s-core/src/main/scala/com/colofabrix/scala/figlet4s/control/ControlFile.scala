@@ -3,72 +3,189 @@ package com.colofabrix.scala.figlet4s.control
 import cats.implicits._
 import com.colofabrix.scala.figlet4s.control.ControlFileCommand._
 import com.colofabrix.scala.figlet4s.errors._
+import java.util.Locale
+import scala.util.matching.Regex
 
 /**
  * A FIGfont control file is a separate text file, associated with one or more FIGfonts, that indicates how to map
  * input characters into FIGfont character codes.
+ *
+ * The commands of each section, separated in the file by "f" commands, are a stage of the translation: a character is
+ * translated by the first command of a stage that matches it, and the result is passed to the following stage. The
+ * extended commands describe how to decode the bytes of the input and, as the text is already decoded when rendered,
+ * they are recorded but they don't affect the rendering.
+ *
+ * @param sections The "t" commands of each stage of the translation
+ * @param extended The extended commands
  */
 final case class ControlFile(
     sections: Seq[Seq[ControlFileCommand]] = Vector.empty,
     extended: Seq[ControlFileCommand] = Vector.empty,
-)
+) {
+
+  /** The translation of the stages of this ControlFile, compiled when it's created */
+  private[figlet4s] val stages: Vector[TranslationStage] =
+    sections
+      .map(_.collect { case t: TCommand => t })
+      .map(TranslationStage(_))
+      .toVector
+
+}
 
 object ControlFile {
 
   /**
    * Creates a new ControlFile by parsing an input collection of lines representing an FLC file
    *
+   * The blanks at the beginning of the lines are ignored, while the ones at the end are kept as they can be part of the
+   * last character of a command, like an escaped space.
+   *
    * @param lines An Iterable that contains all the lines representing an FLC file that defines the ControlFile
    * @return A [[com.colofabrix.scala.figlet4s.errors.FigletResult FigletResult]] containing the new ControlFile or a
    *         list of errors occurred during the creation
    */
   def apply(lines: Iterator[String]): FigletResult[ControlFile] =
     lines
-      .map(_.trim())
-      .filterNot(line => line.isEmpty || line.startsWith("#") || line.startsWith("flc2a"))
-      .foldLeft(ControlFile().validNec[FigletException])(processLine)
+      .map(_.dropWhile(_ <= ' '))
+      .zipWithIndex
+      .filterNot { case (line, _) => line.trim.isEmpty || line.startsWith("#") || line.startsWith("flc2a") }
+      .foldLeft(ParseState(Vector.empty, Vector.empty).validNec[FigletException]) { case (stateV, (line, index)) =>
+        processLine(stateV, line, index)
+      }
+      .map(state => ControlFile(state.sections, state.extended))
 
   //  Support  //
 
-  private def processLine(stateV: FigletResult[ControlFile], line: String): FigletResult[ControlFile] =
+  /** The commands parsed so far, turned into a ControlFile only at the end so that its stages are compiled once */
+  final private case class ParseState(sections: Vector[Seq[ControlFileCommand]], extended: Vector[ControlFileCommand])
+
+  /** Escapes of a character in a "t" command that are not numeric codes */
+  private val escapes: Map[Char, Int] =
+    Map('a' -> 7, 'b' -> 8, 'e' -> 27, 'f' -> 12, 'n' -> 10, 'r' -> 13, 't' -> 9, 'v' -> 11)
+
+  /** A numeric code, that can be hexadecimal, octal or decimal */
+  private val numberRegex: Regex =
+    """^(-?)(?:0[xX]([0-9a-fA-F]+)|(0[0-7]*)|([1-9][0-9]*))""".r
+
+  private def processLine(stateV: FigletResult[ParseState], line: String, index: Int): FigletResult[ParseState] =
     stateV.andThen { state =>
       line.charAt(0) match {
-        case 't' => parseTLine(line).andThen(appendCommands(state))
+        case 't' => parseTLine(line, index).andThen(appendCommands(state))
         case 'f' => addSection(state)
         case 'h' => appendExtendedCommand(state)(HCommand)
         case 'j' => appendExtendedCommand(state)(JCommand)
         case 'b' => appendExtendedCommand(state)(BCommand)
         case 'u' => appendExtendedCommand(state)(UCommand)
-        case 'g' => parseGLine(line).andThen(appendExtendedCommand(state))
-        case _   => parseUnknownLine(line).andThen(appendCommands(state))
+        case 'g' => parseGLine(line, index).andThen(appendExtendedCommand(state))
+        case _   => parseUnknownLine(line, index).andThen(appendCommands(state))
+      }
+    }
+
+  /** Parses a line "t inchar outchar" or "t inchar1-inchar2 outchar1-outchar2" */
+  private def parseTLine(line: String, index: Int): FigletResult[Seq[ControlFileCommand]] = {
+    val command =
+      for {
+        (inchar1, inchar2, inEnd) <- readRange(line, skipBlanks(line, 1))
+        (outchar1, outchar2, _)   <- readRange(line, skipBlanks(line, inEnd))
+      } yield (TCommand(inchar1, inchar2, outchar1), outchar2)
+
+    command match {
+      case Some((t, outchar2)) if t.inchar1 > t.inchar2 || (outchar2 =!= t.outchar1 && outchar2 =!= t.outchar2) =>
+        ControlFileError(s"The ranges of the command at line ${index + 1} are not of the same size: $line").invalidNec
+      case Some((t, _)) =>
+        Vector(t).validNec
+      case None =>
+        ControlFileError(s"Couldn't parse the command at line ${index + 1}: $line").invalidNec
+    }
+  }
+
+  /** Parses a line "g{0|1|2|3} {94|96|94x94} [char]" or "g{L|R} {0|1|2|3}", keeping only the character set */
+  private def parseGLine(line: String, index: Int): FigletResult[ExtendedControlFileCommand] =
+    line
+      .drop(1)
+      .find(_.isDigit)
+      .map(set => GCommand(set.asDigit))
+      .toValidNec(ControlFileError(s"Missing character set in the command at line ${index + 1}: $line"))
+
+  /** Parses a line "number number" while any other line is ignored, as FIGdrivers do */
+  private def parseUnknownLine(line: String, index: Int): FigletResult[Seq[ControlFileCommand]] =
+    if (line.charAt(0).isDigit || line.charAt(0) === '-') {
+      val command =
+        for {
+          (inchar, inEnd) <- readNumber(line, 0)
+          (outchar, _)    <- readNumber(line, skipBlanks(line, inEnd))
+        } yield TCommand(inchar, outchar)
+
+      command
+        .map(t => Vector(t): Seq[ControlFileCommand])
+        .toValidNec(ControlFileError(s"Couldn't parse the command at line ${index + 1}: $line"))
+    } else {
+      Vector.empty[ControlFileCommand].validNec
+    }
+
+  /** Reads a range of characters "char1-char2" or a single character, returning its first and last character */
+  private def readRange(line: String, position: Int): Option[(Int, Int, Int)] =
+    readChar(line, position).flatMap { case (first, end) =>
+      if (end < line.length && line.charAt(end) === '-')
+        readChar(line, end + 1).map { case (last, rangeEnd) => (first, last, rangeEnd) }
+      else
+        Some((first, first, end))
+    }
+
+  /** Reads a character, either as itself or as an escape sequence starting with a backslash */
+  private def readChar(line: String, position: Int): Option[(Int, Int)] =
+    if (position >= line.length) {
+      None
+    } else if (line.charAt(position) =!= '\\') {
+      val codePoint = line.codePointAt(position)
+      Some((codePoint, position + Character.charCount(codePoint)))
+    } else if (position + 1 >= line.length) {
+      None
+    } else {
+      val escaped = line.charAt(position + 1)
+      if (escaped.isDigit || escaped === '-') {
+        readNumber(line, position + 1)
+      } else {
+        val codePoint = line.codePointAt(position + 1)
+        Some((escapes.getOrElse(escaped, codePoint), position + 1 + Character.charCount(codePoint)))
       }
     }
 
-  private def parseTLine(line: String): FigletResult[Seq[ControlFileCommand]] =
-    ???
+  /** Reads a numeric code that fits in an Int */
+  private def readNumber(line: String, position: Int): Option[(Int, Int)] =
+    numberRegex.findPrefixMatchOf(line.substring(position)).flatMap { m =>
+      val (digits, radix) =
+        Option(m.group(2))
+          .map(_ -> 16)
+          .orElse(Option(m.group(4)).map(_ -> 10))
+          .getOrElse(m.group(3) -> 8)
 
-  private def parseGLine(line: String): FigletResult[ExtendedControlFileCommand] =
-    ???
+      val value = BigInt(m.group(1) + digits.toLowerCase(Locale.ROOT), radix)
+      if (value.isValidInt) Some((value.toInt, position + m.end)) else None
+    }
 
-  private def parseUnknownLine(line: String): FigletResult[Seq[ControlFileCommand]] =
-    ???
+  private def skipBlanks(line: String, position: Int): Int =
+    line.indexWhere(c => c =!= ' ' && c =!= '\t', position) match {
+      case -1 => line.length
+      case i  => i
+    }
 
-  private def appendCommands(state: ControlFile)(commands: Seq[ControlFileCommand]): FigletResult[ControlFile] =
+  private def appendCommands(state: ParseState)(commands: Seq[ControlFileCommand]): FigletResult[ParseState] =
     state
       .sections
       .lastOption
-      .map(_ ++ commands)
-      .map { updatedLast =>
-        state.copy(sections = state.sections.dropRight(1) :+ updatedLast).validNec
+      .map { last =>
+        state.copy(sections = state.sections.dropRight(1) :+ (last ++ commands))
       }
-      .getOrElse(state.validNec)
+      .getOrElse(state.copy(sections = Vector(commands)))
+      .validNec
 
-  private def addSection(state: ControlFile): FigletResult[ControlFile] =
-    state.copy(sections = state.sections ++ Seq.empty).validNec
+  private def addSection(state: ParseState): FigletResult[ParseState] =
+    state.copy(sections = state.sections :+ Vector.empty).validNec
 
-  private def appendExtendedCommand(state: ControlFile)(
+  private def appendExtendedCommand(state: ParseState)(
       command: ExtendedControlFileCommand,
-  ): FigletResult[ControlFile] =
+  ): FigletResult[ParseState] =
     state.copy(extended = state.extended :+ command).validNec
 
 }
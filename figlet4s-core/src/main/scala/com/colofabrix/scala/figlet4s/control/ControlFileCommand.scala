@@ -26,10 +26,32 @@ object ControlFileCommand {
    * equivalent to a "t" command of the first type, and is provided for compatibility with the mapping tables issued by
    * the Unicode Consortium.
    *
-   * @param inchar The input character to be mapped
-   * @param outchar The output character after the mapping
+   * A command of the first type is represented as a range of a single character.
+   *
+   * @param inchar1  The code of the first input character to be mapped
+   * @param inchar2  The code of the last input character to be mapped
+   * @param outchar1 The code of the output character of the first input character
    */
-  final case class TCommand(inchar: String, outchar: String) extends ControlFileCommand
+  final case class TCommand(inchar1: Int, inchar2: Int, outchar1: Int) extends ControlFileCommand {
+
+    /** The code of the output character of the last input character */
+    def outchar2: Int = outchar1 + (inchar2 - inchar1)
+
+  }
+
+  object TCommand {
+
+    /**
+     * Creates a "t" command that transforms a single character
+     *
+     * @param inchar  The code of the input character to be mapped
+     * @param outchar The code of the output character after the mapping
+     * @return A TCommand that maps the given input character
+     */
+    def apply(inchar: Int, outchar: Int): TCommand =
+      TCommand(inchar, inchar, outchar)
+
+  }
 
   /**
    * Multiple transformation stages can be encoded in a single control file by using "f" commands to separate the
@@ -0,0 +1,157 @@
+package com.colofabrix.scala.figlet4s.control
+
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.control.ControlFileCommand._
+import scala.jdk.CollectionConverters._
+
+/**
+ * Translation of the code points of the input text into the codes of the FIGcharacters to render, compiled from the
+ * stages of one or more ControlFiles applied in sequence
+ *
+ * The translation of the code points from 0 to 255 through all the stages is precomputed in a dense array, so that the
+ * most common characters are translated with a single lookup. The other code points go through each stage.
+ *
+ * @param dense  The translation of each code point below [[Translation.DenseSize]]
+ * @param stages The stages applied in sequence to the other code points
+ */
+@SuppressWarnings(Array("org.wartremover.warts.Var", "org.wartremover.warts.While"))
+final private[figlet4s] class Translation private (dense: Array[Int], stages: Array[TranslationStage]) {
+
+  /** Tells if this Translation leaves all the code points unchanged */
+  val isIdentity: Boolean = stages.isEmpty
+
+  /**
+   * Translates a code point
+   *
+   * @param codePoint The code point of the input text
+   * @return The code of the FIGcharacter to render
+   */
+  def apply(codePoint: Int): Int =
+    if (codePoint >= 0 && codePoint < Translation.DenseSize) {
+      dense(codePoint)
+    } else {
+      var result = codePoint
+      var i      = 0
+      while (i < stages.length) {
+        result = stages(i)(result)
+        i += 1
+      }
+      result
+    }
+
+}
+
+private[figlet4s] object Translation {
+
+  /** Number of code points, starting from zero, whose translation is precomputed */
+  val DenseSize: Int = 256
+
+  /** The Translation that leaves all the code points unchanged */
+  val identity: Translation = Translation(Vector.empty)
+
+  /**
+   * Creates the Translation that applies the ControlFiles in sequence
+   *
+   * @param controlFiles The ControlFiles to apply, in order
+   * @return The Translation of the stages of all the ControlFiles
+   */
+  def apply(controlFiles: Seq[ControlFile]): Translation = {
+    val stages = controlFiles.flatMap(_.stages).filterNot(_.isIdentity).toArray
+    val dense  = Array.tabulate(DenseSize)(codePoint => stages.foldLeft(codePoint)((c, stage) => stage(c)))
+    new Translation(dense, stages)
+  }
+
+}
+
+/**
+ * A single stage of a Translation, where a code point is translated by the first "t" command that matches it
+ *
+ * The commands are compiled into sorted and disjoint intervals, each with the offset to add to the code points inside
+ * it, that are searched with a binary search.
+ *
+ * @param starts  The first code point of each interval
+ * @param ends    The last code point of each interval
+ * @param offsets The offset added to the code points of each interval
+ */
+@SuppressWarnings(Array("org.wartremover.warts.Var", "org.wartremover.warts.While"))
+final private[figlet4s] class TranslationStage private (starts: Array[Int], ends: Array[Int], offsets: Array[Int]) {
+
+  /** Tells if this stage leaves all the code points unchanged */
+  def isIdentity: Boolean = starts.isEmpty
+
+  /**
+   * Translates a code point
+   *
+   * @param codePoint The code point to translate
+   * @return The translated code point, or the code point itself when no command matches it
+   */
+  def apply(codePoint: Int): Int = {
+    var low    = 0
+    var high   = starts.length - 1
+    var result = codePoint
+    while (low <= high) {
+      val mid = (low + high) >>> 1
+      if (codePoint < starts(mid)) high = mid - 1
+      else if (codePoint > ends(mid)) low = mid + 1
+      else {
+        result = codePoint + offsets(mid)
+        low = high + 1
+      }
+    }
+    result
+  }
+
+}
+
+private[figlet4s] object TranslationStage {
+
+  /**
+   * Compiles the "t" commands of a stage, where the first command that matches a code point wins
+   *
+   * @param commands The commands of the stage, in order
+   * @return A TranslationStage equivalent to the commands
+   */
+  def apply(commands: Seq[TCommand]): TranslationStage = {
+    // The commands are painted from the last to the first, each one over the intervals of the ones that follow it
+    val painted = new java.util.TreeMap[Long, (Long, Int)]()
+
+    def paint(start: Long, end: Long, offset: Int): Unit = {
+      val _ = painted.put(start, (end, offset))
+    }
+
+    commands.reverseIterator.foreach { t =>
+      val start  = t.inchar1.toLong
+      val end    = t.inchar2.toLong
+      val offset = t.outchar1 - t.inchar1
+
+      Option(painted.lowerEntry(start)).foreach { before =>
+        val (beforeEnd, beforeOffset) = before.getValue
+        if (beforeEnd >= start) paint(before.getKey, start - 1, beforeOffset)
+        if (beforeEnd > end) paint(end + 1, beforeEnd, beforeOffset)
+      }
+
+      val covered = painted.subMap(start, true, end, true)
+      Option(covered.lastEntry()).foreach { last =>
+        val (lastEnd, lastOffset) = last.getValue
+        if (lastEnd > end) paint(end + 1, lastEnd, lastOffset)
+      }
+      covered.clear()
+      paint(start, end, offset)
+    }
+
+    // Adjacent intervals with the same offset are merged into a single interval
+    val intervals =
+      painted.entrySet.iterator.asScala.foldLeft(Vector.empty[(Int, Int, Int)]) { (intervals, entry) =>
+        val (end, offset) = entry.getValue
+        intervals match {
+          case init :+ ((lastStart, lastEnd, lastOffset)) if lastOffset === offset && lastEnd + 1L === entry.getKey =>
+            init :+ ((lastStart, end.toInt, offset))
+          case _ =>
+            intervals :+ ((entry.getKey.toInt, end.toInt, offset))
+        }
+      }
+
+    new TranslationStage(intervals.map(_._1).toArray, intervals.map(_._2).toArray, intervals.map(_._3).toArray)
+  }
+
+}
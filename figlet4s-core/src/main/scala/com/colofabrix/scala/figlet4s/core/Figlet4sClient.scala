@@ -1,10 +1,12 @@
 package com.colofabrix.scala.figlet4s.core
 
 import java.io._
+import java.nio.file.FileSystems
 import scala.io._
 import cats._
 import cats.effect._
 import cats.implicits._
+import com.colofabrix.scala.figlet4s.control._
 import com.colofabrix.scala.figlet4s.errors._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.options._
@@ -25,6 +27,11 @@ private[figlet4s] object Figlet4sClient {
    */
   val defaultMaxWidth: Int = 80
 
+  /**
+   * The text rendered with each horizontal layout when warming up a FIGfont during its preloading
+   */
+  val warmUpText: String = "The quick brown fox jumps over the lazy dog 0123456789"
+
   /**
    * The list of available internal fonts
    *
@@ -35,19 +42,70 @@ private[figlet4s] object Figlet4sClient {
     FontListing.listInternalFonts.map(x => x: Seq[String])
 
   /**
-   * Loads one of the internal FIGfont
+   * The description of all the available internal fonts, obtained without loading any of them
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return The collection of descriptions of the FIGfonts shipped with this library
+   */
+  def internalFontsMetadata[F[_]: Sync]: F[Seq[FontMetadata]] =
+    FontManifest
+      .read
+      .flatMap(_.fold(scanManifest[F])(Sync[F].pure))
+      .flatMap { lines =>
+        lines
+          .traverse(FontManifest.parse)
+          .fold(errors => Sync[F].raiseError(errors.head), metadata => Sync[F].pure(metadata: Seq[FontMetadata]))
+      }
+
+  /**
+   * Loads one of the internal FIGfont, preferring its compiled form when available
    *
    * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
    * @param name The name of the internal font to load, defaults to "standard"
    * @return The FIGfont of the requested internal font
    */
   def loadFontInternal[F[_]: Sync](name: String): F[FigletResult[FIGfont]] =
+    FontCache.shared.getOrLoad(FontCache.InternalFontKey(name, Codec.ISO8859.name)) {
+      FontFileReader
+        .readInternalCompiled(s"fonts/$name.flf")(readCompiledFIGfont[F])
+        .flatMap(_.fold(loadFlfInternal[F](name))(Sync[F].pure))
+    }
+
+  /**
+   * Loads one of the internal FIGfont parsing its FLF file
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param name The name of the internal font to load
+   * @return The FIGfont of the requested internal font
+   */
+  private[figlet4s] def loadFlfInternal[F[_]: Sync](name: String): F[FigletResult[FIGfont]] =
     for {
       path    <- Sync[F].pure(s"fonts/$name.flf")
       decoder <- fileDecoder[F](Codec.ISO8859)
       font    <- FontFileReader.readInternal(path, decoder)(createFIGfont[F])
     } yield font
 
+  /**
+   * Loads one of the internal FIGfont into the cache of loaded FIGfonts, measuring the time spent
+   *
+   * The FIGfont is kept in the cache shared by all client APIs, so preloading more FIGfonts than the maximum size of the
+   * cache evicts the least recently used ones. When requested, the FIGfont is warmed up rendering the [[warmUpText]]
+   * with each horizontal layout so that the rendering code is already optimized when the first text is rendered.
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param name   The name of the internal font to preload
+   * @param warmUp If true the FIGfont is used to render a sample text after it's loaded
+   * @return The time spent to load and to warm up the FIGfont
+   */
+  def preloadFontInternal[F[_]: Sync](name: String, warmUp: Boolean): F[FigletResult[FontLoadTiming]] =
+    for {
+      start  <- Sync[F].monotonic
+      font   <- loadFontInternal[F](name)
+      loaded <- Sync[F].monotonic
+      warmed <- if (warmUp) font.traverse_(f => Sync[F].delay(warmUpRendering(f))) *> Sync[F].monotonic
+                else Sync[F].pure(loaded)
+    } yield font.map(figfont => FontLoadTiming(name, figfont.id, loaded - start, warmed - loaded))
+
   /**
    * Loads a FIGfont from file
    *
@@ -57,10 +115,164 @@ private[figlet4s] object Figlet4sClient {
    * @return The FIGfont loaded from the specified path
    */
   def loadFont[F[_]: Sync](path: String, codec: Codec): F[FigletResult[FIGfont]] =
+    fileFontKey[F](path, codec).flatMap { key =>
+      FontCache.shared.getOrLoad(key) {
+        for {
+          decoder <- fileDecoder[F](codec)
+          font    <- FontFileReader.read(path, decoder)(createFIGfont[F])
+        } yield font
+      }
+    }
+
+  /**
+   * Loads a FIGfont from file, validating and creating each FIGcharacter only the first time it's used
+   *
+   * Only the header and the structure of the file are validated when the FIGfont is loaded, so it's faster to load when
+   * only a few of its FIGcharacters are rendered. A FIGcharacter that is not valid is rendered as missing instead of
+   * failing the loading of the FIGfont.
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param path  The path of the font file to load. It can be a .flf file or a zipped file.
+   * @param codec The encoding of the file if textual
+   * @return The FIGfont loaded from the specified path
+   */
+  def loadFontLazily[F[_]: Sync](path: String, codec: Codec): F[FigletResult[FIGfont]] =
+    lazyFontKey[F](path, codec).flatMap { key =>
+      FontCache.shared.getOrLoad(key) {
+        for {
+          decoder <- fileDecoder[F](codec)
+          font    <- FontFileReader.read(path, decoder)(indexFIGfont[F])
+        } yield font
+      }
+    }
+
+  /**
+   * Loads a FIGfont from a file on any file system, from a buffer or from a stream
+   *
+   * The FIGfonts read from a file of the default file system are kept in the cache of loaded FIGfonts like the ones
+   * loaded from a path, the others are read every time.
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param source The source of the font file to load. It can be a .flf file or a zipped file.
+   * @param codec  The encoding of the file if textual
+   * @return The FIGfont loaded from the specified source
+   */
+  def loadFontFrom[F[_]: Sync](source: FontSource, codec: Codec): F[FigletResult[FIGfont]] =
+    source match {
+      case FontSource.FromPath(path) if path.getFileSystem == FileSystems.getDefault =>
+        loadFont[F](path.toString, codec)
+      case _ =>
+        for {
+          decoder <- fileDecoder[F](codec)
+          font    <- FontFileReader.readSource(source, decoder)(createFIGfont[F])
+        } yield font
+    }
+
+  /**
+   * Loads all the FIGfonts of a ZIP archive, reading the archive only once
+   *
+   * The FIGfonts are the entries of the archive with the FLF extension, named after their entry. A source that is not a
+   * ZIP archive contains a single FIGfont.
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param source The source of the ZIP archive to load
+   * @param codec  The encoding of the font files
+   * @return The FIGfonts loaded from the specified source, in the order they are stored
+   */
+  def loadFontsFrom[F[_]: Sync](source: FontSource, codec: Codec): F[FigletResult[Vector[FIGfont]]] =
     for {
       decoder <- fileDecoder[F](codec)
-      font    <- FontFileReader.read(path, decoder)(createFIGfont[F])
-    } yield font
+      fonts   <- FontFileReader.readSourceAll(source, decoder)(createFIGfont[F])
+    } yield fonts.sequence
+
+  /**
+   * Loads a FIGfont of a catalog of FIGfonts
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param entry The FIGfont of the catalog to load
+   * @return The FIGfont loaded from the file described by the entry
+   */
+  def loadFont[F[_]: Sync](entry: FontCatalogEntry): F[FigletResult[FIGfont]] =
+    entry.archiveEntry match {
+      case None =>
+        loadFont[F](entry.path, Codec.ISO8859)
+      case Some(archiveEntry) =>
+        archiveFontKey[F](entry.path, archiveEntry, Codec.ISO8859).flatMap { key =>
+          FontCache.shared.getOrLoad(key) {
+            for {
+              decoder <- fileDecoder[F](Codec.ISO8859)
+              font    <- FontFileReader.readEntry(entry.path, archiveEntry, decoder)(createFIGfont[F])
+            } yield font
+          }
+        }
+    }
+
+  /**
+   * Indexes the FIGfonts of a directory and of its subdirectories, reading only their headers
+   *
+   * The directory can contain FLF files, zipped or not, and ZIP archives containing any number of FLF files. The files
+   * are indexed in batches, run by the given function in parallel or not, and the ones that are not valid FIGfonts are
+   * listed as invalid in the catalog.
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param directory    The directory containing the FIGfonts
+   * @param indexBatches The function that indexes the batches of files, returning their catalogs in the same order
+   * @return The catalog of the FIGfonts of the directory
+   */
+  def indexFonts[F[_]: Sync](
+      directory: String,
+  )(indexBatches: Vector[FontIndexer.Batch] => F[Vector[FontCatalog]]): F[FontCatalog] =
+    FontIndexer.index[F](directory)(indexBatches)
+
+  /**
+   * Reads a catalog of FIGfonts previously saved with [[writeFontCatalog]]
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param path The path of the file of the catalog
+   * @return The catalog read from the file
+   */
+  def readFontCatalog[F[_]: Sync](path: String): F[FigletResult[FontCatalog]] =
+    FontIndexer.read[F](path)
+
+  /**
+   * Saves a catalog of FIGfonts into a file, replacing it if it exists, so that it can be read again without indexing
+   * the FIGfonts
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param catalog The catalog to save
+   * @param path    The path of the file of the catalog
+   * @return Unit when the catalog has been saved
+   */
+  def writeFontCatalog[F[_]: Sync](catalog: FontCatalog, path: String): F[Unit] =
+    FontIndexer.write[F](catalog, path)
+
+  /**
+   * Loads one of the internal control files
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param name The name of the internal control file to load
+   * @return The ControlFile of the requested internal control file
+   */
+  def loadControlFileInternal[F[_]: Sync](name: String): F[FigletResult[ControlFile]] =
+    for {
+      path        <- Sync[F].pure(s"fonts/$name.flc")
+      decoder     <- fileDecoder[F](Codec.ISO8859)
+      controlFile <- FontFileReader.readInternal(path, decoder)(content => createControlFile[F](content.lines))
+    } yield controlFile
+
+  /**
+   * Loads a control file from file
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param path  The path of the control file to load. It can be a .flc file or a zipped file.
+   * @param codec The encoding of the file if textual
+   * @return The ControlFile loaded from the specified path
+   */
+  def loadControlFile[F[_]: Sync](path: String, codec: Codec): F[FigletResult[ControlFile]] =
+    for {
+      decoder     <- fileDecoder[F](codec)
+      controlFile <- FontFileReader.read(path, decoder)(content => createControlFile[F](content.lines))
+    } yield controlFile
 
   /**
    * Renders a given text as a FIGure
@@ -71,12 +283,170 @@ private[figlet4s] object Figlet4sClient {
    * @return A FIGure representing the rendered text
    */
   def renderString[F[_]: Sync](text: String, options: RenderOptions): F[FIGure] =
-    Sync[F].pure {
-      Rendering.render(text, options)
+    Sync[F].delay {
+      RenderCache.shared.getOrRender(text, options)(Rendering.render(text, options))
     }
 
+  /**
+   * Computes the size of the FIGure of a given text without building the FIGure
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param text    The text to measure
+   * @param options The rendering options used to render the text
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measureString[F[_]: Sync](text: String, options: RenderOptions): F[FIGureSize] =
+    Sync[F].delay {
+      Rendering.measure(text, options)
+    }
+
+  /**
+   * Finds the first FIGfont that renders a given text within a width
+   *
+   * The text is measured with each FIGfont in turn, stopping at the first one that fits, and no FIGure is built. The
+   * text is measured without breaking its lines, whatever the maximum width of the options, so a FIGfont fits only
+   * when each line of the text is rendered within the width without being broken.
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param text    The text to render
+   * @param options The rendering options used to render the text, where the FIGfont is replaced by each candidate
+   * @param fonts   The candidate FIGfonts, in order of preference
+   * @param width   The maximum width of the FIGure
+   * @return The first FIGfont with which the lines of the text are not wider than the given width, if any
+   */
+  def fittingFont[F[_]: Sync](
+      text: String,
+      options: RenderOptions,
+      fonts: Seq[FIGfont],
+      width: Int,
+  ): F[Option[FIGfont]] =
+    Sync[F].delay {
+      fonts.find(font => Rendering.measure(text, options.copy(font = font, maxWidth = Int.MaxValue)).width <= width)
+    }
+
+  /**
+   * Creates a renderer that renders any number of texts with the same options
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param options The rendering options used to render the texts
+   * @return A Renderer that reuses the work that depends only on the options
+   */
+  def renderer[F[_]: Sync](options: RenderOptions): F[Renderer] =
+    Sync[F].delay {
+      new Renderer(options)
+    }
+
+  /**
+   * Starts the rendering of a text received in pieces, that returns each line of the FIGure as soon as it's complete
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param options The rendering options used to render the text
+   * @return An IncrementalRendering confined to the rendering of a single text
+   */
+  private[figlet4s] def incrementalRendering[F[_]: Sync](options: RenderOptions): F[IncrementalRendering] =
+    Sync[F].delay {
+      Rendering.compile(options).incremental()
+    }
+
+  /**
+   * The statistics of usage of the cache of loaded FIGfonts
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return The current statistics of the FIGfont cache
+   */
+  def fontCacheStats[F[_]: Sync]: F[FontCacheStats] =
+    Sync[F].delay(FontCache.shared.stats)
+
+  /**
+   * Removes all FIGfonts from the cache of loaded FIGfonts
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return Unit when the cache has been emptied
+   */
+  def clearFontCache[F[_]: Sync]: F[Unit] =
+    Sync[F].delay(FontCache.shared.clear())
+
+  /**
+   * Changes the maximum number of FIGfonts kept in the cache of loaded FIGfonts
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param maxSize The new maximum number of FIGfonts, where zero disables the cache
+   * @return Unit when the cache has been resized
+   */
+  def resizeFontCache[F[_]: Sync](maxSize: Int): F[Unit] =
+    if (maxSize >= 0)
+      Sync[F].delay(FontCache.shared.resize(maxSize))
+    else
+      Sync[F].raiseError(FigletError(s"The size of the font cache must not be negative: $maxSize"))
+
+  /**
+   * The statistics of usage of the cache of rendered FIGures
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return The current statistics of the FIGure cache
+   */
+  def renderCacheStats[F[_]: Sync]: F[RenderCacheStats] =
+    Sync[F].delay(RenderCache.shared.stats)
+
+  /**
+   * Removes all FIGures from the cache of rendered FIGures
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return Unit when the cache has been emptied
+   */
+  def clearRenderCache[F[_]: Sync]: F[Unit] =
+    Sync[F].delay(RenderCache.shared.clear())
+
+  /**
+   * Changes the maximum weight of the cache of rendered FIGures
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param maxWeight The new maximum number of characters of all the cached FIGures, where zero disables the cache
+   * @return Unit when the cache has been resized
+   */
+  def resizeRenderCache[F[_]: Sync](maxWeight: Long): F[Unit] =
+    if (maxWeight >= 0)
+      Sync[F].delay(RenderCache.shared.resize(maxWeight))
+    else
+      Sync[F].raiseError(FigletError(s"The weight of the render cache must not be negative: $maxWeight"))
+
   //  Support  //
 
+  // Builds the manifest of the internal fonts when the library has been built without one
+  private def scanManifest[F[_]: Sync]: F[Vector[String]] =
+    FontListing.scanInternalFonts.flatMap {
+      _.traverse { name =>
+        val resourceName = name.replace(File.separatorChar, '/')
+        FontFileReader
+          .readInternalBytes(s"fonts/$resourceName.flf")
+          .map(FontManifest.line(resourceName, _))
+      }
+    }
+
+  private def warmUpRendering(font: FIGfont): Unit =
+    HorizontalLayout.values.foreach { layout =>
+      val options = RenderOptions(font, defaultMaxWidth, layout, PrintDirection.FontDefault, Justification.FontDefault)
+      Rendering.render(warmUpText, options)
+    }
+
+  private def fileFontKey[F[_]: Sync](path: String, codec: Codec): F[FontCache.Key] =
+    Sync[F].delay {
+      val file = new File(path).getAbsoluteFile
+      FontCache.FileFontKey(file.getPath, file.lastModified(), codec.name)
+    }
+
+  private def lazyFontKey[F[_]: Sync](path: String, codec: Codec): F[FontCache.Key] =
+    Sync[F].delay {
+      val file = new File(path).getAbsoluteFile
+      FontCache.LazyFileFontKey(file.getPath, file.lastModified(), codec.name)
+    }
+
+  private def archiveFontKey[F[_]: Sync](path: String, entry: String, codec: Codec): F[FontCache.Key] =
+    Sync[F].delay {
+      val file = new File(path).getAbsoluteFile
+      FontCache.FileFontKey(s"${file.getPath}!$entry", file.lastModified(), codec.name)
+    }
+
   private def fileDecoder[F[_]: Applicative](codec: Codec): F[Codec] =
     Applicative[F].pure {
       codec
@@ -84,9 +454,24 @@ private[figlet4s] object Figlet4sClient {
         .onMalformedInput(java.nio.charset.CodingErrorAction.REPORT)
     }
 
-  private def createFIGfont[F[_]: Sync](file: File, source: BufferedSource): F[FigletResult[FIGfont]] =
+  private def readCompiledFIGfont[F[_]: Sync](file: File, bytes: Array[Byte]): F[FigletResult[FIGfont]] =
+    Sync[F].delay {
+      CompiledFont.read(file, bytes)
+    }
+
+  private def createFIGfont[F[_]: Sync](content: FontContent): F[FigletResult[FIGfont]] =
+    Sync[F].delay {
+      FIGfont.fromFile(content.file, content.id, content.lines, eager = true)
+    }
+
+  private def indexFIGfont[F[_]: Sync](content: FontContent): F[FigletResult[FIGfont]] =
+    Sync[F].delay {
+      FIGfont.fromFile(content.file, content.id, content.lines, eager = false)
+    }
+
+  private def createControlFile[F[_]: Sync](lines: Iterator[String]): F[FigletResult[ControlFile]] =
     Sync[F].delay {
-      FIGfont(file, source.getLines())
+      ControlFile(lines)
     }
 
 }
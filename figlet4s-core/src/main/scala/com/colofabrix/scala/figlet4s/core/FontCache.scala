@@ -0,0 +1,205 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.effect._
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.core.FontCache._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.figfont._
+import java.util.concurrent._
+import scala.util._
+import scala.util.control.NonFatal
+
+/**
+ * Thread-safe, bounded cache of loaded FIGfonts with least-recently-used eviction.
+ *
+ * Only successfully loaded FIGfonts are stored. Concurrent requests for the same FIGfont are collapsed in a single
+ * loading: the first request loads the FIGfont while the other ones wait for its result.
+ *
+ * @param initialMaxSize The maximum number of FIGfonts kept in the cache
+ */
+@SuppressWarnings(
+  Array("org.wartremover.warts.NonUnitStatements", "org.wartremover.warts.Var", "org.wartremover.warts.While"),
+)
+final private[figlet4s] class FontCache(initialMaxSize: Int) {
+
+  private val lock: Object = new Object()
+
+  private val entries: java.util.LinkedHashMap[Key, FIGfont] =
+    new java.util.LinkedHashMap[Key, FIGfont](16, 0.75f, true)
+
+  private val pending: ConcurrentHashMap[Key, Loading] =
+    new ConcurrentHashMap[Key, Loading]()
+
+  private var maxSize: Int    = Math.max(0, initialMaxSize)
+  private var hits: Long      = 0L
+  private var misses: Long    = 0L
+  private var evictions: Long = 0L
+
+  /**
+   * Returns the FIGfont stored in the cache for the given key or loads it if it is not present
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @param key  The key that identifies the FIGfont
+   * @param load The loading of the FIGfont to run when the FIGfont is not present in the cache
+   * @return The FIGfont found in the cache or the result of its loading
+   */
+  def getOrLoad[F[_]: Sync](key: Key)(load: => F[FigletResult[FIGfont]]): F[FigletResult[FIGfont]] =
+    Sync[F].delay(lookup(key)).flatMap {
+      case Some(font) =>
+        Sync[F].pure(font.validNec)
+      case None =>
+        Sync[F].delay(register(key)).flatMap {
+          case Right(promise) => loadAndStore(key, promise)(load)
+          case Left(inFlight) => awaitLoading(inFlight)
+        }
+    }
+
+  /**
+   * The statistics of usage of the cache
+   *
+   * @return The current statistics of the cache
+   */
+  def stats: FontCacheStats =
+    lock.synchronized {
+      FontCacheStats(hits, misses, evictions, entries.size, maxSize)
+    }
+
+  /**
+   * Removes all FIGfonts from the cache, keeping the statistics
+   */
+  def clear(): Unit =
+    lock.synchronized {
+      entries.clear()
+    }
+
+  /**
+   * Changes the maximum number of FIGfonts kept in the cache, evicting the least recently used ones if needed
+   *
+   * @param newMaxSize The new maximum number of FIGfonts, where zero disables the cache
+   */
+  def resize(newMaxSize: Int): Unit =
+    lock.synchronized {
+      maxSize = Math.max(0, newMaxSize)
+      evictExceeding()
+    }
+
+  //  Support  //
+
+  private def lookup(key: Key): Option[FIGfont] =
+    lock.synchronized {
+      val found = Option(entries.get(key))
+      if (found.isDefined) hits += 1 else misses += 1
+      found
+    }
+
+  private def store(key: Key, font: FIGfont): Unit =
+    lock.synchronized {
+      if (maxSize > 0) {
+        entries.put(key, font)
+        evictExceeding()
+      }
+    }
+
+  private def evictExceeding(): Unit =
+    while (entries.size > maxSize) {
+      val eldest = entries.keySet.iterator.next()
+      entries.remove(eldest)
+      evictions += 1
+    }
+
+  /** Registers a new loading for the key or returns the loading already in progress */
+  private def register(key: Key): Either[Loading, Loading] = {
+    val promise = new Loading()
+    Option(pending.putIfAbsent(key, promise)).toLeft(promise)
+  }
+
+  private def loadAndStore[F[_]: Sync](
+      key: Key,
+      promise: Loading,
+  )(load: => F[FigletResult[FIGfont]]): F[FigletResult[FIGfont]] = {
+    def fail[A](error: Throwable): F[A] =
+      Sync[F].delay {
+        pending.remove(key, promise)
+        promise.completeExceptionally(error)
+      } *> Sync[F].raiseError[A](error)
+
+    // Effects like Id run the loading eagerly and report errors by throwing
+    val loading =
+      try load.handleErrorWith(fail)
+      catch { case NonFatal(error) => fail[FigletResult[FIGfont]](error) }
+
+    val completed = loading.flatTap { result =>
+      Sync[F].delay {
+        result.toOption.foreach(store(key, _))
+        pending.remove(key, promise)
+        promise.complete(result)
+      }
+    }
+
+    val cancelled =
+      Sync[F].delay {
+        pending.remove(key, promise)
+        promise.cancel(false)
+      }.void
+
+    Sync[F].onCancel(completed, cancelled)
+  }
+
+  private def awaitLoading[F[_]: Sync](inFlight: Loading): F[FigletResult[FIGfont]] =
+    Sync[F].blocking(Try(inFlight.get())).flatMap {
+      case Success(result)                => Sync[F].pure(result)
+      case Failure(e: ExecutionException) => Sync[F].raiseError(Option(e.getCause).getOrElse(e))
+      case Failure(e)                     => Sync[F].raiseError(e)
+    }
+
+}
+
+private[figlet4s] object FontCache {
+
+  /** Key that identifies a FIGfont in the cache */
+  sealed trait Key extends Product with Serializable
+
+  /**
+   * Key of a FIGfont shipped with the library
+   *
+   * @param name  The name of the internal FIGfont
+   * @param codec The name of the codec used to read the FIGfont
+   */
+  final case class InternalFontKey(name: String, codec: String) extends Key
+
+  /**
+   * Key of a FIGfont loaded from file. The modification time makes sure that a changed file is loaded again.
+   *
+   * @param path         The absolute path of the file
+   * @param lastModified The time of the last modification of the file
+   * @param codec        The name of the codec used to read the FIGfont
+   */
+  final case class FileFontKey(path: String, lastModified: Long, codec: String) extends Key
+
+  /**
+   * Key of a FIGfont loaded from file whose FIGcharacters are validated and created only when they are first used
+   *
+   * @param path         The absolute path of the file
+   * @param lastModified The time of the last modification of the file
+   * @param codec        The name of the codec used to read the FIGfont
+   */
+  final case class LazyFileFontKey(path: String, lastModified: Long, codec: String) extends Key
+
+  /** The loading of a FIGfont shared by concurrent requests */
+  private type Loading = CompletableFuture[FigletResult[FIGfont]]
+
+  /** Default maximum number of FIGfonts kept in the cache, can be changed with the system property below */
+  val defaultMaxSize: Int = 64
+
+  /** System property used to set the initial maximum size of the shared cache */
+  val maxSizeProperty: String = "figlet4s.fontcache.maxsize"
+
+  /** The cache shared by all client APIs */
+  lazy val shared: FontCache =
+    new FontCache(
+      Option(System.getProperty(maxSizeProperty))
+        .flatMap(_.toIntOption)
+        .getOrElse(defaultMaxSize),
+    )
+
+}
@@ -0,0 +1,12 @@
+package com.colofabrix.scala.figlet4s.core
+
+/**
+ * Statistics of usage of the cache of loaded FIGfonts
+ *
+ * @param hits      The number of requests served with a FIGfont already present in the cache
+ * @param misses    The number of requests for a FIGfont that was not present in the cache
+ * @param evictions The number of FIGfonts removed from the cache to make room for new ones
+ * @param size      The number of FIGfonts currently in the cache
+ * @param maxSize   The maximum number of FIGfonts that the cache can contain
+ */
+final case class FontCacheStats(hits: Long, misses: Long, evictions: Long, size: Int, maxSize: Int)
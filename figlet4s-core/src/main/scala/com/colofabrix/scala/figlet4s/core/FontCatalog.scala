@@ -0,0 +1,65 @@
+package com.colofabrix.scala.figlet4s.core
+
+import java.util.Locale
+
+/**
+ * Index of the FIGfonts of a directory, built reading only their headers, to list and search them without loading them
+ *
+ * A FIGfont of the catalog is loaded only when it's selected, with the `loadFont` function of the client APIs that
+ * accepts a [[FontCatalogEntry]].
+ *
+ * @param entries The FIGfonts of the catalog, sorted by path
+ * @param invalid The paths of the files that could not be indexed, because they're not readable or not valid FIGfonts
+ */
+final case class FontCatalog(entries: Vector[FontCatalogEntry], invalid: Vector[String]) {
+
+  private val byName: Map[String, FontCatalogEntry] =
+    entries.map(entry => entry.name -> entry).toMap
+
+  /**
+   * The names of the FIGfonts of the catalog
+   *
+   * @return The collection of names of the FIGfonts, sorted by path
+   */
+  def names: Vector[String] =
+    entries.map(_.name)
+
+  /**
+   * Finds a FIGfont of the catalog by name
+   *
+   * @param name The name of the FIGfont
+   * @return The FIGfont with the given name, if any
+   */
+  def find(name: String): Option[FontCatalogEntry] =
+    byName.get(name)
+
+  /**
+   * Finds the FIGfonts of the catalog whose name contains a text, ignoring the case
+   *
+   * @param query The text to look for in the names
+   * @return The FIGfonts whose name contains the text, sorted by path
+   */
+  def search(query: String): Vector[FontCatalogEntry] = {
+    val lowerQuery = query.toLowerCase(Locale.ROOT)
+    entries.filter(_.name.toLowerCase(Locale.ROOT).contains(lowerQuery))
+  }
+
+}
+
+object FontCatalog {
+
+  /**
+   * A catalog without FIGfonts
+   */
+  val empty: FontCatalog = FontCatalog(Vector.empty, Vector.empty)
+
+  /**
+   * Joins many catalogs into one, keeping the order of their FIGfonts
+   *
+   * @param catalogs The catalogs to join
+   * @return A catalog with the FIGfonts and the invalid files of all the catalogs
+   */
+  def concat(catalogs: Seq[FontCatalog]): FontCatalog =
+    FontCatalog(catalogs.flatMap(_.entries).toVector, catalogs.flatMap(_.invalid).toVector)
+
+}
@@ -0,0 +1,25 @@
+package com.colofabrix.scala.figlet4s.core
+
+/**
+ * A FIGfont found while indexing a directory of fonts, described without loading the FIGfont
+ *
+ * @param metadata     The description of the FIGfont, named with its path relative to the indexed directory
+ * @param path         The path of the file containing the FIGfont, either a FLF file, zipped or not, or a ZIP archive
+ * @param archiveEntry The name of the entry of the ZIP archive containing the FIGfont, if the file is an archive
+ */
+final case class FontCatalogEntry(metadata: FontMetadata, path: String, archiveEntry: Option[String]) {
+
+  /**
+   * The name of the FIGfont, its path relative to the indexed directory without extension and using `/` as separator.
+   * FIGfonts inside a ZIP archive are named after the archive followed by the name of their entry.
+   */
+  def name: String =
+    metadata.name
+
+  /**
+   * The identifier of the FIGfont, the same of the loaded FIGfont
+   */
+  def id: String =
+    metadata.id
+
+}
@@ -0,0 +1,75 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.data.Validated._
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.figfont._
+import java.io._
+import java.nio.ByteBuffer
+import java.nio.file._
+import java.util.Locale
+import scala.io._
+import scala.jdk.CollectionConverters._
+
+/**
+ * Build step that compiles the FLF files of a directory into the binary format of [[CompiledFont]]
+ *
+ * The directory is scanned recursively and each compiled FIGfont is written in the target directory with the same
+ * relative path of its FLF file, together with the [[FontManifest]] that describes all the compiled FIGfonts. Any
+ * FIGfont that can't be loaded stops the compilation.
+ *
+ * Usage: `FontCompiler <source directory> <target directory>`
+ */
+@SuppressWarnings(Array("org.wartremover.warts.NonUnitStatements", "org.wartremover.warts.Throw"))
+private[figlet4s] object FontCompiler {
+
+  def main(args: Array[String]): Unit =
+    args match {
+      case Array(source, target) =>
+        compileAll(Paths.get(source), Paths.get(target))
+      case _ =>
+        throw new IllegalArgumentException("Usage: FontCompiler <source directory> <target directory>")
+    }
+
+  /**
+   * Compiles all the FLF files of a directory and writes their manifest
+   *
+   * @param source The directory containing the FLF files
+   * @param target The directory where to write the compiled FIGfonts
+   */
+  def compileAll(source: Path, target: Path): Unit = {
+    val stream = Files.walk(source)
+    val fonts =
+      try stream.iterator.asScala.filter(_.toString.toLowerCase(Locale.ROOT).endsWith(".flf")).toVector
+      finally stream.close()
+
+    val manifest = fonts.sortBy(_.toString).map { fontPath =>
+      val relative = source.relativize(fontPath).toString
+      val name     = relative.substring(0, relative.length - 4)
+      val content  = Files.readAllBytes(fontPath)
+      compile(fontPath, content, target.resolve(name + CompiledFont.Extension))
+      FontManifest.line(name.replace(File.separatorChar, '/'), content)
+    }
+
+    Files.createDirectories(target)
+    val _ = Files.write(target.resolve(FontManifest.FileName), FontManifest.content(manifest))
+  }
+
+  //  Support  //
+
+  private def compile(source: Path, content: Array[Byte], target: Path): Unit = {
+    val lines = Source.fromBytes(content)(Codec.ISO8859).getLines()
+    val font  = FIGfont.fromFile(source.toFile, FontDigest.of(ByteBuffer.wrap(content)), lines, eager = true)
+
+    font match {
+      case Valid(figfont) =>
+        Files.createDirectories(target.getParent)
+        val output = new FileOutputStream(target.toFile)
+        try CompiledFont.write(figfont, output)
+        finally output.close()
+      case Invalid(errors) =>
+        throw new FigletLoadingError(s"Cannot compile $source: ${errors.map(_.getMessage).toList.mkString(", ")}")
+    }
+  }
+
+}
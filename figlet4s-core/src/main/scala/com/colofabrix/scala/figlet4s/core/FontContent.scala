@@ -0,0 +1,21 @@
+package com.colofabrix.scala.figlet4s.core
+
+import com.colofabrix.scala.figlet4s.figfont._
+import java.io.File
+import java.nio.ByteBuffer
+
+/**
+ * The content of a font file as it's read, both as raw bytes and as decoded lines
+ *
+ * @param file  The font file
+ * @param bytes The raw bytes of the font file, before they're decoded. When the file is zipped they're the bytes of the
+ *              font file inside the archive.
+ * @param lines The lines of the font file, decoded with the codec of the file
+ */
+final private[figlet4s] class FontContent(val file: File, bytes: ByteBuffer, val lines: Iterator[String]) {
+
+  /** The identifier of the FIGfont of the file, computed from the raw bytes only when it's requested */
+  def id: String =
+    FontDigest.of(bytes)
+
+}
@@ -3,75 +3,228 @@ package com.colofabrix.scala.figlet4s.core
 import cats.effect._
 import cats.implicits._
 import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.instrumentation._
 import java.io._
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.nio.file._
+import java.util.Locale
 import java.util.zip._
+import scala.collection.AbstractIterator
 import scala.io._
+import scala.jdk.CollectionConverters._
 
+/**
+ * Reads the content of the FIGfont files and splits it into lines
+ *
+ * A file is read whole into memory, as FIGfont files are small, and its lines are split directly from its bytes when it
+ * is encoded in ISO-8859-1, the encoding of almost all FIGfonts, without going through a CharsetDecoder. Any other
+ * encoding is decoded reporting malformed input. A file can be a ZIP archive, in which case its first entry is the
+ * FIGfont, or every FLF entry when reading all the FIGfonts of the archive. The raw bytes of the FIGfont are kept next
+ * to its lines so that its identifier is computed from the bytes as they are read, see [[FontContent]].
+ */
 private[figlet4s] object FontFileReader {
 
   /**
-   * Reads a font file, even zipped, from file system and passes the reader to a function
+   * Reads a font file, even zipped, from file system and passes its content to a function
    */
-  def read[F[_]: Sync, A](path: String, codec: Codec)(f: (File, BufferedSource) => F[A]): F[A] = {
-    def bs   = new BufferedInputStream(new FileInputStream(path))
-    def file = new File(path)
-    read(bs, codec)(f(file, _))
-  }
+  def read[F[_]: Sync, A](path: String, codec: Codec)(f: FontContent => F[A]): F[A] =
+    readSource(FontSource.FromPath(Paths.get(path)), codec)(f)
+
+  /**
+   * Reads a font file, even zipped, from any source and passes its content to a function
+   */
+  def readSource[F[_]: Sync, A](source: FontSource, codec: Codec)(f: FontContent => F[A]): F[A] =
+    Instrumentation.measured[F, FontReadMeasurement, A](_.fontRead()) {
+      loading {
+        for {
+          buffer  <- content(source)
+          font    <- firstFont(buffer)
+          content <- fontContent(new File(source.name), font, codec)
+          result  <- f(content)
+        } yield result
+      }
+    }(_ => FontReadMeasurement(source.name, internal = false))
 
   /**
-   * Reads a font file from the internal library resources (files or JAR)
+   * Reads all the font files of a source, in a single pass, and passes the content of each one to a function
+   *
+   * When the source is a ZIP archive the font files are its entries with the FLF extension, in the order they're stored
+   * in the archive, otherwise the source is the only font file.
    */
-  def readInternal[F[_]: Sync, A](path: String, codec: Codec)(f: (File, BufferedSource) => F[A]): F[A] = {
-    def is   = Source.fromInputStream(this.getClass.getClassLoader.getResourceAsStream(path))(codec)
+  def readSourceAll[F[_]: Sync, A](source: FontSource, codec: Codec)(f: FontContent => F[A]): F[Vector[A]] =
+    Instrumentation.measured[F, FontReadMeasurement, Vector[A]](_.fontRead()) {
+      loading {
+        content(source).flatMap { buffer =>
+          if (isZip(buffer)) {
+            Sync[F].delay(fontEntries(buffer)).flatMap {
+              case Vector() =>
+                val error = FigletLoadingError(s"Cannot find any font file in the ZIP ${source.name}")
+                Sync[F].raiseError[Vector[A]](error)
+              case entries =>
+                entries.traverse { case (entry, bytes) =>
+                  fontContent(new File(entry), ByteBuffer.wrap(bytes), codec).flatMap(f)
+                }
+            }
+          } else {
+            fontContent(new File(source.name), buffer, codec).flatMap(f).map(Vector(_))
+          }
+        }
+      }
+    }(_ => FontReadMeasurement(source.name, internal = false))
+
+  /**
+   * Reads a font file, even zipped, stored as an entry of a ZIP archive on file system and passes its content to a
+   * function
+   */
+  def readEntry[F[_]: Sync, A](path: String, entry: String, codec: Codec)(f: FontContent => F[A]): F[A] =
+    Instrumentation.measured[F, FontReadMeasurement, A](_.fontRead()) {
+      loading {
+        for {
+          bytes   <- Sync[F].blocking(readArchiveEntry(path, entry))
+          font    <- firstFont(ByteBuffer.wrap(bytes))
+          content <- fontContent(new File(entry), font, codec)
+          result  <- f(content)
+        } yield result
+      }
+    }(_ => FontReadMeasurement(s"$path!$entry", internal = false))
+
+  /**
+   * Reads a font file from the internal library resources (files or JAR) and passes its content to a function
+   */
+  def readInternal[F[_]: Sync, A](path: String, codec: Codec)(f: FontContent => F[A]): F[A] = {
     def file = new File(this.getClass.getClassLoader.getResource(path).getPath)
-    Braket.withResource(tapSource(is))(f(file, _))
+    Instrumentation.measured[F, FontReadMeasurement, A](_.fontRead()) {
+      loading {
+        for {
+          bytes   <- readInternalBytes(path)
+          content <- fontContent(file, ByteBuffer.wrap(bytes), codec)
+          result  <- f(content)
+        } yield result
+      }
+    }(_ => FontReadMeasurement(path, internal = true))
   }
 
+  /**
+   * Reads a compiled font from the internal library resources (files or JAR), if it exists
+   */
+  def readInternalCompiled[F[_]: Sync, A](path: String)(f: (File, Array[Byte]) => F[A]): F[Option[A]] = {
+    val compiledPath = path.replaceFirst("\\.flf$", CompiledFont.Extension)
+    def file         = new File(this.getClass.getClassLoader.getResource(path).getPath)
+
+    Sync[F]
+      .delay {
+        Option(this.getClass.getClassLoader.getResourceAsStream(compiledPath)).map { stream =>
+          try stream.readAllBytes()
+          finally stream.close()
+        }
+      }
+      .flatMap(_.traverse(f(file, _)))
+  }
+
+  /**
+   * Reads all the bytes of a font file from the internal library resources (files or JAR)
+   */
+  def readInternalBytes[F[_]: Sync](path: String): F[Array[Byte]] =
+    Sync[F]
+      .delay {
+        Option(this.getClass.getClassLoader.getResourceAsStream(path)).map { stream =>
+          try stream.readAllBytes()
+          finally stream.close()
+        }
+      }
+      .flatMap(_.liftTo[F](FigletLoadingError(s"Cannot find internal font file $path")))
+
+  /**
+   * Checks if the content of a file is a ZIP archive
+   */
+  def isZip(content: Array[Byte]): Boolean =
+    isZip(ByteBuffer.wrap(content))
+
   //  Support  //
 
-  private[core] def read[F[_]: Sync, A](bif: => BufferedInputStream, codec: Codec)(f: BufferedSource => F[A]): F[A] =
-    Braket.withResource(bif) { inputStream =>
-      for {
-        isZip  <- isZipFile(inputStream)
-        stream <- if (isZip) readZip(inputStream) else readText(inputStream)
-        result <- f(Source.fromInputStream(stream)(codec))
-      } yield result
+  private def content[F[_]: Sync](source: FontSource): F[ByteBuffer] =
+    source match {
+      case FontSource.FromPath(path)        => Sync[F].blocking(ByteBuffer.wrap(Files.readAllBytes(path)))
+      case FontSource.FromBuffer(buffer, _) => Sync[F].delay(buffer.duplicate())
+      case FontSource.FromStream(stream, _) => Sync[F].blocking(ByteBuffer.wrap(stream.readAllBytes()))
     }
 
-  // This forces the BufferedSource to evaluate and to raise errors early on
-  private def tapSource(bs: BufferedSource): BufferedSource = {
-    val tester = bs.bufferedReader()
-    tester.mark(1)
-    bs
+  // Like Braket, any error reading a file is raised as a FigletLoadingError, even when F can't suspend it like Id
+  private def loading[F[_]: Sync, A](fa: => F[A]): F[A] = {
+    def loadingError(error: Throwable): F[A] =
+      error match {
+        case e: FigletLoadingError => Sync[F].raiseError(e)
+        case e                     => Sync[F].raiseError(FigletLoadingError(e.getMessage, e))
+      }
+    Either.catchNonFatal(fa).fold(loadingError, _.handleErrorWith(loadingError))
   }
 
-  private def readText[F[_]: Sync, R <: BufferedInputStream, A](is: BufferedInputStream): F[BufferedInputStream] =
-    Sync[F].delay(is)
+  // Like FIGlet, the FIGfont of a ZIP archive is its first entry
+  private def firstFont[F[_]: Sync](buffer: ByteBuffer): F[ByteBuffer] =
+    if (!isZip(buffer)) {
+      Sync[F].pure(buffer)
+    } else {
+      Sync[F].delay {
+        val zip = new ZipInputStream(new ByteBufferInputStream(buffer))
+        try Option(zip.getNextEntry).map(_ => zip.readAllBytes())
+        finally zip.close()
+      }.flatMap {
+        case Some(bytes) => Sync[F].pure(ByteBuffer.wrap(bytes))
+        case None        => Sync[F].raiseError[ByteBuffer](FigletLoadingError("Cannot read font file from ZIP"))
+      }
+    }
 
-  private def isZipFile[F[_]: Sync](is: BufferedInputStream): F[Boolean] =
-    Sync[F].delay {
-      is.mark(4)
+  private def fontContent[F[_]: Sync](file: File, buffer: ByteBuffer, codec: Codec): F[FontContent] =
+    lines(buffer, codec).map(new FontContent(file, buffer, _))
 
-      val headerBytes =
-        Iterator
-          .continually(is.read())
-          .takeWhile(_ > -1)
-          .take(4)
-          .toList
-          .map(_.toByte)
+  private def lines[F[_]: Sync](buffer: ByteBuffer, codec: Codec): F[Iterator[String]] =
+    if (codec.charSet == StandardCharsets.ISO_8859_1) {
+      Sync[F].delay(new Latin1Lines(buffer))
+    } else {
+      Sync[F].delay {
+        val text = codec.decoder.decode(buffer.duplicate()).toString
+        new BufferedReader(new StringReader(text)).lines.iterator.asScala
+      }
+    }
 
-      is.reset()
-      zipMagicBytes.contains(headerBytes)
+  private def fontEntries(buffer: ByteBuffer): Vector[(String, Array[Byte])] = {
+    val zip = new ZipInputStream(new ByteBufferInputStream(buffer))
+    try {
+      Iterator
+        .continually(zip.getNextEntry)
+        .takeWhile(Option(_).isDefined)
+        .filter(entry => !entry.isDirectory && entry.getName.toLowerCase(Locale.ROOT).endsWith(".flf"))
+        .map(entry => entry.getName -> zip.readAllBytes())
+        .toVector
+    } finally {
+      zip.close()
     }
+  }
 
-  private def readZip[F[_]: Sync, A](is: BufferedInputStream): F[BufferedInputStream] =
-    Sync[F].delay {
-      val zipInputStream = new ZipInputStream(is)
-      Option(zipInputStream.getNextEntry) match {
-        case Some(_) => Sync[F].pure(new BufferedInputStream(zipInputStream))
-        case None => Sync[F].raiseError[BufferedInputStream](new FigletLoadingError("Cannot read font file from ZIP"))
+  @SuppressWarnings(Array("org.wartremover.warts.Throw"))
+  private def readArchiveEntry(path: String, entry: String): Array[Byte] = {
+    val archive = new ZipFile(path)
+    try {
+      Option(archive.getEntry(entry)) match {
+        case Some(zipEntry) =>
+          val stream = archive.getInputStream(zipEntry)
+          try stream.readAllBytes()
+          finally stream.close()
+        case None =>
+          throw FigletLoadingError(s"Cannot find the entry $entry in the ZIP archive $path")
       }
-    }.flatten
+    } finally {
+      archive.close()
+    }
+  }
+
+  private def isZip(buffer: ByteBuffer): Boolean =
+    buffer.remaining >= 4 && {
+      val position = buffer.position()
+      zipMagicBytes.contains(List.tabulate(4)(i => buffer.get(position + i)))
+    }
 
   // See: https://www.wikiwand.com/en/List_of_file_signatures
   private val zipMagicBytes: List[List[Byte]] = List(
@@ -80,4 +233,72 @@ private[figlet4s] object FontFileReader {
     List(0x50, 0x4b, 0x07, 0x08), // Spanned archive
   )
 
+  /**
+   * The lines of the content of a buffer encoded in ISO-8859-1, where each byte is the character with the same code
+   *
+   * The lines are terminated by a line feed, a carriage return or a carriage return followed by a line feed, like
+   * [[java.io.BufferedReader#readLine]] does, and they're created from the bytes without decoding them.
+   */
+  @SuppressWarnings(
+    Array(
+      "org.wartremover.warts.Equals",
+      "org.wartremover.warts.Throw",
+      "org.wartremover.warts.Var",
+      "org.wartremover.warts.While",
+    ),
+  )
+  final private class Latin1Lines(buffer: ByteBuffer) extends AbstractIterator[String] {
+
+    private val source: ByteBuffer = buffer.duplicate()
+    private val limit: Int         = source.limit()
+    private var position: Int      = source.position()
+
+    def hasNext: Boolean =
+      position < limit
+
+    def next(): String = {
+      if (!hasNext) throw new NoSuchElementException("No more lines in the font file")
+      val start = position
+      var end   = start
+      while (end < limit && !isTerminator(source.get(end))) end += 1
+
+      position = if (end + 1 < limit && source.get(end) == '\r' && source.get(end + 1) == '\n') end + 2 else end + 1
+      string(start, end)
+    }
+
+    private def isTerminator(byte: Byte): Boolean =
+      byte == '\n' || byte == '\r'
+
+    private def string(start: Int, end: Int): String =
+      if (source.hasArray) {
+        new String(source.array(), source.arrayOffset() + start, end - start, StandardCharsets.ISO_8859_1)
+      } else {
+        val bytes = new Array[Byte](end - start)
+        val _     = source.duplicate().position(start).get(bytes)
+        new String(bytes, StandardCharsets.ISO_8859_1)
+      }
+
+  }
+
+  /** An InputStream of the bytes between the position and the limit of a buffer, leaving the buffer untouched */
+  final private class ByteBufferInputStream(buffer: ByteBuffer) extends InputStream {
+
+    private val source: ByteBuffer = buffer.duplicate()
+
+    override def read(): Int =
+      if (source.hasRemaining) source.get() & 0xff else -1
+
+    override def read(bytes: Array[Byte], offset: Int, length: Int): Int =
+      if (length == 0) {
+        0
+      } else if (!source.hasRemaining) {
+        -1
+      } else {
+        val count = Math.min(length, source.remaining)
+        val _     = source.get(bytes, offset, count)
+        count
+      }
+
+  }
+
 }
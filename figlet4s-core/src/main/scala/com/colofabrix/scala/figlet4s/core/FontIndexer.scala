@@ -0,0 +1,190 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.effect._
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.errors._
+import java.io._
+import java.nio.charset.StandardCharsets
+import java.nio.file._
+import java.util.Locale
+import java.util.zip._
+import scala.jdk.CollectionConverters._
+import scala.util.control.NonFatal
+
+/**
+ * Builds, reads and writes the [[FontCatalog]] of the FIGfonts of a directory
+ *
+ * The directory is walked recursively looking for FLF files, zipped or not, and for ZIP archives containing any number
+ * of FLF files. Each FIGfont is described by its [[FontMetadata]], parsing only its header and computing its identifier
+ * without parsing any FIGcharacter. The files are indexed in batches and each client API chooses how to run them, so
+ * that an effect can index them in parallel with its own tools.
+ *
+ * A catalog is written as a UTF-8 text file with one line for each FIGfont. Each line contains, separated by tabs, the
+ * path of the file of the FIGfont, the name of its entry if the file is a ZIP archive, and the same description of the
+ * FIGfont used by the [[FontManifest]].
+ */
+private[figlet4s] object FontIndexer {
+
+  /** Number of files indexed by each task, so that small FIGfonts don't pay a task each */
+  val BatchSize: Int = 16
+
+  private val FontExtension: String    = ".flf"
+  private val ArchiveExtension: String = ".zip"
+  private val Separator: Char          = '\t'
+
+  /**
+   * Indexes all the FIGfonts of a directory and of its subdirectories
+   *
+   * @param directory    The directory containing the FIGfonts
+   * @param indexBatches The function that indexes the batches of files, returning their catalogs in the same order
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return The catalog of the FIGfonts of the directory
+   */
+  def index[F[_]: Sync](directory: String)(indexBatches: Vector[Batch] => F[Vector[FontCatalog]]): F[FontCatalog] =
+    for {
+      root    <- Sync[F].delay(Paths.get(directory))
+      files   <- fontFiles[F](root)
+      indexed <- indexBatches(files.grouped(BatchSize).map(new Batch(root, _)).toVector)
+    } yield FontCatalog.concat(indexed)
+
+  /**
+   * Reads a catalog written by [[write]]
+   *
+   * @param path The path of the file of the catalog
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return A [[com.colofabrix.scala.figlet4s.errors.FigletResult FigletResult]] containing the catalog or a list of
+   *         errors occurred during the parsing of its lines
+   */
+  def read[F[_]: Sync](path: String): F[FigletResult[FontCatalog]] =
+    Sync[F]
+      .blocking(Either.catchNonFatal(Files.readAllLines(Paths.get(path), StandardCharsets.UTF_8).asScala.toVector))
+      .flatMap(_.leftMap(e => FigletLoadingError(s"Cannot read the font catalog $path", e)).liftTo[F])
+      .map(_.filter(_.nonEmpty).traverse(parse).map(FontCatalog(_, Vector.empty)))
+
+  /**
+   * Writes a catalog into a file, replacing it if it exists. The invalid files of the catalog are not written.
+   *
+   * @param catalog The catalog to write
+   * @param path    The path of the file of the catalog
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return Unit when the catalog has been written
+   */
+  def write[F[_]: Sync](catalog: FontCatalog, path: String): F[Unit] =
+    Sync[F]
+      .blocking(Either.catchNonFatal(Files.write(Paths.get(path), FontManifest.content(catalog.entries.map(line)))))
+      .flatMap(_.leftMap(e => FigletLoadingError(s"Cannot write the font catalog $path", e)).liftTo[F].void)
+
+  /**
+   * A group of files of a directory that are indexed together
+   *
+   * @param root  The directory being indexed
+   * @param files The files of the batch
+   */
+  final class Batch private[FontIndexer] (root: Path, files: Vector[Path]) {
+
+    /**
+     * Indexes the files of the batch, blocking the current thread while they are read
+     *
+     * @return The catalog of the FIGfonts of the files
+     */
+    def index(): FontCatalog =
+      FontCatalog.concat(files.map(indexFile(root, _)))
+
+  }
+
+  //  Support  //
+
+  private def fontFiles[F[_]: Sync](root: Path): F[Vector[Path]] =
+    Sync[F].blocking {
+      if (!Files.isDirectory(root)) {
+        Left(FigletLoadingError(s"Cannot find the directory of fonts $root"))
+      } else {
+        Either.catchNonFatal {
+          val stream = Files.walk(root)
+          try stream.iterator.asScala.filter(path => isFont(path) || isArchive(path)).toVector.sortBy(_.toString)
+          finally stream.close()
+        }.leftMap(e => FigletLoadingError(s"Cannot list the fonts of the directory $root", e))
+      }
+    }.flatMap(_.liftTo[F])
+
+  // A file that can't be read or that isn't a valid FIGfont is reported in the catalog instead of failing the indexing
+  private def indexFile(root: Path, file: Path): FontCatalog = {
+    val relative = root.relativize(file).iterator.asScala.map(_.toString).mkString("/")
+    try {
+      if (isArchive(file)) indexArchive(withoutExtension(relative), file)
+      else describe(withoutExtension(relative), file.toString, None, readFont(Files.readAllBytes(file)))
+    } catch {
+      case NonFatal(_) => FontCatalog(Vector.empty, Vector(file.toString))
+    }
+  }
+
+  private def indexArchive(name: String, file: Path): FontCatalog = {
+    val archive = new ZipFile(file.toFile)
+    try {
+      val fonts = archive.entries.asScala.filter(entry => !entry.isDirectory && isFont(entry.getName)).toVector
+      FontCatalog.concat {
+        fonts.sortBy(_.getName).map { entry =>
+          val content = readAll(archive.getInputStream(entry))
+          describe(s"$name/${withoutExtension(entry.getName)}", file.toString, Some(entry.getName), content)
+        }
+      }
+    } finally {
+      archive.close()
+    }
+  }
+
+  private def describe(name: String, path: String, archiveEntry: Option[String], content: Array[Byte]): FontCatalog =
+    FontManifest
+      .parse(FontManifest.line(name, content))
+      .fold(
+        _ => FontCatalog(Vector.empty, Vector(archiveEntry.fold(path)(entry => s"$path!$entry"))),
+        metadata => FontCatalog(Vector(FontCatalogEntry(metadata, path, archiveEntry)), Vector.empty),
+      )
+
+  // Like FIGlet, a FLF file can be a ZIP archive and then the FIGfont is its first entry
+  private def readFont(content: Array[Byte]): Array[Byte] =
+    if (!FontFileReader.isZip(content)) {
+      content
+    } else {
+      val zip = new ZipInputStream(new ByteArrayInputStream(content))
+      try Option(zip.getNextEntry).fold(Array.emptyByteArray)(_ => zip.readAllBytes())
+      finally zip.close()
+    }
+
+  private def readAll(stream: InputStream): Array[Byte] =
+    try stream.readAllBytes()
+    finally stream.close()
+
+  private def line(entry: FontCatalogEntry): String = {
+    val metadata = entry.metadata
+    Seq(
+      entry.path,
+      entry.archiveEntry.getOrElse(""),
+      metadata.name,
+      metadata.fileSize.toString,
+      metadata.id,
+      metadata.header.singleLine(),
+    ).mkString(Separator.toString)
+  }
+
+  private def parse(line: String): FigletResult[FontCatalogEntry] =
+    line.split(Separator.toString, 3) match {
+      case Array(path, archiveEntry, description) =>
+        FontManifest.parse(description).map(FontCatalogEntry(_, path, Option(archiveEntry).filter(_.nonEmpty)))
+      case _ =>
+        FigletLoadingError(s"Invalid line in the font catalog: $line").invalidNec
+    }
+
+  private def isFont(path: Path): Boolean =
+    Files.isRegularFile(path) && isFont(path.getFileName.toString)
+
+  private def isFont(name: String): Boolean =
+    name.toLowerCase(Locale.ROOT).endsWith(FontExtension)
+
+  private def isArchive(path: Path): Boolean =
+    Files.isRegularFile(path) && path.getFileName.toString.toLowerCase(Locale.ROOT).endsWith(ArchiveExtension)
+
+  private def withoutExtension(name: String): String =
+    name.substring(0, name.lastIndexOf('.'))
+
+}
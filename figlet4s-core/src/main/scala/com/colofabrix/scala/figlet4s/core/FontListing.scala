@@ -16,10 +16,26 @@ private[figlet4s] object FontListing {
   /**
    * The list of available internal fonts
    *
+   * The names are read from the [[FontManifest]] generated when the library is built, with a single resource lookup,
+   * and use "/" to separate the subdirectories on every system. The resources of the library are scanned only when the
+   * manifest is not available.
+   *
    * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
    * @return The collection of names of FIGfonts shipped with this library
    */
   def listInternalFonts[F[_]: Sync]: F[Vector[String]] =
+    FontManifest.read.flatMap {
+      case Some(lines) => Sync[F].pure(lines.map(FontManifest.name))
+      case None        => scanInternalFonts
+    }
+
+  /**
+   * The list of available internal fonts found scanning the resources of the library
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return The collection of names of FIGfonts shipped with this library
+   */
+  def scanInternalFonts[F[_]: Sync]: F[Vector[String]] =
     LibraryLocation
       .discover
       .flatMap {
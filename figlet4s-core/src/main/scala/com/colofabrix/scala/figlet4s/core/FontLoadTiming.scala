@@ -0,0 +1,13 @@
+package com.colofabrix.scala.figlet4s.core
+
+import scala.concurrent.duration.FiniteDuration
+
+/**
+ * Time spent to preload an internal FIGfont into the cache of loaded FIGfonts
+ *
+ * @param name       The name of the internal FIGfont
+ * @param id         The identifier of the loaded FIGfont
+ * @param loadTime   The time spent to load the FIGfont, close to zero when the FIGfont was already in the cache
+ * @param warmUpTime The time spent to render the warm-up text with the FIGfont, zero when the warm-up is not requested
+ */
+final case class FontLoadTiming(name: String, id: String, loadTime: FiniteDuration, warmUpTime: FiniteDuration)
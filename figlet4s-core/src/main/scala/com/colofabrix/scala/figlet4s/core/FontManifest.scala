@@ -0,0 +1,93 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.effect._
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.figfont._
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import scala.io._
+
+/**
+ * Manifest of the internal FIGfonts, generated when the library is built and shipped as a resource next to the fonts
+ *
+ * The manifest is a UTF-8 text file with one line for each internal FIGfont. Each line contains, separated by tabs, the
+ * name of the FIGfont using `/` as path separator, the size of its FLF file, its identifier and its FLF header line.
+ */
+private[figlet4s] object FontManifest {
+
+  /** Location of the manifest inside the resources of the library */
+  val Path: String = "fonts/manifest.tsv"
+
+  /** Name of the manifest file inside the directory of the fonts */
+  val FileName: String = "manifest.tsv"
+
+  private val Separator: Char = '\t'
+
+  /**
+   * Creates the line of the manifest that describes a FIGfont, reading only its header and its identifier
+   *
+   * @param name    The name of the FIGfont, using `/` as path separator
+   * @param content The content of the FLF file of the FIGfont
+   * @return The line of the manifest describing the FIGfont
+   */
+  def line(name: String, content: Array[Byte]): String = {
+    val lines  = Source.fromBytes(content)(Codec.ISO8859).getLines()
+    val header = if (lines.hasNext) lines.next() else ""
+
+    Seq(name, content.length.toString, FontDigest.of(ByteBuffer.wrap(content)), header).mkString(Separator.toString)
+  }
+
+  /**
+   * Reads the lines of the manifest of the internal FIGfonts with a single resource lookup
+   *
+   * @tparam F A higher-kinded type for which there is a [[cats.effect.Sync]] instance
+   * @return The lines of the manifest or None if the library has been built without a manifest
+   */
+  def read[F[_]: Sync]: F[Option[Vector[String]]] =
+    Sync[F].delay {
+      Option(this.getClass.getClassLoader.getResourceAsStream(Path)).map { stream =>
+        val source = Source.fromInputStream(stream)(Codec.UTF8)
+        try source.getLines().filter(_.nonEmpty).toVector
+        finally source.close()
+      }
+    }
+
+  /**
+   * Extracts the name of the FIGfont from a line of the manifest
+   *
+   * @param line The line of the manifest
+   * @return The name of the FIGfont described by the line
+   */
+  def name(line: String): String =
+    line.takeWhile(_ != Separator)
+
+  /**
+   * Parses a line of the manifest into the description of a FIGfont
+   *
+   * @param line The line of the manifest
+   * @return A [[com.colofabrix.scala.figlet4s.errors.FigletResult FigletResult]] containing the description of the
+   *         FIGfont or a list of errors occurred during the parsing
+   */
+  def parse(line: String): FigletResult[FontMetadata] =
+    line.split(Separator.toString, 4) match {
+      case Array(name, fileSize, id, headerLine) =>
+        val fileSizeV = fileSize.toLongOption.toValidNec(FigletLoadingError(s"Invalid file size in manifest for $name"))
+        val headerV   = FIGheader(headerLine)
+        val settingsV = headerV.andThen(FIGfontSettings.fromHeader)
+
+        (fileSizeV, headerV, settingsV).mapN(FontMetadata(name, id, _, _, _))
+      case _ =>
+        FigletLoadingError(s"Invalid line in the manifest of the internal fonts: $line").invalidNec
+    }
+
+  /**
+   * The bytes of a manifest made of the given lines
+   *
+   * @param lines The lines of the manifest
+   * @return The content of the manifest file
+   */
+  def content(lines: Seq[String]): Array[Byte] =
+    lines.map(_ + "\n").mkString.getBytes(StandardCharsets.UTF_8)
+
+}
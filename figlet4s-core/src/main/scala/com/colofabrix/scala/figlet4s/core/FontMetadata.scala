@@ -0,0 +1,14 @@
+package com.colofabrix.scala.figlet4s.core
+
+import com.colofabrix.scala.figlet4s.figfont._
+
+/**
+ * Description of a FIGfont that is available without loading the FIGfont
+ *
+ * @param name     The name of the FIGfont, as accepted when loading internal FIGfonts or as listed in a FontCatalog
+ * @param id       The identifier of the FIGfont, the same of the loaded FIGfont
+ * @param fileSize The size in bytes of the FLF file of the FIGfont
+ * @param header   The FIGheader of the FIGfont, containing its height, baseline and number of code-tagged FIGcharacters
+ * @param settings The default layouts and print direction of the FIGfont
+ */
+final case class FontMetadata(name: String, id: String, fileSize: Long, header: FIGheader, settings: FIGfontSettings)
@@ -0,0 +1,47 @@
+package com.colofabrix.scala.figlet4s.core
+
+import java.io.InputStream
+import java.nio.ByteBuffer
+import java.nio.file.Path
+
+/**
+ * Where the content of a FIGfont file is read from, either a FLF file or a ZIP archive of FLF files
+ */
+sealed trait FontSource extends Product with Serializable {
+
+  /**
+   * The name of the file of the source, used to name the FIGfont it contains
+   */
+  def name: String
+
+}
+
+object FontSource {
+
+  /**
+   * A file on any file system
+   *
+   * @param path The path of the file
+   */
+  final case class FromPath(path: Path) extends FontSource {
+    def name: String = path.toString
+  }
+
+  /**
+   * The bytes of a file between the position and the limit of a buffer, like a memory-mapped file. The buffer itself is
+   * never modified.
+   *
+   * @param buffer The buffer containing the content of the file
+   * @param name   The name of the file, like `standard.flf`
+   */
+  final case class FromBuffer(buffer: ByteBuffer, name: String) extends FontSource
+
+  /**
+   * The bytes of a stream, read until its end. The stream is not closed.
+   *
+   * @param stream The stream of the content of the file
+   * @param name   The name of the file, like `standard.flf`
+   */
+  final case class FromStream(stream: InputStream, name: String) extends FontSource
+
+}
@@ -0,0 +1,226 @@
+package com.colofabrix.scala.figlet4s.core
+
+import com.colofabrix.scala.figlet4s.control._
+import com.colofabrix.scala.figlet4s.core.RenderCache._
+import com.colofabrix.scala.figlet4s.figfont.FIGfontParameters.{
+  HorizontalLayout => FontHorizontalLayout, PrintDirection => FontDirection,
+}
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.options._
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * Thread-safe cache of rendered FIGures, bounded by the total number of characters of the FIGures it contains.
+ *
+ * The cache is split in segments, each one with its own lock and its own share of the maximum weight, so that
+ * concurrent renderings don't all wait on the same lock. Inside a segment the least recently used FIGures are evicted
+ * first and a FIGure heavier than a whole segment is never stored. Concurrent renderings of the same text are not
+ * collapsed because rendering is cheaper than loading a FIGfont.
+ *
+ * @param initialMaxWeight The maximum number of characters of all the FIGures kept in the cache
+ * @param segments         The number of segments the cache is split into
+ */
+@SuppressWarnings(Array("org.wartremover.warts.NonUnitStatements", "org.wartremover.warts.Var"))
+final private[figlet4s] class RenderCache(initialMaxWeight: Long, segments: Int = DefaultSegments) {
+
+  private val parts: Vector[Segment] =
+    Vector.fill(Math.max(1, segments))(new Segment())
+
+  private val hits: LongAdder      = new LongAdder()
+  private val misses: LongAdder    = new LongAdder()
+  private val evictions: LongAdder = new LongAdder()
+
+  @volatile private var maxWeight: Long = 0L
+  resize(initialMaxWeight)
+
+  /**
+   * Returns the FIGure stored in the cache for the given text and options or renders it if it is not present
+   *
+   * @param text    The text to render
+   * @param options The rendering options used to render the text
+   * @param render  The rendering of the text to run when the FIGure is not present in the cache
+   * @return The FIGure found in the cache or the result of the rendering
+   */
+  def getOrRender(text: String, options: RenderOptions)(render: => FIGure): FIGure =
+    if (maxWeight > 0) {
+      val key     = Key(text, options)
+      val segment = segmentOf(key)
+
+      segment.get(key) match {
+        case Some(figure) =>
+          hits.increment()
+          figure
+        case None =>
+          misses.increment()
+          val figure = render
+          segment.put(key, figure, weightOf(figure))
+          figure
+      }
+    } else {
+      render
+    }
+
+  /**
+   * The statistics of usage of the cache
+   *
+   * @return The current statistics of the cache
+   */
+  def stats: RenderCacheStats =
+    RenderCacheStats(
+      hits = hits.sum(),
+      misses = misses.sum(),
+      evictions = evictions.sum(),
+      size = parts.map(_.size).sum,
+      weight = parts.map(_.weight).sum,
+      maxWeight = maxWeight,
+    )
+
+  /**
+   * Removes all FIGures from the cache, keeping the statistics
+   */
+  def clear(): Unit =
+    parts.foreach(_.clear())
+
+  /**
+   * Changes the maximum weight of the cache, evicting the least recently used FIGures if needed
+   *
+   * @param newMaxWeight The new maximum number of characters of all the FIGures, where zero disables the cache
+   */
+  def resize(newMaxWeight: Long): Unit = {
+    maxWeight = Math.max(0L, newMaxWeight)
+    parts.foreach(_.resize(maxWeight / parts.size))
+  }
+
+  //  Support  //
+
+  private def segmentOf(key: Key): Segment = {
+    val hash = key.hashCode
+    parts(((hash ^ (hash >>> 16)) & Int.MaxValue) % parts.size)
+  }
+
+  /** One independent part of the cache with its own lock */
+  @SuppressWarnings(Array("org.wartremover.warts.While"))
+  private class Segment {
+
+    private val entries: java.util.LinkedHashMap[Key, Entry] =
+      new java.util.LinkedHashMap[Key, Entry](16, 0.75f, true)
+
+    private var totalWeight: Long = 0L
+    private var maxWeight: Long   = 0L
+
+    def get(key: Key): Option[FIGure] =
+      synchronized {
+        Option(entries.get(key)).map(_.figure)
+      }
+
+    def put(key: Key, figure: FIGure, weight: Long): Unit =
+      synchronized {
+        if (weight <= maxWeight) {
+          Option(entries.put(key, Entry(figure, weight))).foreach(previous => totalWeight -= previous.weight)
+          totalWeight += weight
+          evictExceeding()
+        }
+      }
+
+    def size: Int =
+      synchronized(entries.size)
+
+    def weight: Long =
+      synchronized(totalWeight)
+
+    def clear(): Unit =
+      synchronized {
+        entries.clear()
+        totalWeight = 0L
+      }
+
+    def resize(newMaxWeight: Long): Unit =
+      synchronized {
+        maxWeight = newMaxWeight
+        evictExceeding()
+      }
+
+    private def evictExceeding(): Unit =
+      while (totalWeight > maxWeight) {
+        val eldest = entries.entrySet.iterator.next()
+        entries.remove(eldest.getKey)
+        totalWeight -= eldest.getValue.weight
+        evictions.increment()
+      }
+
+  }
+
+}
+
+private[figlet4s] object RenderCache {
+
+  /**
+   * Key that identifies a rendered FIGure in the cache. The layouts are the ones resolved against the FIGfont so that
+   * options that render the same way share the same FIGure.
+   *
+   * @param fontId           The identifier of the FIGfont
+   * @param horizontalLayout The horizontal layout used to render the text
+   * @param printDirection   The print direction used to render the text
+   * @param justification    The justification of the text
+   * @param maxWidth         The maximum width of rendered text
+   * @param controlFiles     The control files that translate the text before it's rendered
+   * @param lineBreaking     Where the text is broken into lines
+   * @param text             The rendered text
+   */
+  final case class Key(
+      fontId: String,
+      horizontalLayout: FontHorizontalLayout,
+      printDirection: FontDirection,
+      justification: Justification,
+      maxWidth: Int,
+      controlFiles: Seq[ControlFile],
+      lineBreaking: LineBreaking,
+      text: String,
+  )
+
+  object Key {
+
+    /**
+     * Creates the key of a text rendered with the given options
+     */
+    def apply(text: String, options: RenderOptions): Key =
+      Key(
+        options.font.id,
+        HorizontalLayout.toInternalLayout(options.font)(options.horizontalLayout),
+        PrintDirection.toInternalLayout(options.font)(options.printDirection),
+        options.justification,
+        options.maxWidth,
+        options.controlFiles,
+        options.lineBreaking,
+        text,
+      )
+
+  }
+
+  /** A FIGure stored in the cache with its weight */
+  final private case class Entry(figure: FIGure, weight: Long)
+
+  /**
+   * The weight of a FIGure, as the number of characters of its rendering
+   */
+  def weightOf(figure: FIGure): Long =
+    figure.value.length.toLong + figure.buffer.cells
+
+  /** Default number of segments of the cache */
+  val DefaultSegments: Int = 16
+
+  /** Default maximum weight of the cache, which means that the cache is disabled unless configured */
+  val defaultMaxWeight: Long = 0L
+
+  /** System property used to set the initial maximum weight of the shared cache, as a number of characters */
+  val maxWeightProperty: String = "figlet4s.rendercache.maxweight"
+
+  /** The cache shared by all client APIs */
+  lazy val shared: RenderCache =
+    new RenderCache(
+      Option(System.getProperty(maxWeightProperty))
+        .flatMap(_.toLongOption)
+        .getOrElse(defaultMaxWeight),
+    )
+
+}
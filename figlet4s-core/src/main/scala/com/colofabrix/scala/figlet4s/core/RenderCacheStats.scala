@@ -0,0 +1,21 @@
+package com.colofabrix.scala.figlet4s.core
+
+/**
+ * Statistics of usage of the cache of rendered FIGures
+ *
+ * @param hits      The number of renderings served with a FIGure already present in the cache
+ * @param misses    The number of renderings of a FIGure that was not present in the cache
+ * @param evictions The number of FIGures removed from the cache to make room for new ones
+ * @param size      The number of FIGures currently in the cache
+ * @param weight    The number of characters of all the FIGures currently in the cache
+ * @param maxWeight The maximum number of characters of all the FIGures that the cache can contain
+ */
+final case class RenderCacheStats(hits: Long, misses: Long, evictions: Long, size: Int, weight: Long, maxWeight: Long) {
+
+  /**
+   * The fraction of renderings served by the cache, between zero and one
+   */
+  def hitRatio: Double =
+    if (hits + misses > 0) hits.toDouble / (hits + misses) else 0.0
+
+}
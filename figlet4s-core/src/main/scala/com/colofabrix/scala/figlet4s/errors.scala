@@ -140,4 +140,17 @@ object errors {
 
   }
 
+  /**
+   * An error that can occur when interpreting a FIGfont control file
+   *
+   * @param message The description of the error
+   */
+  final class ControlFileError(message: String) extends FigletException(message)
+
+  object ControlFileError {
+
+    def apply(message: String): ControlFileError = new ControlFileError(message: String)
+
+  }
+
 }
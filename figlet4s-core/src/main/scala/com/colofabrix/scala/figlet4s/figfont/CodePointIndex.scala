@@ -0,0 +1,102 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+/**
+ * Immutable index that associates code points to slots, looked up without boxing or allocating
+ *
+ * The code points from 0 to 255, which cover the characters required by all FIGfonts and the vast majority of the
+ * rendered text, are stored in a dense array. All other code points, including the negative codes that FLF files use
+ * for characters that can't be typed, are stored in an open-addressing hash table with linear probing.
+ *
+ * @param dense  The slot of each code point below [[CodePointIndex.DenseSize]], or -1 when missing
+ * @param keys   The keys of the hash table
+ * @param values The slot of each key of the hash table, or -1 for an empty bucket
+ */
+@SuppressWarnings(
+  Array("org.wartremover.warts.Equals", "org.wartremover.warts.Var", "org.wartremover.warts.While"),
+)
+final private[figlet4s] class CodePointIndex private (
+    dense: Array[Int],
+    keys: Array[Int],
+    values: Array[Int],
+) {
+
+  /**
+   * Returns the slot associated with a code point
+   *
+   * @param codePoint The code point to look up
+   * @return The slot of the code point, or -1 when the code point is not present
+   */
+  def slotOf(codePoint: Int): Int =
+    if (codePoint >= 0 && codePoint < CodePointIndex.DenseSize) {
+      dense(codePoint)
+    } else {
+      val mask   = keys.length - 1
+      var bucket = CodePointIndex.hash(codePoint) & mask
+      var result = -2
+      while (result == -2) {
+        val slot = values(bucket)
+        if (slot < 0) result = -1
+        else if (keys(bucket) == codePoint) result = slot
+        else bucket = (bucket + 1) & mask
+      }
+      result
+    }
+
+  /** Iterates over all the code points of the index together with their slot */
+  def iterator: Iterator[(Int, Int)] = {
+    val denseEntries = dense.iterator.zipWithIndex.collect { case (slot, cp) if slot >= 0 => cp -> slot }
+    val hashEntries  = keys.iterator.zip(values.iterator).filter(_._2 >= 0)
+    denseEntries ++ hashEntries
+  }
+
+}
+
+@SuppressWarnings(
+  Array("org.wartremover.warts.Equals", "org.wartremover.warts.Var", "org.wartremover.warts.While"),
+)
+private[figlet4s] object CodePointIndex {
+
+  /** Number of code points, starting from zero, stored in the dense array */
+  val DenseSize: Int = 256
+
+  /**
+   * Creates an index of the given code points, where each code point is associated with the slot of its position. When
+   * a code point appears more than once the last position wins.
+   *
+   * @param codePoints The code points to index
+   * @return A new CodePointIndex of the given code points
+   */
+  def apply(codePoints: Array[Int]): CodePointIndex = {
+    val dense = Array.fill(DenseSize)(-1)
+
+    val sparseCount = codePoints.count(cp => cp < 0 || cp >= DenseSize)
+    var capacity    = 4
+    while (capacity < sparseCount * 2) capacity *= 2
+    val keys   = new Array[Int](capacity)
+    val values = Array.fill(capacity)(-1)
+    val mask   = capacity - 1
+
+    var slot = 0
+    while (slot < codePoints.length) {
+      val codePoint = codePoints(slot)
+      if (codePoint >= 0 && codePoint < DenseSize) {
+        dense(codePoint) = slot
+      } else {
+        var bucket = hash(codePoint) & mask
+        while (values(bucket) >= 0 && keys(bucket) != codePoint) bucket = (bucket + 1) & mask
+        keys(bucket) = codePoint
+        values(bucket) = slot
+      }
+      slot += 1
+    }
+
+    new CodePointIndex(dense, keys, values)
+  }
+
+  /** Spreads the bits of the code points, that are often consecutive, over the whole hash table */
+  private def hash(codePoint: Int): Int = {
+    val h = codePoint * 0x9e3779b9
+    h ^ (h >>> 16)
+  }
+
+}
@@ -0,0 +1,194 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.figfont.FIGheaderParameters.{ FullLayout, OldLayout }
+import java.io._
+import java.nio._
+import java.nio.charset.StandardCharsets
+import scala.util._
+
+/**
+ * Compact binary format of a FIGfont, used to ship the FIGfonts of the library already parsed and validated
+ *
+ * All numbers are big-endian and all strings are stored as their length followed by their UTF-8 bytes. The layout is:
+ *
+ * {{{
+ * magic number "FLFB", format version
+ * id, name, comment
+ * header: signature, hardblank, height, baseline, maxLength, commentLines, oldLayout, printDirection, fullLayout,
+ *         codetagCount, where optional values are preceded by a presence flag and layouts by the number of values
+ * number of FIGcharacters, then for each FIGcharacter:
+ *         name, endmark, width, position, optional comment, the rows packed into a single string of height × width
+ * }}}
+ *
+ * The settings of the FIGfont are not stored as they are derived from the header. When read, the FIGcharacters are
+ * created only the first time they are requested.
+ */
+@SuppressWarnings(
+  Array(
+    "org.wartremover.warts.Equals",
+    "org.wartremover.warts.NonUnitStatements",
+    "org.wartremover.warts.Throw",
+    "org.wartremover.warts.Var",
+    "org.wartremover.warts.While",
+  ),
+)
+private[figlet4s] object CompiledFont {
+
+  /** Extension of the files containing a compiled FIGfont */
+  val Extension: String = ".flfb"
+
+  /**
+   * Writes a FIGfont in the compiled format
+   *
+   * @param font   The FIGfont to write
+   * @param output The stream where to write the FIGfont
+   */
+  def write(font: FIGfont, output: OutputStream): Unit = {
+    val out    = new DataOutputStream(new BufferedOutputStream(output))
+    val header = font.header
+
+    out.writeInt(Magic)
+    out.writeShort(Version)
+    writeString(out, font.id)
+    writeString(out, font.name)
+    writeString(out, font.comment)
+
+    writeString(out, header.signature)
+    out.writeChar(header.hardblank.toInt)
+    out.writeInt(header.height)
+    out.writeInt(header.baseline)
+    out.writeInt(header.maxLength)
+    out.writeInt(header.commentLines)
+    writeValues(out, header.oldLayout.map(_.value))
+    writeOption(out, header.printDirection)(p => out.writeInt(p.value))
+    writeOption(out, header.fullLayout)(l => writeValues(out, l.map(_.value)))
+    writeOption(out, header.codetagCount)(out.writeInt)
+
+    val characters = font.table.codePoints.toVector.sortBy(_._2.position)
+    out.writeInt(characters.size)
+    characters.foreach { case (codePoint, c) =>
+      out.writeInt(codePoint)
+      out.writeChar(c.endmark.toInt)
+      out.writeInt(c.width)
+      out.writeInt(c.position)
+      writeOption(out, c.comment)(writeString(out, _))
+      writeString(out, c.lines.value.mkString)
+    }
+
+    out.flush()
+  }
+
+  /**
+   * Reads a FIGfont from its compiled format, without validating it again
+   *
+   * @param file  The file that contains the FIGfont in FLF format
+   * @param bytes The content of the compiled FIGfont
+   * @return A [[com.colofabrix.scala.figlet4s.errors.FigletResult FigletResult]] containing the FIGfont or the error
+   *         occurred while decoding it
+   */
+  def read(file: File, bytes: Array[Byte]): FigletResult[FIGfont] =
+    readFont(file, ByteBuffer.wrap(bytes))
+      .toEither
+      .leftMap {
+        case e: FigletException => e
+        case e                  => new FigletLoadingError(s"Cannot read the compiled FIGfont ${file.getName}", e)
+      }
+      .toValidatedNec
+
+  //  Support  //
+
+  private val Magic: Int     = 0x464c4642 // FLFB
+  private val Version: Short = 2
+
+  /** A FIGcharacter read from the compiled format, with its rows packed into a single string */
+  final private case class CompiledChar(
+      name: Int,
+      endmark: Char,
+      width: Int,
+      position: Int,
+      comment: Option[String],
+      packed: String,
+  )
+
+  private def readFont(file: File, in: ByteBuffer): Try[FIGfont] = Try {
+    if (in.getInt() =!= Magic || in.getShort() =!= Version)
+      throw new FigletLoadingError(s"Unsupported format of the compiled FIGfont ${file.getName}")
+
+    val id      = readString(in)
+    val name    = readString(in)
+    val comment = readString(in)
+
+    val header = FIGheader(
+      signature = readString(in),
+      hardblank = in.getChar(),
+      height = in.getInt(),
+      baseline = in.getInt(),
+      maxLength = in.getInt(),
+      commentLines = in.getInt(),
+      oldLayout = readValues(in).map(OldLayout.withValue),
+      printDirection = readOption(in)(FIGheaderParameters.PrintDirection.withValue(in.getInt())),
+      fullLayout = readOption(in)(readValues(in).map(FullLayout.withValue)),
+      codetagCount = readOption(in)(in.getInt()),
+    )
+
+    val count   = in.getInt()
+    val entries = new Array[CompiledChar](count)
+    val names   = new Array[Int](count)
+    var slot    = 0
+    while (slot < count) {
+      val name     = in.getInt()
+      val endmark  = in.getChar()
+      val width    = in.getInt()
+      val position = in.getInt()
+      val comment  = readOption(in)(readString(in))
+      entries(slot) = CompiledChar(name, endmark, width, position, comment, readString(in))
+      names(slot) = name
+      slot += 1
+    }
+
+    // The FIGcharacters have been validated when compiled, so they are created only when they are used
+    def materialize(slot: Int): Option[FIGcharacter] = {
+      val c     = entries(slot)
+      val lines = Vector.tabulate(header.height)(r => c.packed.substring(r * c.width, (r + 1) * c.width))
+      Some(FIGcharacter(id, c.name.toChar, SubLines(lines), c.endmark, c.width, c.comment, c.position))
+    }
+
+    val settings =
+      FIGfontSettings.fromHeader(header)
+        .valueOr(errors => throw errors.head)
+
+    FIGfont(id, name, file, header, comment, settings, FIGcharacterTable.lazily(names, materialize))
+  }
+
+  private def writeString(out: DataOutputStream, value: String): Unit = {
+    val bytes = value.getBytes(StandardCharsets.UTF_8)
+    out.writeInt(bytes.length)
+    out.write(bytes)
+  }
+
+  private def readString(in: ByteBuffer): String = {
+    val length = in.getInt()
+    val value  = new String(in.array(), in.position(), length, StandardCharsets.UTF_8)
+    in.position(in.position() + length)
+    value
+  }
+
+  private def writeOption[A](out: DataOutputStream, value: Option[A])(f: A => Unit): Unit = {
+    out.writeBoolean(value.isDefined)
+    value.foreach(f)
+  }
+
+  private def readOption[A](in: ByteBuffer)(f: => A): Option[A] =
+    if (in.get() =!= 0.toByte) Some(f) else None
+
+  private def writeValues(out: DataOutputStream, values: Seq[Int]): Unit = {
+    out.writeInt(values.size)
+    values.foreach(out.writeInt)
+  }
+
+  private def readValues(in: ByteBuffer): Vector[Int] =
+    Vector.fill(in.getInt())(in.getInt())
+
+}
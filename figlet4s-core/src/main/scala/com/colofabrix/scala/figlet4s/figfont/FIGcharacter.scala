@@ -12,7 +12,8 @@ import scala.util.matching.Regex
  * in the companion object [[FIGcharacter$ FIGcharacter]] that perform validation of the defining lines of the character
  *
  * @param fontId   The identifier code of the FIGfont where this FIGcharacter belongs
- * @param name     The name of the FIGcharacter, which is the Char that this FIGcharacter represents
+ * @param name     The name of the FIGcharacter, which is the Char that this FIGcharacter represents. For a code point
+ *                 that is not a Char this is its lowest 16 bits, and the FIGfont looks it up by the full code point.
  * @param lines    The strings composing the lines of the FIGcharacter
  * @param endmark  The character marking the end of a line in the definition of the FIGcharacter
  * @param width    The width of the FIGcharacter
@@ -29,8 +30,20 @@ final case class FIGcharacter private[figlet4s] (
     position: Int,
 ) {
 
-  /** The strings composing the column of the FIGcharacter */
-  lazy val columns: SubColumns = lines.toSubcolumns
+  /** The strings composing the column of the FIGcharacter, computed once when the FIGcharacter is created */
+  val columns: SubColumns = lines.toSubcolumns
+
+  /** The lines of the FIGcharacter indexed for direct access, never modified after the FIGcharacter is created */
+  private[figlet4s] val rows: Array[String] =
+    lines.value.toArray
+
+  /** Number of blank sub-characters at the beginning of each line, computed once when the FIGcharacter is created */
+  private[figlet4s] val leftBlanks: Array[Int] =
+    lines.value.map(_.segmentLength(_ === ' ')).toArray
+
+  /** Number of blank sub-characters at the end of each line, computed once when the FIGcharacter is created */
+  private[figlet4s] val rightBlanks: Array[Int] =
+    lines.value.map(_.reverseIterator.takeWhile(_ === ' ').length).toArray
 
 }
 
@@ -57,28 +70,8 @@ object FIGcharacter {
       lines: SubLines,
       comment: Option[String],
       position: Int,
-  ): FigletResult[FIGcharacter] = {
-    val maxWidthV = Validated.condNec(
-      maxWidth > 0,
-      maxWidth,
-      FIGheaderError(s"Value of 'maxLength' must be positive: $maxWidth"),
-    )
-    val argHeightV = Validated.condNec(
-      height > 0,
-      height,
-      FIGheaderError(s"Value of 'height' must be positive: $height"),
-    )
-    val nameV       = if (name =!= '\uffff') name.validNec else FIGcharacterError(s"Name '-1' is illegal").invalidNec
-    val endmarkV    = validateEndmark(name, position, lines)
-    val cleanLinesV = endmarkV andThen cleanLines(lines)
-    val widthV      = maxWidthV.andThen { cleanLinesV andThen validateWidth(name, _, position) }
-    val heightV     = argHeightV.andThen { cleanLinesV andThen validateHeight(name, position, _) }
-
-    heightV andThen { _ =>
-      (fontId.validNec, nameV, cleanLinesV, endmarkV, widthV, comment.validNec, position.validNec)
-        .mapN(FIGcharacter.apply)
-    }
-  }
+  ): FigletResult[FIGcharacter] =
+    fromCodePoint(fontId, maxWidth, height, codePointOf(name), lines, comment, position)
 
   /**
    * Creates a validated FIGcharacter using a FIGheader to validate given lines
@@ -100,12 +93,67 @@ object FIGcharacter {
       comment: Option[String],
       position: Int,
   ): FigletResult[FIGcharacter] =
-    apply(fontId, header.maxLength, header.height, name, lines, comment, position)
+    fromCodePoint(fontId, header.maxLength, header.height, codePointOf(name), lines, comment, position)
+
+  /**
+   * Creates a validated FIGcharacter for a code point, that can be outside of the range of a Char
+   *
+   * @param fontId    The identifier code of the FIGfont where this FIGcharacter belongs
+   * @param maxWidth  Maximum width that the FIGcharacter can have
+   * @param height    The height of the FIGcharacter that must be respected
+   * @param codePoint The code point that this FIGcharacter represents
+   * @param lines     The strings composing the lines of the FIGcharacter
+   * @param comment   The comment of the FIGcharacter present only if it is not part of the required characters
+   * @param position  The line in the file where the FIGcharacter is defines
+   * @return A [[com.colofabrix.scala.figlet4s.errors.FigletResult FigletResult]] containing the new FIGcharacter or a
+   *         list of errors occurred during the creation
+   */
+  private[figlet4s] def fromCodePoint(
+      fontId: String,
+      maxWidth: Int,
+      height: Int,
+      codePoint: Int,
+      lines: SubLines,
+      comment: Option[String],
+      position: Int,
+  ): FigletResult[FIGcharacter] = {
+    val maxWidthV = Validated.condNec(
+      maxWidth > 0,
+      maxWidth,
+      FIGheaderError(s"Value of 'maxLength' must be positive: $maxWidth"),
+    )
+    val argHeightV = Validated.condNec(
+      height > 0,
+      height,
+      FIGheaderError(s"Value of 'height' must be positive: $height"),
+    )
+    val nameV =
+      if (codePoint =!= -1) codePoint.toChar.validNec else FIGcharacterError(s"Name '-1' is illegal").invalidNec
+    val endmarkV    = validateEndmark(display(codePoint), position, lines)
+    val cleanLinesV = endmarkV andThen cleanLines(lines)
+    val widthV      = maxWidthV.andThen { cleanLinesV andThen validateWidth(display(codePoint), _, position) }
+    val heightV     = argHeightV.andThen { cleanLinesV andThen validateHeight(display(codePoint), position, _) }
+
+    heightV andThen { _ =>
+      (fontId.validNec, nameV, cleanLinesV, endmarkV, widthV, comment.validNec, position.validNec)
+        .mapN(FIGcharacter.apply)
+    }
+  }
+
+  // The Char '\uffff' is the name of the illegal code -1 truncated to a Char
+  private def codePointOf(name: Char): Int =
+    if (name === '\uffff') -1 else name.toInt
+
+  /**
+   * The character represented by a code point, or the value of the code point when it doesn't represent a character
+   */
+  private def display(name: Int): String =
+    if (Character.isValidCodePoint(name)) new String(Character.toChars(name)) else name.toString
 
   /**
    * Validates all lines endmarks
    */
-  private def validateEndmark(name: Char, position: Int, lines: SubLines): FigletResult[Char] = {
+  private def validateEndmark(name: String, position: Int, lines: SubLines): FigletResult[Char] = {
     val linesTerminations =
       lines
         .value
@@ -151,7 +199,7 @@ object FIGcharacter {
   /**
    * Validates the width of each line
    */
-  private def validateWidth(name: Char, maxLength: Int, position: Int)(cleanLines: SubLines): FigletResult[Int] = {
+  private def validateWidth(name: String, maxLength: Int, position: Int)(cleanLines: SubLines): FigletResult[Int] = {
     val allLinesWidth = cleanLines.value.map(_.length).toSet
     if (maxLength <= 0)
       FIGcharacterError(s"The argument 'maxLength' must be greater than zero: $maxLength").invalidNec
@@ -174,7 +222,7 @@ object FIGcharacter {
   /**
    * Validates the height of each line
    */
-  private def validateHeight(name: Char, position: Int, height: Int)(cleanLines: SubLines): FigletResult[Int] =
+  private def validateHeight(name: String, position: Int, height: Int)(cleanLines: SubLines): FigletResult[Int] =
     if (height <= 0)
       FIGcharacterError(s"The argument 'height' must be greater than zero: $height").invalidNec
     else if (cleanLines.value.size === height)
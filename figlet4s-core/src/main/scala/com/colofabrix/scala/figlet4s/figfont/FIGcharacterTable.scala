@@ -0,0 +1,121 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import java.util.concurrent.atomic.AtomicReferenceArray
+import scala.collection.immutable.AbstractMap
+
+/**
+ * Map of the FIGcharacters of a FIGfont indexed by code point, that can be looked up without boxing the code point
+ *
+ * Each code point is associated with a slot by a [[CodePointIndex]] and the FIGcharacter of a slot is created once and
+ * then reused. FIGcharacters can be created up front or only the first time they are requested. The creation is
+ * thread-safe: concurrent requests for the same FIGcharacter may create it more than once but they all return equal
+ * FIGcharacters. A slot whose FIGcharacter can't be created is treated as a missing character.
+ *
+ * As a Map it contains the FIGcharacters keyed by their name, the code point truncated to a Char, where the later
+ * definition wins when the code points outside of the range of a Char collide with other names. The FIGcharacters of
+ * all the code points are found with [[lookup]], [[find]] and [[codePoints]]. Traversing the Map creates all its
+ * FIGcharacters, and so does creating a table where the names collide, to resolve the collisions up front.
+ *
+ * @param index       The slot of each code point
+ * @param created     The FIGcharacters of each slot, or null for the ones not created yet
+ * @param materialize The function that creates the FIGcharacter of a slot
+ */
+@SuppressWarnings(Array("org.wartremover.warts.NonUnitStatements", "org.wartremover.warts.Null"))
+final private[figlet4s] class FIGcharacterTable private (
+    index: CodePointIndex,
+    created: AtomicReferenceArray[Option[FIGcharacter]],
+    materialize: Int => Option[FIGcharacter],
+) extends AbstractMap[Char, FIGcharacter] {
+
+  /**
+   * Returns the FIGcharacter of a code point without allocating
+   *
+   * @param codePoint The code point of the FIGcharacter
+   * @return The FIGcharacter of the code point, or null when the code point is missing
+   */
+  def lookup(codePoint: Int): FIGcharacter = {
+    val slot = index.slotOf(codePoint)
+    if (slot < 0) null else character(slot).orNull
+  }
+
+  /**
+   * Returns the FIGcharacter of a code point
+   *
+   * @param codePoint The code point of the FIGcharacter
+   * @return The FIGcharacter of the code point, or None when the code point is missing
+   */
+  def find(codePoint: Int): Option[FIGcharacter] = {
+    val slot = index.slotOf(codePoint)
+    if (slot < 0) None else character(slot)
+  }
+
+  /** The FIGcharacters of all the code points, together with their code point */
+  def codePoints: Iterator[(Int, FIGcharacter)] =
+    index.iterator.flatMap { case (codePoint, slot) => character(slot).map(codePoint -> _) }
+
+  def get(key: Char): Option[FIGcharacter] =
+    if (truncated) byName.get(key) else find(key.toInt)
+
+  def iterator: Iterator[(Char, FIGcharacter)] =
+    if (truncated) byName.iterator else codePoints.map { case (codePoint, c) => codePoint.toChar -> c }
+
+  def removed(key: Char): Map[Char, FIGcharacter] =
+    iterator.toMap.removed(key)
+
+  def updated[V1 >: FIGcharacter](key: Char, value: V1): Map[Char, V1] =
+    iterator.toMap[Char, V1].updated(key, value)
+
+  //  Support  //
+
+  // Whether any code point doesn't fit a Char, so that its name can collide with other names
+  private val truncated: Boolean =
+    index.iterator.exists { case (codePoint, _) => codePoint < 0 || codePoint > Char.MaxValue }
+
+  // The FIGcharacters by name, used only when the names collide
+  private val byName: Map[Char, FIGcharacter] =
+    if (!truncated) Map.empty
+    else codePoints.toVector.sortBy(_._2.position).map { case (codePoint, c) => codePoint.toChar -> c }.toMap
+
+  private def character(slot: Int): Option[FIGcharacter] = {
+    val existing = created.get(slot)
+    if (existing ne null) {
+      existing
+    } else {
+      val character = materialize(slot)
+      created.compareAndSet(slot, null, character)
+      created.get(slot)
+    }
+  }
+
+}
+
+private[figlet4s] object FIGcharacterTable {
+
+  /**
+   * Creates a table of FIGcharacters that are already created, where the last definition of a code point wins
+   *
+   * @param characters The FIGcharacters of the table together with their code point
+   * @return A new FIGcharacterTable containing the given FIGcharacters
+   */
+  def apply(characters: Iterable[(Int, FIGcharacter)]): FIGcharacterTable = {
+    val entries = characters.toArray
+    val created = new AtomicReferenceArray[Option[FIGcharacter]](entries.map(e => Option(e._2)))
+    new FIGcharacterTable(CodePointIndex(entries.map(_._1)), created, _ => None)
+  }
+
+  /**
+   * Creates a table of FIGcharacters that are created only the first time they are requested, where the last
+   * definition of a code point wins
+   *
+   * @param codePoints  The code point of each slot
+   * @param materialize The function that creates the FIGcharacter of a slot
+   * @return A new FIGcharacterTable whose FIGcharacters are created on demand
+   */
+  def lazily(codePoints: Array[Int], materialize: Int => Option[FIGcharacter]): FIGcharacterTable =
+    new FIGcharacterTable(
+      CodePointIndex(codePoints),
+      new AtomicReferenceArray[Option[FIGcharacter]](codePoints.length),
+      materialize,
+    )
+
+}
@@ -0,0 +1,416 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import cats.data._
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.instrumentation._
+import java.io.File
+import java.util.Locale
+import scala.collection.mutable.ArrayBuffer
+
+/**
+ * Single-pass parser of the lines of an FLF file
+ *
+ * The lines are read once and stored in arrays sized after the FIGheader. The lines of each FIGcharacter are validated
+ * and stripped of their endmarks as soon as the FIGcharacter is complete, taking a fast path for the common case of
+ * well formed lines and falling back to the full validation of [[FIGcharacter]] to describe the errors. The parsing
+ * stops at the first line that can't be parsed while the errors of the FIGcharacters are accumulated and reported at
+ * the end, together with the errors of the settings of the FIGfont.
+ *
+ * When the parsing is not eager the FIGcharacters are not validated while reading the file. Their lines are appended
+ * to a single buffer together with the offset where each line starts, and each FIGcharacter is materialized and
+ * validated only the first time it's requested. The structure of the file, like the FIGheader, the names of the tags
+ * and the required FIGcharacters, is always validated.
+ *
+ * A FIGfontParser is not thread-safe and it can parse only one FIGfont.
+ *
+ * @param file  The file that contains the FIGfont
+ * @param eager Whether all the FIGcharacters are validated and created while parsing
+ * @param id    The identifier of the FIGfont computed from the bytes of its file, or None to compute it from its lines
+ */
+@SuppressWarnings(
+  Array(
+    "org.wartremover.warts.Equals",
+    "org.wartremover.warts.NonUnitStatements",
+    "org.wartremover.warts.Var",
+    "org.wartremover.warts.While",
+  ),
+)
+final private[figfont] class FIGfontParser(file: File, eager: Boolean, id: Option[String]) {
+
+  import FIGfontParser._
+
+  private val digest: FontDigest = new FontDigest()
+
+  private var header: Option[FIGheader]                       = None
+  private var failure: Option[NonEmptyChain[FigletException]] = None
+
+  private var commentLines: ArrayBuffer[String] = ArrayBuffer.empty
+  private var charLines: Array[String]          = Array.empty
+  private var charLinesCount: Int               = 0
+  private var loadedCount: Int                  = 0
+
+  private var chars: ArrayBuffer[ParsedChar]     = ArrayBuffer.empty
+  private var charErrors: Chain[FigletException] = Chain.empty
+
+  private var indexed: ArrayBuffer[IndexedChar] = ArrayBuffer.empty
+  private val content: java.lang.StringBuilder  = new java.lang.StringBuilder()
+  private val lineOffsets: ArrayBuffer[Int]     = ArrayBuffer(0)
+
+  /**
+   * Parses the lines of an FLF file into a FIGfont
+   *
+   * @param lines An Iterator that contains all the lines representing an FLF file that defines the FIGfont
+   * @return A [[com.colofabrix.scala.figlet4s.errors.FigletResult FigletResult]] containing the new FIGfont or a list
+   *         of errors occurred during the creation
+   */
+  def parse(lines: Iterator[String]): FigletResult[FIGfont] = {
+    val span  = Instrumentation.current.fontParse()
+    var index = 0
+    while (failure.isEmpty && lines.hasNext) {
+      val line = lines.next()
+      if (id.isEmpty) digest.update(line)
+      processLine(line, index)
+      index += 1
+    }
+
+    val result = (failure, header) match {
+      case (Some(errors), _) => Validated.invalid(errors)
+      case (None, None)      => FIGheaderError("Missing FLF header").invalidNec
+      case (None, Some(h))   => buildFont(h)
+    }
+
+    if (span.isRecording) {
+      val characters = if (eager) chars.size else indexed.size
+      span.end(FontParseMeasurement(file.getPath, index, characters, eager, result.isValid))
+    }
+    result
+  }
+
+  //  Support  //
+
+  private def processLine(line: String, index: Int): Unit =
+    header match {
+      case None                                               => parseHeader(line)
+      case Some(h) if index <= h.commentLines                 => commentLines += line
+      case Some(h) if loadedCount < FIGfont.requiredChars.size => parseCharacter(h, line, index)
+      case Some(h)                                            => parseTaggedCharacter(h, line, index)
+    }
+
+  /** Parses the FLF header and prepares the buffers for the rest of the file */
+  private def parseHeader(line: String): Unit =
+    FIGheader(line) match {
+      case Validated.Valid(h) =>
+        header = Some(h)
+        commentLines = new ArrayBuffer[String](Math.min(h.commentLines, MaxInitialCapacity))
+        charLines = new Array[String](h.height + 1)
+        val charsCapacity = Math.min(FIGfont.requiredChars.size + h.codetagCount.getOrElse(0), MaxInitialCapacity)
+        if (eager) chars = new ArrayBuffer[ParsedChar](charsCapacity)
+        else indexed = new ArrayBuffer[IndexedChar](charsCapacity)
+      case Validated.Invalid(errors) =>
+        failure = Some(errors)
+    }
+
+  /** Collects the lines of a required FIGcharacter, whose name is given by its position in the file */
+  private def parseCharacter(header: FIGheader, line: String, index: Int): Unit = {
+    charLines(charLinesCount) = line
+    charLinesCount += 1
+
+    if (charLinesCount >= header.height) {
+      val startLine = index - charLinesCount + 1
+      val charNum   = (startLine - header.commentLines - 1) / header.height
+
+      if (charNum < FIGfont.requiredChars.size) {
+        addCharacter(header, FIGfont.requiredChars(charNum), charLines.take(charLinesCount), None, startLine)
+      } else {
+        failure = Some(NonEmptyChain.one(FIGcharacterError(s"Character index $charNum out of bounds")))
+      }
+    }
+  }
+
+  /** Collects the lines of a tagged FIGcharacter, whose name is given by the tag line that precedes it */
+  private def parseTaggedCharacter(header: FIGheader, line: String, index: Int): Unit = {
+    charLines(charLinesCount) = line
+    charLinesCount += 1
+
+    if (charLinesCount >= header.height + 1) {
+      val tagLineIndex = index - charLinesCount + 1
+      val tagLine      = charLines(0)
+
+      (parseTagName(tagLine, tagLineIndex), parseTagComment(tagLine)).tupled match {
+        case Validated.Valid((name, comment)) =>
+          addCharacter(header, name, charLines.slice(1, charLinesCount), comment, tagLineIndex)
+        case Validated.Invalid(errors) =>
+          failure = Some(errors)
+      }
+    }
+  }
+
+  /**
+   * Records a complete FIGcharacter. When parsing eagerly the lines are validated and either the FIGcharacter or its
+   * errors are recorded, otherwise the lines are appended to the buffer and only their position is recorded.
+   */
+  private def addCharacter(
+      header: FIGheader,
+      name: Int,
+      lines: Array[String],
+      comment: Option[String],
+      position: Int,
+  ): Unit = {
+    charLinesCount = 0
+    loadedCount += 1
+
+    if (eager) {
+      validateCharacter(header, name, lines, comment, position) match {
+        case Validated.Valid(c) =>
+          chars += c
+        case Validated.Invalid(errors) =>
+          charErrors = charErrors ++ errors.toChain.map { err =>
+            val msg = s"Error while building a character on position $position: ${err.getMessage}"
+            FIGFontError(msg, err)
+          }
+      }
+    } else {
+      indexed += IndexedChar(name, lineOffsets.size - 1, comment, position)
+      lines.foreach { line =>
+        content.append(line)
+        lineOffsets += content.length
+      }
+    }
+  }
+
+  /**
+   * Build the FIGfont from the parsed lines
+   */
+  private def buildFont(header: FIGheader): FigletResult[FIGfont] =
+    if (charLinesCount =!= 0) {
+      // Check we didn't stop in the middle of a character
+      FIGcharacterError("Incomplete character definition at the end of the file").invalidNec
+
+    } else {
+      val fontId  = id.getOrElse(digest.result())
+      val name    = file.getName.split('.').init.mkString("")
+      val comment = commentLines.mkString("\n")
+
+      val settingsV =
+        FIGfontSettings.fromHeader(header)
+
+      val charsV = NonEmptyChain.fromChain(charErrors) match {
+        case Some(errors) =>
+          Validated.invalid(errors)
+        case None =>
+          validatedRequiredChars
+            .andThen(_ => validatedCodetagCount(header))
+            .map(_ => if (eager) buildCharacters(fontId) else indexCharacters(header, fontId))
+      }
+
+      (settingsV, charsV).mapN { (settings, characters) =>
+        FIGfont(fontId, name, file, header, comment, settings, characters)
+      }
+    }
+
+  /**
+   * Creates the FIGcharacters of the FIGfont, where the last definition of a character wins
+   */
+  private def buildCharacters(id: String): Map[Char, FIGcharacter] =
+    FIGcharacterTable(
+      chars.map { c =>
+        c.name -> FIGcharacter(id, c.name.toChar, SubLines(c.lines), c.endmark, c.width, c.comment, c.position)
+      },
+    )
+
+  /**
+   * Creates the FIGcharacters of the FIGfont that are validated on demand, where the last definition of a character
+   * wins. A FIGcharacter that is not valid is treated as if it was missing.
+   */
+  private def indexCharacters(header: FIGheader, id: String): Map[Char, FIGcharacter] = {
+    val text    = content.toString
+    val offsets = lineOffsets.toArray
+    val entries = indexed.toVector
+
+    def materialize(slot: Int): Option[FIGcharacter] = {
+      val c     = entries(slot)
+      val lines = Array.tabulate(header.height) { i =>
+        text.substring(offsets(c.firstLine + i), offsets(c.firstLine + i + 1))
+      }
+      validateCharacter(header, c.name, lines, c.comment, c.position)
+        .toOption
+        .map(p => FIGcharacter(id, p.name.toChar, SubLines(p.lines), p.endmark, p.width, p.comment, p.position))
+    }
+
+    FIGcharacterTable.lazily(entries.map(_.name).toArray, materialize)
+  }
+
+  /**
+   * Check all required characters are present
+   */
+  private def validatedRequiredChars: FigletResult[Unit] = {
+    val loadedCharset = if (eager) chars.map(_.name).toSet else indexed.map(_.name).toSet
+    val missing       = FIGfont.requiredChars.filterNot(c => loadedCharset.contains(c.toInt)) mkString ", "
+
+    if (missing.nonEmpty)
+      FIGcharacterError(s"Missing definition for required FIGlet characters: $missing").invalidNec
+    else
+      ().validNec
+  }
+
+  /**
+   * Check the number of tagged characters corresponds to the one declared in the header
+   */
+  private def validatedCodetagCount(header: FIGheader): FigletResult[Unit] = {
+    val loadedTaggedCount = loadedCount - FIGfont.requiredChars.size
+    val codetagCount      = header.codetagCount.getOrElse(loadedTaggedCount)
+
+    if (loadedTaggedCount === codetagCount)
+      ().validNec
+    else
+      FIGFontError(
+        s"The number of loaded tagged fonts $loadedTaggedCount doesn't correspond to the value " +
+        s"indicated in the header $codetagCount",
+      ).invalidNec
+  }
+
+}
+
+@SuppressWarnings(
+  Array("org.wartremover.warts.Equals", "org.wartremover.warts.Var", "org.wartremover.warts.While"),
+)
+private[figfont] object FIGfontParser {
+
+  /** A FIGcharacter whose lines have been validated, waiting for the id of the FIGfont to be known */
+  final private case class ParsedChar(
+      name: Int,
+      lines: Seq[String],
+      endmark: Char,
+      width: Int,
+      comment: Option[String],
+      position: Int,
+  )
+
+  /** A FIGcharacter not validated yet, whose lines start at the given line of the buffer of the parser */
+  final private case class IndexedChar(
+      name: Int,
+      firstLine: Int,
+      comment: Option[String],
+      position: Int,
+  )
+
+  /** Upper bound of the capacity of the buffers allocated using the values declared in the FIGheader */
+  private val MaxInitialCapacity: Int = 4096
+
+  /**
+   * Validates the lines of a complete FIGcharacter. The id of the FIGfont is added once the FIGfont is complete.
+   */
+  private def validateCharacter(
+      header: FIGheader,
+      name: Int,
+      lines: Array[String],
+      comment: Option[String],
+      position: Int,
+  ): FigletResult[ParsedChar] = {
+    val endmark = stripEndmarks(header, name, lines)
+    if (endmark >= 0)
+      ParsedChar(name, lines.toVector, endmark.toChar, lines(0).length, comment, position).validNec
+    else
+      FIGcharacter
+        .fromCodePoint("", header.maxLength, header.height, name, SubLines(lines.toVector), comment, position)
+        .map(c => ParsedChar(name, c.lines.value, c.endmark, c.width, c.comment, c.position))
+  }
+
+  /**
+   * Removes in place the endmarks from lines where each one ends with one or two repetitions of the same printable
+   * endmark and all have the same width, as the full validation of [[FIGcharacter]] would do. The lines are left
+   * untouched when they need the full validation.
+   *
+   * @return The endmark, or -1 when the lines need the full validation
+   */
+  private def stripEndmarks(header: FIGheader, name: Int, lines: Array[String]): Int = {
+    var endmark = -1
+    var valid   = lines.length === header.height && header.maxLength > 0 && name =!= -1
+
+    var i = 0
+    while (valid && i < lines.length) {
+      val line = lines(i)
+      valid = line.nonEmpty && isPlainEndmark(line.charAt(line.length - 1)) &&
+        (endmark < 0 || line.charAt(line.length - 1).toInt === endmark)
+      if (valid) endmark = line.charAt(line.length - 1).toInt
+      i += 1
+    }
+
+    val width = if (valid) cleanLength(lines(0), endmark.toChar) else -1
+    i = 0
+    while (valid && i < lines.length) {
+      valid = cleanLength(lines(i), endmark.toChar) === width && width <= header.maxLength
+      i += 1
+    }
+
+    i = 0
+    while (valid && i < lines.length) {
+      lines(i) = lines(i).substring(0, width)
+      i += 1
+    }
+
+    if (valid) endmark else -1
+  }
+
+  /**
+   * The length of a line without its endmarks, which are one or two repetitions of the last character
+   */
+  private def cleanLength(line: String, endmark: Char): Int =
+    if (line.length >= 2 && line.charAt(line.length - 2) === endmark) line.length - 2
+    else line.length - 1
+
+  /**
+   * Tells if an endmark is handled by the fast path. Blanks and control characters are trimmed by the full validation
+   * and line terminators change the way the end of a line is matched.
+   */
+  private def isPlainEndmark(c: Char): Boolean =
+    c > ' ' && c =!= '\u0085' && c =!= '\u2028' && c =!= '\u2029' && !Character.isSurrogate(c)
+
+  /**
+   * Parses the line of a tag to extract the name
+   */
+  private def parseTagName(tagLine: String, tagLineIndex: Int): FigletResult[Int] = {
+    val splitFontTag = tagLine.replaceFirst(" +", "###").split("###").toVector
+    splitFontTag
+      .headOption
+      .toValidNec(
+        FIGcharacterError(s"Missing character code in the tag at line ${tagLineIndex + 1}: $tagLine"),
+      )
+      .andThen(parseCharCode(tagLineIndex, _))
+  }
+
+  /**
+   * Parses the line of a tag to extract the comment
+   */
+  private def parseTagComment(tagLine: String): FigletResult[Option[String]] = {
+    val splitFontTag = tagLine.replaceFirst(" +", "###").split("###").toVector
+    splitFontTag
+      .lift(1)
+      .getOrElse("")
+      .validNec[FigletException]
+      .map(Option(_))
+  }
+
+  /**
+   * Parses a character code into the code point it represents, which is negative for the characters that can't be typed
+   */
+  private def parseCharCode(index: Int, code: String): FigletResult[Int] = {
+    val lowerCode = code.toLowerCase(Locale.ROOT)
+    val parsed =
+      if (code.matches("^-?\\d+$")) parseInt(code, 10)
+      else if (lowerCode.matches("^-?0x[0-9a-f]+$")) parseInt(lowerCode.replace("0x", ""), 16)
+      else if (code.matches("^-?0\\d+$")) parseInt(code, 8)
+      else None
+
+    parsed.toValidNec(FIGcharacterError(s"Couldn't convert character code '$code' defined at line ${index + 1}"))
+  }
+
+  /**
+   * Parses an integer that fits in an Int
+   */
+  private def parseInt(value: String, radix: Int): Option[Int] =
+    try Some(Integer.parseInt(value, radix))
+    catch { case _: NumberFormatException => None }
+
+}
@@ -1,5 +1,7 @@
 package com.colofabrix.scala.figlet4s.figfont
 
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.errors._
 import com.colofabrix.scala.figlet4s.figfont.FIGfontParameters.{ HorizontalLayout, PrintDirection, VerticalLayout }
 
 /**
@@ -14,3 +16,18 @@ final case class FIGfontSettings(
     vLayout: VerticalLayout,
     printDirection: PrintDirection,
 )
+
+object FIGfontSettings {
+
+  /**
+   * Creates the settings of a FIGfont from the values of its FIGheader
+   *
+   * @param header The FIGheader of the FIGfont
+   * @return A [[com.colofabrix.scala.figlet4s.errors.FigletResult FigletResult]] containing the settings of the FIGfont
+   *         or a list of errors occurred during the creation
+   */
+  def fromHeader(header: FIGheader): FigletResult[FIGfontSettings] =
+    (HorizontalLayout.fromHeader(header), VerticalLayout.fromHeader(header), PrintDirection.fromHeader(header))
+      .mapN(FIGfontSettings.apply)
+
+}
@@ -1,6 +1,8 @@
 package com.colofabrix.scala.figlet4s.figfont
 
 import com.colofabrix.scala.figlet4s.compat._
+import java.io.Writer
+import java.nio.CharBuffer
 
 /**
  * A FIGure that is a rendered String with a specific FIGfont and built built from multiple FIGcharacters
@@ -10,7 +12,8 @@ import com.colofabrix.scala.figlet4s.compat._
  *
  * @param font    The FIGfont used to render the FIGure
  * @param value   The String value rendered in the FIGure
- * @param columns The FIGure represented with a collection of columns
+ * @param columns The FIGure represented with a collection of columns, created from the characters of the FIGure when
+ *                read
  */
 final case class FIGure private[figlet4s] (
     font: FIGfont,
@@ -18,35 +21,66 @@ final case class FIGure private[figlet4s] (
     columns: Seq[SubColumns],
 ) {
 
-  private val hardblank =
-    font.header.hardblank.toString
+  // The characters of the FIGure packed line by line. The columns given by the Rendering are already a FIGureBuffer, so
+  // a FIGure doesn't keep any other copy of its characters
+  private[figlet4s] val buffer: FIGureBuffer =
+    FIGureBuffer(columns)
 
   /**
-   * The FIGure represented with a collection of lines
+   * The FIGure represented with a collection of lines, created from the characters of the FIGure when read
    */
-  lazy val lines: Seq[SubLines] =
-    columns.map(_.toSublines)
+  def lines: Seq[SubLines] =
+    buffer.lines
 
   /**
-   * The FIGure represented with a list of lines stripped of their hardblanks
+   * The FIGure represented with a list of lines stripped of their hardblanks, replaced when the lines are read
    */
-  lazy val cleanLines: Seq[SubLines] =
-    lines.map(_.replace(hardblank, " "))
+  def cleanLines: Seq[SubLines] =
+    buffer.cleanLines(font.header.hardblank)
 
   /**
-   * The columns representing the rendered FIGure stripped of their hardblanks
+   * The columns representing the rendered FIGure stripped of their hardblanks, replaced when the columns are read
    */
-  lazy val cleanColumns: Seq[SubColumns] =
-    columns.map(_.replace(hardblank, " "))
+  def cleanColumns: Seq[SubColumns] =
+    buffer.cleanColumns(font.header.hardblank)
 
   /**
    * The max width of the FIGure
    */
-  val width: Int =
-    lines
-      .flatMap(_.value.map(_.length))
-      .maxOption
-      .getOrElse(0)
+  def width: Int =
+    buffer.width
+
+  /**
+   * Writes the lines of the FIGure stripped of their hardblanks, one line at a time and reading them straight from the
+   * columns, without materializing the lines of the FIGure. The lines are separated by the line separator of the system
+   * so the output is the same as joining all the clean lines.
+   *
+   * @param out The destination of the lines. Writers, CharBuffers and StringBuilders receive a whole line per call
+   */
+  @SuppressWarnings(
+    Array(
+      "org.wartremover.warts.NonUnitStatements",
+      "org.wartremover.warts.Var",
+      "org.wartremover.warts.While",
+    ),
+  )
+  private[figlet4s] def writeCleanLines(out: Appendable): Unit = {
+    val blank     = font.header.hardblank
+    val separator = System.lineSeparator()
+    val line      = new Array[Char](buffer.width)
+    var first     = true
+
+    buffer.packed.foreach { packed =>
+      var row = 0
+      while (row < packed.height) {
+        packed.copyRow(row, blank, line)
+        if (!first) out.append(separator)
+        FIGure.writeLine(out, line, packed.width)
+        first = false
+        row += 1
+      }
+    }
+  }
 
 }
 
@@ -70,7 +104,7 @@ object FIGure {
    * @return An FIGure containing one character that uses the given FIGfont
    */
   def apply(char: FIGcharacter, font: FIGfont): FIGure =
-    FIGure(font, char.name.toString, Seq(char.columns))
+    FIGure(font, new String(Character.toChars(char.name)), Seq(char.columns))
 
   /**
    * Creates a FIGure that contains a single character given as a Char
@@ -84,4 +118,14 @@ object FIGure {
 
   ->()
 
+  //  Support  //
+
+  private def writeLine(out: Appendable, line: Array[Char], length: Int): Unit =
+    out match {
+      case writer: Writer                   => writer.write(line, 0, length)
+      case buffer: CharBuffer               => val _ = buffer.put(line, 0, length)
+      case builder: java.lang.StringBuilder => val _ = builder.append(line, 0, length)
+      case _                                => val _ = out.append(CharBuffer.wrap(line, 0, length))
+    }
+
 }
@@ -0,0 +1,206 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import cats.implicits._
+import scala.collection.immutable.{ AbstractSeq, IndexedSeq }
+
+/**
+ * The columns of a FIGure stored as the characters of each line of the FIGure packed row by row into a single array
+ *
+ * The columns, the lines and their versions stripped of the hardblanks are views over the arrays that create the
+ * Strings of the sub-elements only when they are read, replacing the hardblanks at the same time. This way a FIGure
+ * takes about the memory of its characters, however it's read. The lines are never changed once created, so they are
+ * shared by the FIGures that extend a FIGure with more text.
+ *
+ * @param packed The lines of the FIGure
+ */
+final private[figlet4s] class FIGureBuffer private (val packed: Vector[FIGureBuffer.Line])
+    extends AbstractSeq[SubColumns]
+    with IndexedSeq[SubColumns] {
+
+  /** The max width of the lines of the FIGure */
+  val width: Int =
+    packed.foldLeft(0)((result, line) => if (line.height > 0) Math.max(result, line.width) else result)
+
+  /** The number of sub-characters of the FIGure */
+  def cells: Long =
+    packed.foldLeft(0L)((total, line) => total + line.width.toLong * line.height)
+
+  def length: Int =
+    packed.length
+
+  def apply(i: Int): SubColumns =
+    packed(i).columns(FIGureBuffer.NoReplacement)
+
+  /** The columns of the FIGure with the hardblanks replaced by spaces */
+  def cleanColumns(hardblank: Char): Seq[SubColumns] =
+    packed.map(_.columns(hardblank.toInt))
+
+  /** The lines of the FIGure */
+  def lines: Seq[SubLines] =
+    packed.map(_.lines(FIGureBuffer.NoReplacement))
+
+  /** The lines of the FIGure with the hardblanks replaced by spaces */
+  def cleanLines(hardblank: Char): Seq[SubLines] =
+    packed.map(_.lines(hardblank.toInt))
+
+  // Two buffers are compared on their arrays, without creating the columns
+  @SuppressWarnings(Array("org.wartremover.warts.Equals"))
+  override def equals(other: Any): Boolean =
+    other match {
+      case that: FIGureBuffer => packed == that.packed
+      case _                  => super.equals(other)
+    }
+
+  override def hashCode(): Int =
+    super.hashCode()
+
+}
+
+object FIGureBuffer {
+
+  /**
+   * Creates the buffer of some columns, using them directly if they're already a buffer
+   *
+   * @param columns The columns of each line of the FIGure, all of the same height in a line
+   * @return The buffer with the same columns
+   */
+  def apply(columns: Seq[SubColumns]): FIGureBuffer =
+    columns match {
+      case buffer: FIGureBuffer => buffer
+      case _                    => new FIGureBuffer(columns.iterator.map(Line(_)).toVector)
+    }
+
+  /**
+   * Creates the buffer of some packed lines
+   *
+   * @param lines The lines of the FIGure
+   * @return The buffer with the given lines
+   */
+  def fromLines(lines: Vector[Line]): FIGureBuffer =
+    new FIGureBuffer(lines)
+
+  /**
+   * A line of a FIGure with its characters stored row by row, so that the sub-character at a row and a column is at
+   * `row * width + column`
+   *
+   * A line without columns has no rows either, like the SubColumns of an empty line.
+   *
+   * @param chars  The characters of the line, never modified
+   * @param width  The number of columns of the line
+   * @param height The number of rows of the line
+   */
+  @SuppressWarnings(
+    Array(
+      "org.wartremover.warts.Equals",
+      "org.wartremover.warts.Throw",
+      "org.wartremover.warts.Var",
+      "org.wartremover.warts.While",
+    ),
+  )
+  final class Line private (private val chars: Array[Char], val width: Int, val height: Int) {
+
+    /** The columns of the line, with the given character replaced by a space unless it's negative */
+    def columns(blank: Int): SubColumns =
+      SubColumns(new ColumnsView(this, blank))
+
+    /** The rows of the line, with the given character replaced by a space unless it's negative */
+    def lines(blank: Int): SubLines =
+      SubLines(new RowsView(this, blank))
+
+    /** Creates the String of a column */
+    def column(column: Int, blank: Int): String = {
+      if (column < 0 || column >= width) throw new IndexOutOfBoundsException(s"Column $column of $width")
+      val result = new Array[Char](height)
+      var r      = 0
+      while (r < height) {
+        val char = chars(r * width + column)
+        result(r) = if (char.toInt == blank) ' ' else char
+        r += 1
+      }
+      new String(result)
+    }
+
+    /** Creates the String of a row */
+    def row(row: Int, blank: Int): String = {
+      if (row < 0 || row >= height) throw new IndexOutOfBoundsException(s"Row $row of $height")
+      val result = new String(chars, row * width, width)
+      if (blank < 0) result else result.replace(blank.toChar, ' ')
+    }
+
+    /** Copies a row into the beginning of an array, with the given character replaced by a space */
+    def copyRow(row: Int, blank: Char, target: Array[Char]): Unit = {
+      val offset = row * width
+      var c      = 0
+      while (c < width) {
+        val char = chars(offset + c)
+        target(c) = if (char == blank) ' ' else char
+        c += 1
+      }
+    }
+
+    override def equals(other: Any): Boolean =
+      other match {
+        case that: Line => width === that.width && height === that.height && java.util.Arrays.equals(chars, that.chars)
+        case _          => false
+      }
+
+    override def hashCode(): Int =
+      java.util.Arrays.hashCode(chars) * 31 + width
+
+  }
+
+  object Line {
+
+    /** A line without columns and rows */
+    val empty: Line = new Line(Array.emptyCharArray, 0, 0)
+
+    /**
+     * Creates a line from its characters stored row by row
+     *
+     * @param chars  The characters of the line, that must not be modified after creating the line
+     * @param width  The number of columns of the line
+     * @param height The number of rows of the line
+     */
+    def apply(chars: Array[Char], width: Int, height: Int): Line =
+      if (width <= 0 || height <= 0) new Line(Array.emptyCharArray, Math.max(width, 0), 0)
+      else new Line(chars, width, height)
+
+    /**
+     * Creates a line packing the characters of its columns
+     *
+     * @param columns The columns of the line, all of the same height
+     */
+    @SuppressWarnings(Array("org.wartremover.warts.Var", "org.wartremover.warts.While"))
+    def apply(columns: SubColumns): Line = {
+      val values = columns.value.toArray
+      val height = columns.height
+      val chars  = new Array[Char](values.length * height)
+      var c      = 0
+      while (c < values.length) {
+        var r = 0
+        while (r < height) {
+          chars(r * values.length + c) = values(c).charAt(r)
+          r += 1
+        }
+        c += 1
+      }
+      Line(chars, values.length, height)
+    }
+
+  }
+
+  //  Support  //
+
+  private val NoReplacement: Int = -1
+
+  final private class ColumnsView(line: Line, blank: Int) extends AbstractSeq[String] with IndexedSeq[String] {
+    def length: Int                = line.width
+    def apply(column: Int): String = line.column(column, blank)
+  }
+
+  final private class RowsView(line: Line, blank: Int) extends AbstractSeq[String] with IndexedSeq[String] {
+    def length: Int             = line.height
+    def apply(row: Int): String = line.row(row, blank)
+  }
+
+}
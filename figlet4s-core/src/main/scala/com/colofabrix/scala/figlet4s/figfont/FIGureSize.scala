@@ -0,0 +1,10 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+/**
+ * The size of a rendered FIGure, known without building the FIGure
+ *
+ * @param width  The max width of the FIGure, the same as [[FIGure.width]]
+ * @param height The number of rows of the FIGure, summed over all its lines
+ * @param lines  The number of lines of the FIGure, each one as tall as the FIGfont
+ */
+final case class FIGureSize(width: Int, height: Int, lines: Int)
@@ -0,0 +1,84 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import java.nio.ByteBuffer
+import java.security.MessageDigest
+
+/**
+ * Streaming digest used to compute the identifier of a FIGfont.
+ *
+ * The identifier of a FIGfont is the MD5 digest of the raw bytes of its FLF file, header and comments included, taken
+ * as they are read and before they're decoded, so it doesn't depend on the codec used to read the file nor on its line
+ * terminators. When the FLF file is zipped the bytes are the ones of the FLF file inside the archive. The digest is
+ * represented as 32 lowercase hexadecimal digits.
+ *
+ * A FIGfont created from its lines, without its file, is identified by the digest of the lines encoded in ISO-8859-1,
+ * each terminated by a line feed (`\n`). This is the content of the file when it's stored like the internal FIGfonts,
+ * so they have the same identifier however they're created.
+ */
+@SuppressWarnings(Array("org.wartremover.warts.Var", "org.wartremover.warts.While"))
+final private[figlet4s] class FontDigest {
+
+  private val digest: MessageDigest = MessageDigest.getInstance("MD5")
+  private var encoded: Array[Byte]  = Array.emptyByteArray
+
+  /**
+   * Adds the raw bytes of a FIGfont file to the digest, between the position and the limit of the buffer
+   *
+   * @param content The bytes to add, left untouched
+   */
+  def update(content: ByteBuffer): Unit =
+    digest.update(content.duplicate())
+
+  /**
+   * Adds a line of the FIGfont file to the digest, encoded in ISO-8859-1 and terminated by a line feed
+   *
+   * The line is encoded into a buffer reused for all the lines. A character that can't be encoded in ISO-8859-1 is
+   * added as a question mark, like the encoder of the JDK does.
+   *
+   * @param line The line to add, without line terminator
+   */
+  def update(line: String): Unit = {
+    val length = line.length
+    if (encoded.length <= length) encoded = new Array[Byte](Math.max(length + 1, encoded.length * 2))
+    var i = 0
+    while (i < length) {
+      val char = line.charAt(i)
+      encoded(i) = if (char <= FontDigest.MaxLatin1) char.toByte else FontDigest.Unmappable
+      i += 1
+    }
+    encoded(length) = FontDigest.LineFeed
+    digest.update(encoded, 0, length + 1)
+  }
+
+  /**
+   * Completes the digest and returns the identifier of the FIGfont
+   *
+   * @return The identifier as 32 lowercase hexadecimal digits
+   */
+  def result(): String =
+    digest
+      .digest()
+      .map(b => f"${b & 0xff}%02x")
+      .mkString
+
+}
+
+private[figlet4s] object FontDigest {
+
+  /**
+   * Computes the identifier of a FIGfont from the raw bytes of its FLF file
+   *
+   * @param content The content of the FLF file, between the position and the limit of the buffer
+   * @return The identifier as 32 lowercase hexadecimal digits
+   */
+  def of(content: ByteBuffer): String = {
+    val digest = new FontDigest()
+    digest.update(content)
+    digest.result()
+  }
+
+  private val MaxLatin1: Char  = 0xff.toChar
+  private val Unmappable: Byte = '?'.toByte
+  private val LineFeed: Byte   = '\n'.toByte
+
+}
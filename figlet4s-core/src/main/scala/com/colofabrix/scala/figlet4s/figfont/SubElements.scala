@@ -11,12 +11,12 @@ final case class SubLines(value: Seq[String]) extends SubElementOps[SubLines] {
     SubLines(value)
 
   /** The number of columns that compose this SubLines */
-  lazy val width: Int =
-    value.map(_.length).headOption.getOrElse(0)
+  val width: Int =
+    value.headOption.fold(0)(_.length)
 
-  /** Transforms this SubLines representation into a SubColumns */
-  lazy val toSubcolumns: SubColumns =
-    SubColumns(value.transpose.map(_.mkString))
+  /** Transforms this SubLines representation into a SubColumns, computed on every call */
+  def toSubcolumns: SubColumns =
+    SubColumns(transposed)
 
   override def toString: String =
     value.map("|" + _ + "|").mkString("\n")
@@ -46,12 +46,12 @@ final case class SubColumns(value: Seq[String]) extends SubElementOps[SubColumns
     SubColumns(value)
 
   /** The number of lines that compose this SubColumns */
-  lazy val height: Int =
-    value.map(_.length).headOption.getOrElse(0)
+  val height: Int =
+    value.headOption.fold(0)(_.length)
 
-  /** Transforms this SubColumns representation into a SubLines */
-  lazy val toSublines: SubLines =
-    SubLines(value.transpose.map(_.mkString))
+  /** Transforms this SubColumns representation into a SubLines, computed on every call */
+  def toSublines: SubLines =
+    SubLines(transposed)
 
   override def toString: String =
     value.map(_.toVector).transpose.map(_.mkString("|", "", "|")).mkString("\n")
@@ -95,4 +95,33 @@ trait SubElementOps[+A <: SubElementOps[A]] {
   def replace(oldValue: String, newValue: String): A =
     pure(value.map(_.replace(oldValue, newValue)))
 
+  /**
+   * Swaps the lines with the columns of the elements, copying the characters directly when all the elements have the
+   * same length
+   */
+  @SuppressWarnings(
+    Array("org.wartremover.warts.Equals", "org.wartremover.warts.Var", "org.wartremover.warts.While"),
+  )
+  protected def transposed: Vector[String] = {
+    val elements = value.toArray
+    val size     = if (elements.isEmpty) 0 else elements(0).length
+    if (!elements.forall(_.length == size)) {
+      value.transpose.map(_.mkString).toVector
+    } else {
+      val result = Vector.newBuilder[String]
+      val buffer = new Array[Char](elements.length)
+      var i      = 0
+      while (i < size) {
+        var j = 0
+        while (j < elements.length) {
+          buffer(j) = elements(j).charAt(i)
+          j += 1
+        }
+        result += new String(buffer)
+        i += 1
+      }
+      result.result()
+    }
+  }
+
 }
@@ -0,0 +1,128 @@
+package com.colofabrix.scala.figlet4s.instrumentation
+
+import cats.effect._
+import cats.implicits._
+import java.util.ServiceLoader
+import scala.jdk.CollectionConverters._
+import scala.util.Try
+
+/**
+ * Service Provider Interface to measure the phases of loading FIGfonts and rendering texts
+ *
+ * Each method is called when a phase starts and returns the Span that is ended with the measurement of the phase once
+ * the phase completes successfully, so that an implementation can time the phase and record its measurement, for
+ * example as metrics or as tracing events. Phases that fail are never ended.
+ *
+ * The methods are called on the thread running the phase and they must be thread-safe. An implementation that doesn't
+ * want to measure a phase returns [[Span.NoOp]], so that the measurement is never collected.
+ *
+ * The Instrumentation used by figlet4s is the one set with [[Instrumentation.install]] or, when none has been set, the
+ * one selected with the `figlet4s.instrumentation` system property, which can be `jfr` for [[JfrInstrumentation]] or
+ * the name of a class with a public constructor without arguments. When the property is not set, the first provider of
+ * Instrumentation registered with a [[java.util.ServiceLoader]] is used and, when there are none, nothing is measured.
+ */
+trait Instrumentation {
+
+  /**
+   * Starts measuring the reading of a font file, from the file system or from the internal library
+   *
+   * The phase includes the processing of the content of the file, like the parsing of a FIGfont that is measured on
+   * its own as well.
+   *
+   * @return The Span that is ended when the file has been read
+   */
+  def fontRead(): Span[FontReadMeasurement]
+
+  /**
+   * Starts measuring the parsing of the lines of an FLF file into a FIGfont
+   *
+   * @return The Span that is ended when the FIGfont has been parsed
+   */
+  def fontParse(): Span[FontParseMeasurement]
+
+  /**
+   * Starts measuring the compilation of the options of an OptionsBuilder
+   *
+   * @return The Span that is ended when the options have been compiled
+   */
+  def optionsCompile(): Span[OptionsCompileMeasurement]
+
+  /**
+   * Starts measuring the rendering of a text into a FIGure
+   *
+   * @return The Span that is ended when the text has been rendered
+   */
+  def render(): Span[RenderMeasurement]
+
+}
+
+object Instrumentation {
+
+  /** System property used to select the Instrumentation when none has been installed */
+  val instrumentationProperty: String = "figlet4s.instrumentation"
+
+  /**
+   * Instrumentation that doesn't measure anything
+   */
+  object NoOp extends Instrumentation {
+    def fontRead(): Span[FontReadMeasurement]             = Span.NoOp
+    def fontParse(): Span[FontParseMeasurement]           = Span.NoOp
+    def optionsCompile(): Span[OptionsCompileMeasurement] = Span.NoOp
+    def render(): Span[RenderMeasurement]                 = Span.NoOp
+  }
+
+  @SuppressWarnings(Array("org.wartremover.warts.Var"))
+  @volatile private var installed: Instrumentation = configured()
+
+  /**
+   * The Instrumentation currently used by figlet4s
+   *
+   * @return The installed Instrumentation
+   */
+  def current: Instrumentation =
+    installed
+
+  /**
+   * Sets the Instrumentation used by figlet4s for all the phases that start from now on
+   *
+   * @param instrumentation The Instrumentation to use, [[Instrumentation.NoOp]] to stop measuring
+   */
+  def install(instrumentation: Instrumentation): Unit =
+    installed = instrumentation
+
+  /**
+   * Measures an effectful phase with the current Instrumentation
+   *
+   * @param start       The function that starts the Span of the phase
+   * @param phase       The phase to measure
+   * @param measurement The function that builds the measurement from the result of the phase
+   * @return The result of the phase
+   */
+  private[figlet4s] def measured[F[_]: Sync, M, A](
+      start: Instrumentation => Span[M],
+  )(phase: F[A])(measurement: A => M): F[A] =
+    Sync[F].delay(start(current)).flatMap { span =>
+      phase.flatTap { result =>
+        Sync[F].delay(if (span.isRecording) span.end(measurement(result)))
+      }
+    }
+
+  //  Support  //
+
+  private def configured(): Instrumentation =
+    Option(System.getProperty(instrumentationProperty)).map(_.trim) match {
+      case Some("jfr") =>
+        JfrInstrumentation
+      case Some(className) =>
+        Try(Class.forName(className).getDeclaredConstructor().newInstance())
+          .toOption
+          .collect { case instrumentation: Instrumentation => instrumentation }
+          .getOrElse(NoOp)
+      case None =>
+        Try(ServiceLoader.load(classOf[Instrumentation]).iterator.asScala.nextOption())
+          .toOption
+          .flatten
+          .getOrElse(NoOp)
+    }
+
+}
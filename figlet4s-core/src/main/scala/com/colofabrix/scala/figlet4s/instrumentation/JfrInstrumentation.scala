@@ -0,0 +1,153 @@
+package com.colofabrix.scala.figlet4s.instrumentation
+
+import jdk.jfr._
+import scala.annotation.meta.field
+
+/**
+ * Instrumentation that records each phase as an event of the JDK Flight Recorder
+ *
+ * The events are in the "figlet4s" category and they are recorded only when they are enabled in the running
+ * recording, together with their duration and the thread that ran the phase. The settings of a recording, like the
+ * duration threshold, apply to them as to any other event.
+ */
+object JfrInstrumentation extends Instrumentation {
+
+  def fontRead(): Span[FontReadMeasurement] =
+    started(new FontReadEvent())
+
+  def fontParse(): Span[FontParseMeasurement] =
+    started(new FontParseEvent())
+
+  def optionsCompile(): Span[OptionsCompileMeasurement] =
+    started(new OptionsCompileEvent())
+
+  def render(): Span[RenderMeasurement] =
+    started(new RenderEvent())
+
+  //  Support  //
+
+  private def started[M](event: Event with Span[M]): Span[M] =
+    if (event.isEnabled) {
+      event.begin()
+      event
+    } else {
+      Span.NoOp
+    }
+
+  @Name("figlet4s.FontRead")
+  @Label("Font Read")
+  @Category(Array("figlet4s"))
+  @Description("Reading of a font file")
+  @StackTrace(false)
+  @SuppressWarnings(Array("org.wartremover.warts.Var"))
+  final private class FontReadEvent extends Event with Span[FontReadMeasurement] {
+    @(Label @field)("Path")
+    var path: String = ""
+
+    @(Label @field)("Internal Library")
+    var internal: Boolean = false
+
+    def isRecording: Boolean = true
+
+    def end(measurement: FontReadMeasurement): Unit = {
+      path = measurement.path
+      internal = measurement.internal
+      commit()
+    }
+  }
+
+  @Name("figlet4s.FontParse")
+  @Label("Font Parse")
+  @Category(Array("figlet4s"))
+  @Description("Parsing of an FLF file into a FIGfont")
+  @StackTrace(false)
+  @SuppressWarnings(Array("org.wartremover.warts.Var"))
+  final private class FontParseEvent extends Event with Span[FontParseMeasurement] {
+    @(Label @field)("File")
+    var file: String = ""
+
+    @(Label @field)("Lines")
+    var lines: Int = 0
+
+    @(Label @field)("Characters")
+    var characters: Int = 0
+
+    @(Label @field)("Eager")
+    var eager: Boolean = false
+
+    @(Label @field)("Valid")
+    var valid: Boolean = false
+
+    def isRecording: Boolean = true
+
+    def end(measurement: FontParseMeasurement): Unit = {
+      file = measurement.file
+      lines = measurement.lines
+      characters = measurement.characters
+      eager = measurement.eager
+      valid = measurement.valid
+      commit()
+    }
+  }
+
+  @Name("figlet4s.OptionsCompile")
+  @Label("Options Compile")
+  @Category(Array("figlet4s"))
+  @Description("Compilation of the options of an OptionsBuilder")
+  @StackTrace(false)
+  @SuppressWarnings(Array("org.wartremover.warts.Var"))
+  final private class OptionsCompileEvent extends Event with Span[OptionsCompileMeasurement] {
+    @(Label @field)("Actions")
+    var actions: Int = 0
+
+    @(Label @field)("Font Name")
+    var fontName: String = ""
+
+    def isRecording: Boolean = true
+
+    def end(measurement: OptionsCompileMeasurement): Unit = {
+      actions = measurement.actions
+      fontName = measurement.fontName
+      commit()
+    }
+  }
+
+  @Name("figlet4s.Render")
+  @Label("Render")
+  @Category(Array("figlet4s"))
+  @Description("Rendering of a text into a FIGure")
+  @StackTrace(false)
+  @SuppressWarnings(Array("org.wartremover.warts.Var"))
+  final private class RenderEvent extends Event with Span[RenderMeasurement] {
+    @(Label @field)("Font Name")
+    var fontName: String = ""
+
+    @(Label @field)("Font Id")
+    var fontId: String = ""
+
+    @(Label @field)("Input Length")
+    var inputLength: Int = 0
+
+    @(Label @field)("Output Width")
+    var outputWidth: Int = 0
+
+    @(Label @field)("Merge Iterations")
+    var mergeIterations: Long = 0L
+
+    @(Label @field)("Wraps")
+    var wraps: Int = 0
+
+    def isRecording: Boolean = true
+
+    def end(measurement: RenderMeasurement): Unit = {
+      fontName = measurement.fontName
+      fontId = measurement.fontId
+      inputLength = measurement.inputLength
+      outputWidth = measurement.outputWidth
+      mergeIterations = measurement.mergeIterations
+      wraps = measurement.wraps
+      commit()
+    }
+  }
+
+}
@@ -0,0 +1,55 @@
+package com.colofabrix.scala.figlet4s.instrumentation
+
+import com.colofabrix.scala.figlet4s.utils
+
+/**
+ * The measurement of a phase of loading FIGfonts or rendering texts
+ */
+sealed trait Measurement extends utils.ADT
+
+/**
+ * The measurement of the reading of a font file
+ *
+ * @param path     The path of the file
+ * @param internal True if the file has been read from the internal library
+ */
+final case class FontReadMeasurement(path: String, internal: Boolean) extends Measurement
+
+/**
+ * The measurement of the parsing of an FLF file into a FIGfont
+ *
+ * @param file       The path of the FLF file
+ * @param lines      The number of lines parsed
+ * @param characters The number of FIGcharacters found in the file
+ * @param eager      True if the FIGcharacters have been created while parsing, false if they are created when used
+ * @param valid      True if the file is a valid FIGfont
+ */
+final case class FontParseMeasurement(file: String, lines: Int, characters: Int, eager: Boolean, valid: Boolean)
+    extends Measurement
+
+/**
+ * The measurement of the compilation of the options of an OptionsBuilder
+ *
+ * @param actions  The number of actions of the OptionsBuilder
+ * @param fontName The name of the FIGfont of the options, empty when the FIGfont couldn't be loaded
+ */
+final case class OptionsCompileMeasurement(actions: Int, fontName: String) extends Measurement
+
+/**
+ * The measurement of the rendering of a text into a FIGure
+ *
+ * @param fontName        The name of the FIGfont used to render the text
+ * @param fontId          The identifier of the FIGfont used to render the text
+ * @param inputLength     The number of chars of the text
+ * @param outputWidth     The number of columns of the widest line of the FIGure
+ * @param mergeIterations The number of overlaps tried to merge the FIGcharacters
+ * @param wraps           The number of times the text has been wrapped on a new line to fit the maximum width
+ */
+final case class RenderMeasurement(
+    fontName: String,
+    fontId: String,
+    inputLength: Int,
+    outputWidth: Int,
+    mergeIterations: Long,
+    wraps: Int,
+) extends Measurement
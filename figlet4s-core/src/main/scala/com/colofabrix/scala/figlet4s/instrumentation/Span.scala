@@ -0,0 +1,37 @@
+package com.colofabrix.scala.figlet4s.instrumentation
+
+/**
+ * The measurement of a single run of a phase, started by an [[Instrumentation]]
+ *
+ * @tparam M The type of the measurement of the phase
+ */
+trait Span[-M] {
+
+  /**
+   * Tells if the measurement is recorded, so that it's collected only when needed
+   *
+   * @return True if the Span must be ended with the measurement of the phase
+   */
+  def isRecording: Boolean
+
+  /**
+   * Ends the Span with the measurement of the phase
+   *
+   * @param measurement The measurement of the phase
+   */
+  def end(measurement: M): Unit
+
+}
+
+object Span {
+
+  /**
+   * Span that doesn't record anything
+   */
+  val NoOp: Span[Any] =
+    new Span[Any] {
+      def isRecording: Boolean        = false
+      def end(measurement: Any): Unit = ()
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.colofabrix.scala.figlet4s.options
 
+import com.colofabrix.scala.figlet4s.control._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.utils._
 import scala.io._
@@ -15,29 +16,38 @@ private[figlet4s] object BuilderAction {
 
   //  Default Build Actions  //
 
+  case object DefaultControlFiles     extends BuilderAction with ControlFileTag
   case object DefaultFontAction       extends BuilderAction with FontTag
   case object DefaultHorizontalLayout extends BuilderAction with HorizontalLayoutTag
   case object DefaultJustification    extends BuilderAction with JustificationTag
+  case object DefaultLineBreaking     extends BuilderAction with LineBreakingTag
   case object DefaultMaxWidthAction   extends BuilderAction with MaxWidthActionTag
   case object DefaultPrintDirection   extends BuilderAction with PrintDirectionTag
 
   //  Builder Actions  //
 
-  final case class LoadFontAction(fontPath: String, codec: Codec) extends BuilderAction with FontTag
-  final case class LoadInternalFontAction(fontName: String)       extends BuilderAction with FontTag
-  final case class SetFontAction(font: FIGfont)                   extends BuilderAction with FontTag
-  final case class SetHorizontalLayout(layout: HorizontalLayout)  extends BuilderAction with HorizontalLayoutTag
-  final case class SetJustification(justification: Justification) extends BuilderAction with JustificationTag
-  final case class SetMaxWidthAction(maxWidth: Int)               extends BuilderAction with MaxWidthActionTag
-  final case class SetPrintDirection(direction: PrintDirection)   extends BuilderAction with PrintDirectionTag
-  final case class SetTextAction(text: String)                    extends BuilderAction with TextTag
+  final case class LoadControlFileAction(path: String, codec: Codec) extends BuilderAction with ControlFileTag
+  final case class LoadFontAction(fontPath: String, codec: Codec)    extends BuilderAction with FontTag
+  final case class LoadInternalControlFileAction(name: String)       extends BuilderAction with ControlFileTag
+  final case class LoadInternalFontAction(fontName: String)          extends BuilderAction with FontTag
+  final case class LoadLazyFontAction(fontPath: String, codec: Codec) extends BuilderAction with FontTag
+  final case class SetControlFileAction(controlFile: ControlFile)    extends BuilderAction with ControlFileTag
+  final case class SetFontAction(font: FIGfont)                      extends BuilderAction with FontTag
+  final case class SetHorizontalLayout(layout: HorizontalLayout)     extends BuilderAction with HorizontalLayoutTag
+  final case class SetJustification(justification: Justification)    extends BuilderAction with JustificationTag
+  final case class SetLineBreaking(lineBreaking: LineBreaking)       extends BuilderAction with LineBreakingTag
+  final case class SetMaxWidthAction(maxWidth: Int)                  extends BuilderAction with MaxWidthActionTag
+  final case class SetPrintDirection(direction: PrintDirection)      extends BuilderAction with PrintDirectionTag
+  final case class SetTextAction(text: String)                       extends BuilderAction with TextTag
 
   //  Action Tags  //
 
   sealed trait ActionTag
+  sealed trait ControlFileTag      extends ActionTag
   sealed trait FontTag             extends ActionTag
   sealed trait HorizontalLayoutTag extends ActionTag
   sealed trait JustificationTag    extends ActionTag
+  sealed trait LineBreakingTag     extends ActionTag
   sealed trait MaxWidthActionTag   extends ActionTag
   sealed trait PrintDirectionTag   extends ActionTag
   sealed trait TextTag             extends ActionTag
@@ -45,15 +55,20 @@ private[figlet4s] object BuilderAction {
   /**
    * Determines if two actions belong to the same group by using ActionTag
    *
+   * Control files are applied one after the other, so they don't replace each other and they are all removed only by
+   * going back to the default control files.
+   *
    * @param a The first BuilderAction to check
    * @param b The true BuilderAction to check
    * @return A Boolean value where `true` means the two BuilderAction belong to the same ActionTag
    */
   def sameGroupAs(a: BuilderAction)(b: BuilderAction): Boolean =
     (a, b) match {
+      case (DefaultControlFiles, _: ControlFileTag)         => true
       case (_: FontTag, _: FontTag)                         => true
       case (_: HorizontalLayoutTag, _: HorizontalLayoutTag) => true
       case (_: JustificationTag, _: JustificationTag)       => true
+      case (_: LineBreakingTag, _: LineBreakingTag)         => true
       case (_: MaxWidthActionTag, _: MaxWidthActionTag)     => true
       case (_: PrintDirectionTag, _: PrintDirectionTag)     => true
       case (_: TextTag, _: TextTag)                         => true
@@ -97,9 +97,9 @@ object PrintDirection extends Enum[PrintDirection] {
 }
 
 /**
- * Option to choose the justification of the text
+ * Option to choose the justification of the text, where each line of the FIGure is justified within the maximum width
  *
- * @todo This feature is not yet implemented
+ * The lines are justified only when they are broken at the boundaries of the words with [[LineBreaking.Words]]
  */
 sealed trait Justification extends ADT with EnumEntry
 
@@ -119,4 +119,38 @@ object Justification extends Enum[Justification] {
   /** Use the default value specified in the FIGfont */
   case object FontDefault extends Justification
 
+  /**
+   * Resolves the justification to use with a FIGfont, where the default is flush-left for a left-to-right print
+   * direction and flush-right for a right-to-left one
+   */
+  private[figlet4s] def resolve(
+      font: FIGfont,
+      printDirection: PrintDirection,
+  ): PartialFunction[Justification, Justification] = {
+    case FontDefault =>
+      PrintDirection.toInternalLayout(font)(printDirection) match {
+        case FontDirection.RightToLeft => FlushRight
+        case _                         => FlushLeft
+      }
+    case justification =>
+      justification
+  }
+
+}
+
+/**
+ * Option to choose where the text is broken into lines when it exceeds the maximum width
+ */
+sealed trait LineBreaking extends ADT with EnumEntry
+
+object LineBreaking extends Enum[LineBreaking] {
+
+  val values: IndexedSeq[LineBreaking] = findValues
+
+  /** Break a line at the FIGcharacter that would exceed the maximum width, without justifying the lines */
+  case object Characters extends LineBreaking
+
+  /** Break the lines at the boundaries of the words like FIGdrivers do and justify each line within the maximum width */
+  case object Words extends LineBreaking
+
 }
@@ -3,9 +3,11 @@ package com.colofabrix.scala.figlet4s.options
 import cats.Applicative
 import cats.effect.Sync
 import cats.implicits._
+import com.colofabrix.scala.figlet4s.control._
 import com.colofabrix.scala.figlet4s.core._
 import com.colofabrix.scala.figlet4s.errors._
 import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.instrumentation._
 import com.colofabrix.scala.figlet4s.options.BuilderAction._
 import com.colofabrix.scala.figlet4s.options.OptionsBuilder._
 import scala.io.Codec
@@ -68,6 +70,19 @@ final class OptionsBuilder(private[figlet4s] val actions: List[BuilderAction] =
   def withFont(fontPath: String, codec: Codec = Codec.ISO8859): OptionsBuilder =
     addAction(LoadFontAction(fontPath, codec))
 
+  /**
+   * Use a font loaded from file, validating and creating each FIGcharacter only the first time it's used
+   *
+   * The loading of the font is performed when the [[RenderOptions]] is built. Only the header and the structure of the
+   * file are validated at that time, and a FIGcharacter that is not valid is rendered as missing.
+   *
+   * @param fontPath Path of the font, including the extension
+   * @param codec Encoding of the font. The default is ISO-8859
+   * @return The option builder with the rendering font set to the loaded font
+   */
+  def withLazyFont(fontPath: String, codec: Codec = Codec.ISO8859): OptionsBuilder =
+    addAction(LoadLazyFontAction(fontPath, codec))
+
   /**
    * Use a specific font that's already been loaded
    *
@@ -77,6 +92,50 @@ final class OptionsBuilder(private[figlet4s] val actions: List[BuilderAction] =
   def withFont(font: FIGfont): OptionsBuilder =
     addAction(SetFontAction(font))
 
+  //  Control Files  //
+
+  /**
+   * Don't use any control file, removing the ones added so far
+   *
+   * @return The option builder without control files
+   */
+  def defaultControlFiles(): OptionsBuilder =
+    addAction(DefaultControlFiles)
+
+  /**
+   * Use one of the internal control files to translate the characters of the text, after the control files added so
+   * far
+   *
+   * The loading of the control file is performed when the [[RenderOptions]] is built.
+   *
+   * @param name Name of the internal control file to load
+   * @return The option builder with the control file added to the ones to apply
+   */
+  def withInternalControlFile(name: String): OptionsBuilder =
+    addAction(LoadInternalControlFileAction(name))
+
+  /**
+   * Use a control file loaded from file to translate the characters of the text, after the control files added so far
+   *
+   * The loading of the control file is performed when the [[RenderOptions]] is built.
+   *
+   * @param path  Path of the control file, including the extension
+   * @param codec Encoding of the control file. The default is ISO-8859
+   * @return The option builder with the control file added to the ones to apply
+   */
+  def withControlFile(path: String, codec: Codec = Codec.ISO8859): OptionsBuilder =
+    addAction(LoadControlFileAction(path, codec))
+
+  /**
+   * Use a specific control file that's already been loaded to translate the characters of the text, after the control
+   * files added so far
+   *
+   * @param controlFile The ControlFile to apply
+   * @return The option builder with the control file added to the ones to apply
+   */
+  def withControlFile(controlFile: ControlFile): OptionsBuilder =
+    addAction(SetControlFileAction(controlFile))
+
   //  Horizontal Layout  //
 
   /**
@@ -141,7 +200,6 @@ final class OptionsBuilder(private[figlet4s] val actions: List[BuilderAction] =
   /**
    * Use the default justification
    *
-   * @todo This feature is not yet implemented
    * @return The option builder with the justification set to the default one
    */
   def defaultJustification(): OptionsBuilder =
@@ -150,13 +208,32 @@ final class OptionsBuilder(private[figlet4s] val actions: List[BuilderAction] =
   /**
    * Use the specified justification to render the text
    *
-   * @todo This feature is not yet implemented
    * @param justification The justification to use
    * @return The option builder with the justification set to the specified one
    */
   def withJustification(justification: Justification): OptionsBuilder =
     addAction(SetJustification(justification))
 
+  //  Line Breaking  //
+
+  /**
+   * Use the default line breaking, that breaks a line at the FIGcharacter that would exceed the maximum width
+   *
+   * @return The option builder with the line breaking set to the default one
+   */
+  def defaultLineBreaking(): OptionsBuilder =
+    addAction(DefaultLineBreaking)
+
+  /**
+   * Use the specified line breaking to render the text. The lines are justified only when they are broken at the
+   * boundaries of the words.
+   *
+   * @param lineBreaking The line breaking to use
+   * @return The option builder with the line breaking set to the specified one
+   */
+  def withLineBreaking(lineBreaking: LineBreaking): OptionsBuilder =
+    addAction(SetLineBreaking(lineBreaking))
+
   //  Support  //
 
   private[figlet4s] def compile[F[_]: Sync]: F[BuildData] =
@@ -170,9 +247,11 @@ final class OptionsBuilder(private[figlet4s] val actions: List[BuilderAction] =
 private[figlet4s] object OptionsBuilder {
 
   final case class BuildData(
+      controlFiles: Vector[FigletResult[ControlFile]] = Vector.empty,
       font: Option[FigletResult[FIGfont]] = None,
       horizontalLayout: HorizontalLayout = HorizontalLayout.FontDefault,
       justification: Justification = Justification.FontDefault,
+      lineBreaking: LineBreaking = LineBreaking.Characters,
       maxWidth: Option[Int] = None,
       printDirection: PrintDirection = PrintDirection.FontDefault,
       text: String = "",
@@ -201,15 +280,22 @@ private[figlet4s] object OptionsBuilder {
    * Compiler to run BuilderAction that create BuildData, generic in the effect
    */
   def compile[F[_]: Sync](self: OptionsBuilder): F[BuildData] =
-    self
-      .actions
-      .foldM(BuildData())(foldCompilers(allCompilers))
+    Instrumentation.measured[F, OptionsCompileMeasurement, BuildData](_.optionsCompile()) {
+      self
+        .actions
+        .foldM(BuildData())(foldCompilers(allCompilers))
+    } { buildData =>
+      val fontName = buildData.font.flatMap(_.toOption).map(_.name).getOrElse("")
+      OptionsCompileMeasurement(self.actions.size, fontName)
+    }
 
   private def allCompilers[F[_]: Sync]: List[ActionCompiler[F]] =
     List(
+      compileControlFiles[F],
       compileFonts[F],
       compileHorizontalLayout[F],
       compileJustification[F],
+      compileLineBreaking[F],
       compileMaxWidth[F],
       compilePrintDirection[F],
       compileText[F],
@@ -221,6 +307,29 @@ private[figlet4s] object OptionsBuilder {
       Applicative[F].pure(buildData.copy(text = text))
   }
 
+  /** Compiles the settings for Control Files, where the actions are compiled from the last one added */
+  private def compileControlFiles[F[_]: Sync]: ActionCompiler[F] = {
+    case (buildData, DefaultControlFiles) =>
+      Sync[F].pure(buildData)
+
+    case (buildData, SetControlFileAction(controlFile)) =>
+      Sync[F].pure(buildData.copy(controlFiles = controlFile.validNec[FigletException] +: buildData.controlFiles))
+
+    case (buildData, LoadControlFileAction(path, encoding)) =>
+      Figlet4sClient
+        .loadControlFile[F](path, encoding)
+        .map { controlFile =>
+          buildData.copy(controlFiles = controlFile +: buildData.controlFiles)
+        }
+
+    case (buildData, LoadInternalControlFileAction(name)) =>
+      Figlet4sClient
+        .loadControlFileInternal[F](name)
+        .map { controlFile =>
+          buildData.copy(controlFiles = controlFile +: buildData.controlFiles)
+        }
+  }
+
   /** Compiles the settings for Fonts */
   private def compileFonts[F[_]: Sync]: ActionCompiler[F] = {
     case (buildData, DefaultFontAction) =>
@@ -240,6 +349,13 @@ private[figlet4s] object OptionsBuilder {
           buildData.copy(font = Some(font))
         }
 
+    case (buildData, LoadLazyFontAction(fontPath, encoding)) =>
+      Figlet4sClient
+        .loadFontLazily[F](fontPath, encoding)
+        .map { font =>
+          buildData.copy(font = Some(font))
+        }
+
     case (buildData, LoadInternalFontAction(fontName)) =>
       Figlet4sClient
         .loadFontInternal[F](fontName)
@@ -284,6 +400,15 @@ private[figlet4s] object OptionsBuilder {
       Applicative[F].pure(buildData.copy(justification = justification))
   }
 
+  /** Compiles the settings for Line Breaking */
+  private def compileLineBreaking[F[_]: Applicative]: ActionCompiler[F] = {
+    case (buildData, DefaultLineBreaking) =>
+      Applicative[F].pure(buildData.copy(lineBreaking = LineBreaking.Characters))
+
+    case (buildData, SetLineBreaking(lineBreaking)) =>
+      Applicative[F].pure(buildData.copy(lineBreaking = lineBreaking))
+  }
+
   @SuppressWarnings(Array("org.wartremover.warts.TraversableOps", "org.wartremover.warts.OptionPartial"))
   private def foldCompilers[F[_]](data: List[ActionCompiler[F]]): (BuildData, BuilderAction) => F[BuildData] =
     Function.untupled(data.reduceOption(_ orElse _).get)
@@ -1,5 +1,6 @@
 package com.colofabrix.scala.figlet4s.options
 
+import com.colofabrix.scala.figlet4s.control._
 import com.colofabrix.scala.figlet4s.figfont._
 
 /**
@@ -10,6 +11,8 @@ import com.colofabrix.scala.figlet4s.figfont._
  * @param horizontalLayout The desired horizontal layout to render the text
  * @param printDirection   The print direction
  * @param justification    The text justification
+ * @param controlFiles     The control files that translate the characters of the text, applied in order
+ * @param lineBreaking     Where the text is broken into lines when it exceeds the maximum width
  */
 final case class RenderOptions(
     font: FIGfont,
@@ -17,4 +20,12 @@ final case class RenderOptions(
     horizontalLayout: HorizontalLayout,
     printDirection: PrintDirection,
     justification: Justification,
-)
+    controlFiles: Seq[ControlFile] = Vector.empty,
+    lineBreaking: LineBreaking = LineBreaking.Characters,
+) {
+
+  /** The translation of the control files, compiled when the options are created */
+  private[figlet4s] val translation: Translation =
+    if (controlFiles.isEmpty) Translation.identity else Translation(controlFiles)
+
+}
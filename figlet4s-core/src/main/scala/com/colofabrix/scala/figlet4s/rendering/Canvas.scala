@@ -0,0 +1,368 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.rendering.Canvas._
+import com.colofabrix.scala.figlet4s.rendering.Rendering._
+
+/**
+ * Mutable drawing surface that holds one line of a FIGure as a row-major matrix of sub-characters.
+ *
+ * FIGcharacters are merged directly into the rows of the Canvas: the overlap with an incoming FIGcharacter is computed
+ * by looking at the last columns of each row and, once decided, the merged sub-characters are written in place. No
+ * intermediate columns are built while merging and the rows of the Canvas are copied into a line of the FIGure only
+ * once the line is complete.
+ *
+ * A Canvas is not thread-safe and it is meant to be confined to a single rendering.
+ *
+ * @param height        The number of rows of the Canvas, which is the height of the FIGfont
+ * @param hardblank     The hardblank character of the FIGfont
+ * @param mergeTable    The precomputed outcomes of merging two overlapping sub-characters
+ */
+@SuppressWarnings(
+  Array(
+    "org.wartremover.warts.Equals",
+    "org.wartremover.warts.NonUnitStatements",
+    "org.wartremover.warts.Var",
+    "org.wartremover.warts.While",
+  ),
+)
+final private[rendering] class Canvas(height: Int, hardblank: Char, mergeTable: MergeTable) {
+
+  private var rows: Array[Array[Char]] = Array.fill(height)(new Array[Char](InitialCapacity))
+  private var currentWidth: Int        = 0
+  private val trailing: Array[Int]     = new Array[Int](height)
+  private var iterations: Long         = 0L
+
+  private var markWidth: Int               = NoMark
+  private var markFrom: Int                = 0
+  private val markTrailing: Array[Int]     = new Array[Int](height)
+  private val markRows: Array[Array[Char]] = Array.fill(height)(Array.emptyCharArray)
+
+  /** The number of columns currently drawn on the Canvas */
+  def width: Int = currentWidth
+
+  /** The number of overlaps evaluated to merge Glyphs since the Canvas has been created */
+  def mergeIterations: Long = iterations
+
+  /**
+   * Finds how many columns of the given Glyph can overlap with the right side of the Canvas.
+   *
+   * When blanks always fit, the overlap can be increased without merging until a row of the Canvas and a row of the
+   * Glyph touch with non-blank sub-characters. This maximal candidate is found looking at the blank profiles of the
+   * rows, then only the active pair of sub-characters of the rows that touch are merged to decide if the overlap can
+   * grow by one more column. Otherwise, overlaps are tried in increasing order and the search stops at the first
+   * overlap that doesn't produce a valid merge, or at the first overlap that produces a final merge.
+   *
+   * @param glyph         The Glyph to merge with the Canvas
+   * @param lastCharWidth The width of the last FIGcharacter merged into the Canvas
+   * @return The number of overlapping columns
+   */
+  def overlap(glyph: Glyph, lastCharWidth: Int): Int =
+    if (!mergeTable.blanksFit) {
+      searchOverlap(glyph, lastCharWidth, 1, 0)
+    } else {
+      val candidate = blankOverlap(glyph)
+      if (candidate >= glyph.width)
+        glyph.width
+      else
+        evaluateActive(glyph, MergeState(candidate + 1, glyph.width, lastCharWidth), candidate) match {
+          case OutcomeContinue    => searchOverlap(glyph, lastCharWidth, candidate + 2, candidate + 1)
+          case OutcomeCurrentLast => candidate + 1
+          case _                  => candidate
+        }
+    }
+
+  /**
+   * Merges a Glyph into the Canvas using the given overlap
+   *
+   * @param glyph         The Glyph to merge with the Canvas
+   * @param overlap       The number of overlapping columns, as returned by [[overlap]]
+   * @param lastCharWidth The width of the last FIGcharacter merged into the Canvas
+   */
+  def append(glyph: Glyph, overlap: Int, lastCharWidth: Int): Unit = {
+    val aWidth   = currentWidth
+    val newWidth = aWidth + glyph.width - overlap
+    val shift    = aWidth - overlap
+    val start    = Math.max(0, overlap - aWidth)
+    val skip     = HorizontalMergeRules.skipSmushing(MergeState(overlap, glyph.width, lastCharWidth))
+
+    ensureCapacity(newWidth)
+    saveMarked(Math.max(0, shift))
+
+    var r = 0
+    while (r < height) {
+      val aRow = rows(r)
+      val bRow = glyph.rows(r)
+      var j    = start
+      while (j < overlap) {
+        val outcome = mergeTable(aRow(shift + j), bRow.charAt(j), skip)
+        if (!MergeTable.isStop(outcome)) aRow(shift + j) = MergeTable.value(outcome)
+        j += 1
+      }
+      while (j < glyph.width) {
+        aRow(shift + j) = bRow.charAt(j)
+        j += 1
+      }
+      trailing(r) =
+        if (glyph.rightBlanks(r) < glyph.width - overlap) glyph.rightBlanks(r)
+        else trailingBlanks(aRow, Math.max(0, shift), newWidth, aWidth, trailing(r))
+      r += 1
+    }
+
+    currentWidth = newWidth
+  }
+
+  /**
+   * Removes all columns from the Canvas, keeping the allocated space
+   */
+  def clear(): Unit = {
+    currentWidth = 0
+    markWidth = NoMark
+    java.util.Arrays.fill(trailing, 0)
+  }
+
+  /**
+   * Remembers the current content of the Canvas so that it can be restored with [[reset]]. The columns are saved only
+   * when a later merge is about to change them, which happens only for the few columns an incoming Glyph overlaps.
+   */
+  def mark(): Unit = {
+    markWidth = currentWidth
+    markFrom = currentWidth
+    System.arraycopy(trailing, 0, markTrailing, 0, height)
+  }
+
+  /** Tells if the Canvas has a content to restore with [[reset]] */
+  def isMarked: Boolean = markWidth != NoMark
+
+  /**
+   * Restores the content of the Canvas to the last [[mark]], dropping all the columns merged since then
+   */
+  def reset(): Unit =
+    if (isMarked) {
+      var r = 0
+      while (markFrom < markWidth && r < height) {
+        System.arraycopy(markRows(r), markFrom, rows(r), markFrom, markWidth - markFrom)
+        r += 1
+      }
+      System.arraycopy(markTrailing, 0, trailing, 0, height)
+      currentWidth = markWidth
+      markWidth = NoMark
+    }
+
+  /**
+   * Creates a new Canvas with the same content and the same mark of this one, that can be changed independently
+   *
+   * Only the columns currently drawn are copied, so the cost depends on the width of the line and not on the text
+   * rendered before it.
+   */
+  def copy(): Canvas = {
+    val result = new Canvas(height, hardblank, mergeTable)
+    result.ensureCapacity(currentWidth)
+    var r = 0
+    while (r < height) {
+      System.arraycopy(rows(r), 0, result.rows(r), 0, currentWidth)
+      if (isMarked && markFrom < markWidth) result.markRows(r) = java.util.Arrays.copyOf(markRows(r), markWidth)
+      r += 1
+    }
+    System.arraycopy(trailing, 0, result.trailing, 0, height)
+    System.arraycopy(markTrailing, 0, result.markTrailing, 0, height)
+    result.currentWidth = currentWidth
+    result.markWidth = markWidth
+    result.markFrom = markFrom
+    result
+  }
+
+  /**
+   * Copies the content of the Canvas into a line of a FIGure
+   *
+   * @param padding The number of blank columns to add before the content, ignored when the Canvas is empty
+   * @return The line of a FIGure with the current content of the Canvas
+   */
+  def toLine(padding: Int): FIGureBuffer.Line =
+    if (currentWidth == 0) FIGureBuffer.Line.empty
+    else {
+      val width = padding + currentWidth
+      val chars = new Array[Char](width * height)
+      var r     = 0
+      while (r < height) {
+        java.util.Arrays.fill(chars, r * width, r * width + padding, ' ')
+        System.arraycopy(rows(r), 0, chars, r * width + padding, currentWidth)
+        r += 1
+      }
+      FIGureBuffer.Line(chars, width, height)
+    }
+
+  /**
+   * Converts the content of the Canvas into its rows with the hardblanks replaced by spaces, like the clean lines of a
+   * FIGure. An empty Canvas has no rows.
+   *
+   * @param padding The number of spaces to add at the beginning of each row
+   * @return The rows of the Canvas ready to be printed
+   */
+  def toCleanRows(padding: Int): Vector[String] =
+    if (currentWidth == 0) Vector.empty
+    else {
+      val blank = " " * padding
+      rows.iterator.map(row => blank + new String(row, 0, currentWidth).replace(hardblank, ' ')).toVector
+    }
+
+  //  Support  //
+
+  /** Tries overlaps in increasing order, starting from the given one, and returns the last valid overlap */
+  private def searchOverlap(glyph: Glyph, lastCharWidth: Int, from: Int, valid: Int): Int = {
+    var result = valid
+    var next   = from
+    while (next <= glyph.width) {
+      evaluate(glyph, MergeState(next, glyph.width, lastCharWidth)) match {
+        case OutcomeContinue =>
+          result = next
+          next += 1
+        case OutcomeCurrentLast =>
+          result = next
+          next = Int.MaxValue
+        case _ =>
+          next = Int.MaxValue
+      }
+    }
+    result
+  }
+
+  /**
+   * Finds the largest overlap that only merges blank sub-characters with other sub-characters, either because they
+   * are in the blank trailing part of the Canvas or in the blank leading part of the Glyph
+   */
+  private def blankOverlap(glyph: Glyph): Int = {
+    var result = Int.MaxValue
+    var r      = 0
+    while (r < height) {
+      result = Math.min(result, trailing(r) + glyph.leftBlanks(r))
+      r += 1
+    }
+    result
+  }
+
+  /**
+   * Evaluates the outcome of merging the Glyph with the Canvas at one column more than the blank overlap. Only the
+   * rows where the blank overlap is reached have a pair of non-blank sub-characters to merge, all other pairs involve
+   * a blank sub-character and always continue.
+   */
+  private def evaluateActive(glyph: Glyph, state: MergeState, blankOverlap: Int): Int = {
+    val skip    = HorizontalMergeRules.skipSmushing(state)
+    val aWidth  = currentWidth
+    var outcome = OutcomeContinue
+    iterations += 1
+
+    var r = 0
+    while (outcome != OutcomeStop && r < height) {
+      val leftBlanks = glyph.leftBlanks(r)
+      if (trailing(r) + leftBlanks == blankOverlap) {
+        // The Glyph's non-blank sub-character would fall before the start of the Canvas
+        if (trailing(r) >= aWidth) {
+          outcome = OutcomeStop
+        } else {
+          val merged = mergeTable(rows(r)(aWidth - trailing(r) - 1), glyph.rows(r).charAt(leftBlanks), skip)
+          if (MergeTable.isStop(merged)) outcome = OutcomeStop
+          else if (MergeTable.isCurrentLast(merged)) outcome = OutcomeCurrentLast
+        }
+      }
+      r += 1
+    }
+
+    outcome
+  }
+
+  /** Evaluates the outcome of merging the Glyph with the Canvas at a given overlap */
+  private def evaluate(glyph: Glyph, state: MergeState): Int = {
+    val skip     = HorizontalMergeRules.skipSmushing(state)
+    val aWidth   = currentWidth
+    val shift    = aWidth - state.overlap
+    val overhang = Math.max(0, state.overlap - aWidth)
+    var outcome  = OutcomeContinue
+    iterations += 1
+
+    var r = 0
+    while (outcome != OutcomeStop && r < height) {
+      val aRow = rows(r)
+      val bRow = glyph.rows(r)
+
+      // The columns of the Glyph that fall before the start of the Canvas must be blank
+      var j = 0
+      while (outcome != OutcomeStop && j < overhang) {
+        if (bRow.charAt(j) != ' ' || MergeTable.isStop(mergeTable(hardblank, ' ', skip))) outcome = OutcomeStop
+        j += 1
+      }
+
+      while (outcome != OutcomeStop && j < state.overlap) {
+        val merged = mergeTable(aRow(shift + j), bRow.charAt(j), skip)
+        if (MergeTable.isStop(merged)) outcome = OutcomeStop
+        else if (MergeTable.isCurrentLast(merged)) outcome = OutcomeCurrentLast
+        j += 1
+      }
+
+      r += 1
+    }
+
+    outcome
+  }
+
+  /**
+   * Counts the blank sub-characters at the end of a row, looking only at the columns written by the last merge and
+   * relying on the previous count of the columns before them
+   */
+  private def trailingBlanks(row: Array[Char], from: Int, to: Int, previousWidth: Int, previousBlanks: Int): Int = {
+    var i = to - 1
+    while (i >= from && row(i) == ' ') i -= 1
+    if (i >= from) to - 1 - i
+    else (to - from) + Math.max(0, previousBlanks - (previousWidth - from))
+  }
+
+  /** Saves the columns of the marked content, from the given one on, that haven't been saved yet */
+  private def saveMarked(from: Int): Unit =
+    if (isMarked && from < markFrom) {
+      var r = 0
+      while (r < height) {
+        if (markRows(r).length < markWidth) markRows(r) = java.util.Arrays.copyOf(rows(r), rows(r).length)
+        else System.arraycopy(rows(r), from, markRows(r), from, markFrom - from)
+        r += 1
+      }
+      markFrom = from
+    }
+
+  /** Makes sure the rows can contain at least the given number of columns */
+  private def ensureCapacity(required: Int): Unit =
+    if (height > 0 && required > rows(0).length) {
+      val capacity = Math.max(required, rows(0).length * 2)
+      rows = rows.map(java.util.Arrays.copyOf(_, capacity))
+    }
+
+}
+
+private[rendering] object Canvas {
+
+  /**
+   * A FIGcharacter prepared to be merged into a Canvas, with its lines indexed for direct access
+   *
+   * @param rows        The lines of the FIGcharacter
+   * @param width       The width of the FIGcharacter
+   * @param leftBlanks  The number of blank sub-characters at the beginning of each line
+   * @param rightBlanks The number of blank sub-characters at the end of each line
+   */
+  final class Glyph(val rows: Array[String], val width: Int, val leftBlanks: Array[Int], val rightBlanks: Array[Int])
+
+  object Glyph {
+
+    /** Creates a Glyph from a FIGcharacter */
+    def apply(figChar: FIGcharacter): Glyph =
+      new Glyph(figChar.rows, figChar.width, figChar.leftBlanks, figChar.rightBlanks)
+
+  }
+
+  private val InitialCapacity: Int = 64
+
+  private val NoMark: Int = -1
+
+  private val OutcomeContinue: Int    = 0
+  private val OutcomeCurrentLast: Int = 1
+  private val OutcomeStop: Int        = 2
+
+}
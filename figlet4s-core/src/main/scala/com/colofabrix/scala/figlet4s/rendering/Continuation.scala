@@ -0,0 +1,69 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import com.colofabrix.scala.figlet4s.figfont._
+import java.lang.ref.WeakReference
+import java.util.concurrent.atomic.AtomicReferenceArray
+
+/**
+ * The state of a Rendering at the end of the text of a FIGure, kept to render more text after it
+ *
+ * The Canvas and the LineBreaker are never changed after the Continuation is created: they are copied before rendering
+ * more text, so a Continuation can be shared between threads and used any number of times. The lines completed before
+ * the last one are shared with the FIGures rendered from the Continuation.
+ *
+ * @param completed   The lines of the FIGure completed before the last one
+ * @param canvas      The Canvas with the last line of the FIGure
+ * @param breaker     The LineBreaker at the end of the text
+ * @param pendingHigh A high surrogate at the end of the text that a low surrogate could still complete, or a negative
+ *                    value when there is none. It's not drawn on the Canvas.
+ */
+final private[rendering] class Continuation(
+    val completed: Vector[FIGureBuffer.Line],
+    val canvas: Canvas,
+    val breaker: LineBreaker,
+    val pendingHigh: Int,
+)
+
+/**
+ * The Continuations of the FIGures last rendered by a Rendering, found by the identity of the FIGures
+ *
+ * Each FIGure takes the slot of its identity hash code, replacing the Continuation that was there, so the table keeps a
+ * bounded number of Continuations and the FIGures stay immutable. The FIGures are referenced weakly so that the table
+ * doesn't keep them alive. The text of a FIGure that has lost its slot is broken into lines again when it's extended.
+ * The slots are replaced atomically and the table can be shared between threads.
+ *
+ * @param slots The number of slots of the table, a power of two
+ */
+final private[rendering] class Continuations(slots: Int) {
+
+  import Continuations._
+
+  private val table: AtomicReferenceArray[Entry] = new AtomicReferenceArray[Entry](slots)
+
+  /**
+   * The Continuation of a FIGure, if it's still in the table
+   */
+  def get(figure: FIGure): Option[Continuation] =
+    Option(table.get(slotOf(figure)))
+      .filter(_.figure.get eq figure)
+      .map(_.continuation)
+
+  /**
+   * Keeps the Continuation of a FIGure, in place of the one in the same slot
+   */
+  def put(figure: FIGure, continuation: Continuation): Unit =
+    table.set(slotOf(figure), new Entry(new WeakReference(figure), continuation))
+
+  //  Support  //
+
+  private def slotOf(figure: FIGure): Int =
+    System.identityHashCode(figure) & (slots - 1)
+
+}
+
+private object Continuations {
+
+  /** A slot of the table, with the FIGure it belongs to */
+  final private class Entry(val figure: WeakReference[FIGure], val continuation: Continuation)
+
+}
@@ -5,6 +5,7 @@ import com.colofabrix.scala.figlet4s.figfont.FIGfontParameters._
 import com.colofabrix.scala.figlet4s.options.{ HorizontalLayout => ClientHorizontalLayout, RenderOptions }
 import com.colofabrix.scala.figlet4s.rendering.MergeAction._
 import com.colofabrix.scala.figlet4s.rendering.Rendering._
+import scala.collection.concurrent.TrieMap
 
 /**
  * Merging rules for horizontal appending of characters
@@ -22,8 +23,30 @@ private[figlet4s] object HorizontalMergeRules {
     layout2mergeStrategy(options.font.header.hardblank)(chosenLayout)
   }
 
+  /**
+   * Returns the precomputed MergeTable of the merge strategy for the given RenderOptions. MergeTables are built once
+   * for each combination of hardblank and horizontal layout and then reused by all subsequent renderings.
+   *
+   * @param options The RenderOptions used to build the MergeTable
+   * @return A MergeTable that performs horizontal merging
+   */
+  def mergeTable(options: RenderOptions): MergeTable = {
+    val chosenLayout = ClientHorizontalLayout.toInternalLayout(options.font)(options.horizontalLayout)
+    val hardblank    = options.font.header.hardblank
+    mergeTables.getOrElseUpdate((hardblank, chosenLayout), MergeTable(layout2mergeStrategy(hardblank)(chosenLayout)))
+  }
+
+  /**
+   * A note in the original figlet source code states: "Disallows overlapping if the previous character or the current
+   * character has a width of 1 or zero". This is an undocumented behaviour.
+   */
+  def skipSmushing(state: MergeState): Boolean =
+    state.lastCharWidth <= 1 || state.currentCharWidth <= 1
+
   //  Support  //
 
+  private val mergeTables: TrieMap[(Char, HorizontalLayout), MergeTable] = TrieMap.empty
+
   /** Function that smushes two characters */
   private type SmushingStrategy = (Char, Char) => Option[Char]
 
@@ -78,6 +101,7 @@ private[figlet4s] object HorizontalMergeRules {
       case _ if skipSmushing(state) => Stop
       case (aChar, bChar) =>
         rules
+          .iterator
           .map(rule2smushingStrategy(hardblank))
           .map { f =>
             f(aChar, bChar)
@@ -86,13 +110,6 @@ private[figlet4s] object HorizontalMergeRules {
           .getOrElse(Stop: MergeAction[Char])
     }
 
-  /**
-   * A note in the original figlet source code states: "Disallows overlapping if the previous character or the current
-   * character has a width of 1 or zero". This is an undocumented behaviour.
-   */
-  private def skipSmushing(state: MergeState): Boolean =
-    state.lastCharWidth <= 1 || state.currentCharWidth <= 1
-
   /**
    * Returns a smushing strategy function given the smushing rule
    */
@@ -116,29 +133,29 @@ private[figlet4s] object HorizontalMergeRules {
   /**
    * An underscore ("_") will be replaced by any of: "|", "/", "\", "[", "]", "{", "}", "(", ")", "<" or ">".
    */
-  private def underscoreSmushingRule: SmushingStrategy = { (a, b) =>
-    val replaceWith = "|/\\[]{}()<>"
-    (a, b) match {
-      case ('_', _) if replaceWith.contains(b) => Some(b)
-      case (_, '_') if replaceWith.contains(a) => Some(a)
-      case _                                   => None
-    }
+  private def underscoreSmushingRule: SmushingStrategy = {
+    case ('_', b) if underscoreReplacements.contains(b) => Some(b)
+    case (a, '_') if underscoreReplacements.contains(a) => Some(a)
+    case _                                              => None
   }
 
+  private val underscoreReplacements: String = "|/\\[]{}()<>"
+
   /**
    * A hierarchy of six classes is used: "|", "/\", "[]", "{}", "()", and "<>". When two smushing sub-characters are
    * from different classes, the one from the latter class will be used.
    */
   private def hierarchySmushingRule: SmushingStrategy = { (a, b) =>
-    val classes = Vector("|", "/\\", "[]", "{}", "()", "<>")
-    val aClass  = classes.indexWhere(_.contains(a))
-    val bClass  = classes.indexWhere(_.contains(b))
+    val aClass = hierarchyClasses.indexWhere(_.contains(a))
+    val bClass = hierarchyClasses.indexWhere(_.contains(b))
 
     if (aClass >= 0 && bClass >= 0 && aClass =!= bClass)
       if (aClass > bClass) Some(a) else Some(b)
     else None
   }
 
+  private val hierarchyClasses: Vector[String] = Vector("|", "/\\", "[]", "{}", "()", "<>")
+
   /**
    * Smushes opposing brackets ("[]" or "]["), braces ("{}" or "}{") and parentheses ("()" or ")(") together, replacing
    * any such pair with a vertical bar ("|").
@@ -0,0 +1,99 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import cats.implicits._
+import scala.collection.mutable.ArrayBuffer
+
+/**
+ * Rendering of a text that is received in pieces, like the lines of a log or the chunks of a large document
+ *
+ * The pieces are rendered as if they were a single text, so the result is the same of rendering their concatenation.
+ * Only the line of the FIGure being rendered is kept in memory: as soon as a line is complete, because the next
+ * FIGcharacter would exceed the maximum width, its rows are returned and the line is discarded. A surrogate pair split
+ * between two pieces is rendered as the single character it represents.
+ *
+ * An IncrementalRendering is not thread-safe and it is meant to be confined to a single rendering.
+ *
+ * @param rendering The Rendering that provides the options and the FIGcharacters to use
+ */
+@SuppressWarnings(Array("org.wartremover.warts.Var"))
+final private[figlet4s] class IncrementalRendering private[rendering] (rendering: Rendering) {
+
+  import IncrementalRendering._
+
+  private val canvas: Canvas                         = rendering.newCanvas()
+  private val completed: ArrayBuffer[Vector[String]] = ArrayBuffer.empty
+  private var pendingHigh: Int                       = NoPending
+
+  private val breaker: LineBreaker =
+    new LineBreaker(rendering, canvas, line => { val _ = completed += line.toCleanRows(rendering.padding(line.width)) })
+
+  /**
+   * Renders a piece of text, one character at a time while the resulting Iterator is consumed
+   *
+   * @param text The piece of text to render
+   * @return An Iterator of the lines completed while rendering the text, each one as its rows with hardblanks replaced
+   *         by spaces
+   */
+  def append(text: String): Iterator[Vector[String]] =
+    text.iterator.flatMap(appendChar)
+
+  /**
+   * Completes the rendering of the text received so far and starts again with an empty line
+   *
+   * @return The rows of the last line of the FIGure, with hardblanks replaced by spaces
+   */
+  def finish(): Vector[String] = {
+    val pendingLines = flushPending()
+    val rows         = canvas.toCleanRows(rendering.padding(canvas.width))
+    breaker.restart()
+    pendingLines.flatten ++ rows
+  }
+
+  //  Support  //
+
+  /** Combines the surrogate pairs, keeping a high surrogate until the character that follows it is received */
+  private def appendChar(char: Char): Iterator[Vector[String]] =
+    if (pendingHigh =!= NoPending && Character.isLowSurrogate(char)) {
+      val codePoint = Character.toCodePoint(pendingHigh.toChar, char)
+      pendingHigh = NoPending
+      appendCodePoint(codePoint).iterator
+    } else {
+      val flushed = flushPending()
+      if (Character.isHighSurrogate(char)) {
+        pendingHigh = char.toInt
+        flushed.iterator
+      } else {
+        flushed.iterator ++ appendCodePoint(char.toInt)
+      }
+    }
+
+  /** Renders a high surrogate that is not followed by a low surrogate as it is */
+  private def flushPending(): Vector[Vector[String]] =
+    if (pendingHigh =!= NoPending) {
+      val high = pendingHigh
+      pendingHigh = NoPending
+      appendCodePoint(high)
+    } else {
+      Vector.empty
+    }
+
+  /** Renders a code point, returning the lines it completed */
+  private def appendCodePoint(codePoint: Int): Vector[Vector[String]] = {
+    breaker.append(rendering.glyph(codePoint), codePoint === ' '.toInt)
+    if (completed.isEmpty) {
+      Vector.empty
+    } else {
+      val lines = completed.toVector
+      completed.clear()
+      lines
+    }
+  }
+
+}
+
+private object IncrementalRendering {
+
+  /** Marker of the absence of a high surrogate waiting for its low surrogate */
+  private val NoPending: Int = -1
+
+}
@@ -0,0 +1,162 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import com.colofabrix.scala.figlet4s.rendering.Canvas._
+import scala.collection.mutable.ArrayBuffer
+
+/**
+ * Breaks the FIGcharacters of a text into the lines of a FIGure
+ *
+ * Each FIGcharacter is merged at the end of the current line only if the line doesn't exceed the maximum width, which
+ * is known before merging from the overlap of the FIGcharacter with the line. By default a FIGcharacter that doesn't
+ * fit starts a new line. When the Rendering breaks the lines at the boundaries of the words, like FIGdrivers do, and a
+ * FIGcharacter doesn't fit:
+ *
+ *   - if it's a space that follows a word, the line ends with that word and the spaces before it are dropped;
+ *   - if it's part of a word that follows some spaces, the line is restored as it was before those spaces and the word
+ *     moves to a new line, where its FIGcharacters are merged again as their overlap depends on the line;
+ *   - if the word started at the beginning of the line, the word is broken at the FIGcharacter;
+ *   - if the line is empty, the FIGcharacter is wider than the maximum width and it fills a line on its own.
+ *
+ * The spaces that follow a line that ended on a space or on a FIGcharacter too wide for the maximum width are dropped.
+ *
+ * A LineBreaker is not thread-safe and it is meant to be confined to a single rendering.
+ *
+ * @param rendering The Rendering that decides if a FIGcharacter fits in the line
+ * @param canvas    The Canvas where the current line is drawn
+ * @param onLine    The function called with the Canvas of each completed line, before the Canvas is cleared
+ */
+@SuppressWarnings(
+  Array(
+    "org.wartremover.warts.Equals",
+    "org.wartremover.warts.NonUnitStatements",
+    "org.wartremover.warts.Var",
+    "org.wartremover.warts.While",
+  ),
+)
+final private[rendering] class LineBreaker(rendering: Rendering, canvas: Canvas, onLine: Canvas => Unit) {
+
+  import LineBreaker._
+
+  private var state: Int               = LineStart
+  private var lastCharWidth: Int       = 0
+  private val word: ArrayBuffer[Glyph] = ArrayBuffer.empty
+
+  /**
+   * Adds a FIGcharacter at the end of the text, completing the current line when it doesn't fit
+   *
+   * @param glyph   The Glyph of the FIGcharacter
+   * @param isSpace True if the FIGcharacter is a space, that separates the words of the text
+   */
+  def append(glyph: Glyph, isSpace: Boolean): Unit =
+    if (!rendering.breaksWords) {
+      appendCharacter(glyph)
+    } else if (state != AfterBreak || !isSpace) {
+      if (state == AfterBreak) state = LineStart
+      while (!place(glyph, isSpace)) {}
+    }
+
+  /**
+   * Creates a new LineBreaker that continues from the state of this one, on another Canvas
+   *
+   * @param canvas The Canvas where the new LineBreaker draws, with the same content of the Canvas of this one
+   * @param onLine The function called with the Canvas of each completed line, before the Canvas is cleared
+   * @return A LineBreaker that breaks the lines of the rest of the text like this one would
+   */
+  def copy(canvas: Canvas, onLine: Canvas => Unit): LineBreaker = {
+    val result = new LineBreaker(rendering, canvas, onLine)
+    result.state = state
+    result.lastCharWidth = lastCharWidth
+    result.word ++= word
+    result
+  }
+
+  /**
+   * Starts again from an empty line, forgetting the current one
+   */
+  def restart(): Unit = {
+    canvas.clear()
+    state = LineStart
+    lastCharWidth = 0
+    word.clear()
+  }
+
+  //  Support  //
+
+  /** Places a Glyph in the current line, or at the beginning of a new line when it doesn't fit */
+  private def appendCharacter(glyph: Glyph): Unit = {
+    if (!rendering.tryAppend(canvas, glyph, lastCharWidth)) {
+      onLine(canvas)
+      rendering.startLine(canvas, glyph)
+    }
+    lastCharWidth = glyph.width
+  }
+
+  /** Places a Glyph in the current line, returning false when it must be placed again in the line that follows */
+  private def place(glyph: Glyph, isSpace: Boolean): Boolean = {
+    // The first space after a word is where the line is broken if the next word doesn't fit
+    if (isSpace && (state == InWord || state == WordAfterSpaces)) canvas.mark()
+
+    if (rendering.tryAppend(canvas, glyph, lastCharWidth)) {
+      lastCharWidth = glyph.width
+      if (isSpace) {
+        state = if (state == LineStart) LineStart else Spaces
+        word.clear()
+      } else {
+        state = if (state == Spaces || state == WordAfterSpaces) WordAfterSpaces else InWord
+        word += glyph
+      }
+      true
+    } else if (canvas.width == 0) {
+      rendering.startLine(canvas, glyph)
+      completeLine(AfterBreak)
+      true
+    } else if (isSpace) {
+      if (state == Spaces) canvas.reset()
+      completeLine(AfterBreak)
+      true
+    } else if (state == Spaces || state == WordAfterSpaces) {
+      val next = if (state == WordAfterSpaces) InWord else LineStart
+      canvas.reset()
+      onLine(canvas)
+      canvas.clear()
+      lastCharWidth = 0
+      word.foreach { g =>
+        canvas.append(g, canvas.overlap(g, lastCharWidth), lastCharWidth)
+        lastCharWidth = g.width
+      }
+      state = next
+      false
+    } else {
+      completeLine(LineStart)
+      false
+    }
+  }
+
+  private def completeLine(next: Int): Unit = {
+    onLine(canvas)
+    canvas.clear()
+    state = next
+    lastCharWidth = 0
+    word.clear()
+  }
+
+}
+
+private object LineBreaker {
+
+  /** Only spaces, if anything, have been added to the line */
+  private val LineStart: Int = 0
+
+  /** A word is being added to the line, and no space has followed a word yet */
+  private val InWord: Int = 1
+
+  /** Spaces are being added after a word */
+  private val Spaces: Int = 2
+
+  /** A word is being added after the spaces that follow another word */
+  private val WordAfterSpaces: Int = 3
+
+  /** A line has just been completed and the spaces that follow are dropped */
+  private val AfterBreak: Int = 4
+
+}
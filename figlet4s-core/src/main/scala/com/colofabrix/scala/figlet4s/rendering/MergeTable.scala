@@ -0,0 +1,107 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import com.colofabrix.scala.figlet4s.rendering.MergeAction._
+import com.colofabrix.scala.figlet4s.rendering.MergeTable._
+import com.colofabrix.scala.figlet4s.rendering.Rendering._
+
+/**
+ * Precomputed outcomes of a MergeStrategy for every pair of Latin-1 sub-characters
+ *
+ * The outcome of a merge is encoded as an Int to avoid allocating a MergeAction for each pair of sub-characters:
+ * [[MergeTable.Stop]] represents a Stop, otherwise the lower 16 bits contain the merged sub-character and the
+ * [[MergeTable.CurrentLastFlag]] bit tells a CurrentLast apart from a Continue. Pairs outside of the Latin-1 range are
+ * delegated to the original MergeStrategy.
+ *
+ * @param table     The encoded outcomes, first for the state that allows smushing then for the one that doesn't
+ * @param strategy  The MergeStrategy used for the sub-characters outside of the table
+ * @param blanksFit True when merging any sub-character with a blank always continues keeping the sub-character
+ */
+@SuppressWarnings(Array("org.wartremover.warts.Equals"))
+final private[rendering] class MergeTable private (table: Array[Int], strategy: MergeStrategy, val blanksFit: Boolean) {
+
+  private val smushingMerge: (Char, Char) => MergeAction[Char]   = strategy(SmushingState)
+  private val noSmushingMerge: (Char, Char) => MergeAction[Char] = strategy(NoSmushingState)
+
+  /**
+   * Returns the encoded outcome of merging two sub-characters
+   *
+   * @param a            The sub-character on the left
+   * @param b            The sub-character on the right
+   * @param skipSmushing Whether smushing is disallowed for the current pair of FIGcharacters
+   * @return The encoded outcome of the merge
+   */
+  def apply(a: Char, b: Char, skipSmushing: Boolean): Int =
+    if (a < Size && b < Size)
+      table((if (skipSmushing) Size * Size else 0) + a * Size + b)
+    else if (skipSmushing)
+      encode(noSmushingMerge(a, b))
+    else
+      encode(smushingMerge(a, b))
+
+}
+
+private[rendering] object MergeTable {
+
+  /** Encoded Stop outcome */
+  val Stop: Int = -1
+
+  /** Flag marking a CurrentLast outcome */
+  val CurrentLastFlag: Int = 1 << 16
+
+  /** Tells if an encoded outcome is a Stop */
+  def isStop(outcome: Int): Boolean =
+    outcome < 0
+
+  /** Tells if an encoded outcome is a CurrentLast */
+  def isCurrentLast(outcome: Int): Boolean =
+    outcome >= 0 && (outcome & CurrentLastFlag) != 0
+
+  /** Extracts the merged sub-character from an encoded outcome that is not a Stop */
+  def value(outcome: Int): Char =
+    (outcome & 0xffff).toChar
+
+  /**
+   * Creates a MergeTable by evaluating a MergeStrategy on all pairs of Latin-1 sub-characters
+   *
+   * @param strategy The MergeStrategy to precompute
+   * @return A new MergeTable that produces the same outcomes as the MergeStrategy
+   */
+  def apply(strategy: MergeStrategy): MergeTable = {
+    val table = new Array[Int](2 * Size * Size)
+    for {
+      (state, offset) <- Vector(SmushingState -> 0, NoSmushingState -> Size * Size)
+      merge = strategy(state)
+      a <- 0 until Size
+      b <- 0 until Size
+    } table(offset + a * Size + b) = encode(merge(a.toChar, b.toChar))
+    new MergeTable(table, strategy, blanksFit(strategy))
+  }
+
+  //  Support  //
+
+  private val Size: Int = 256
+
+  /** MergeState of two FIGcharacters wide enough to be smushed together */
+  private val SmushingState: MergeState = MergeState(1, 2, 2)
+
+  /** MergeState of two FIGcharacters too narrow to be smushed together */
+  private val NoSmushingState: MergeState = MergeState(1, 1, 1)
+
+  /** Checks that a blank on either side of a merge always continues, keeping the other sub-character */
+  @SuppressWarnings(Array("org.wartremover.warts.Equals"))
+  private def blanksFit(strategy: MergeStrategy): Boolean =
+    Vector(SmushingState, NoSmushingState).forall { state =>
+      val merge = strategy(state)
+      (Char.MinValue to Char.MaxValue).forall { c =>
+        merge(c, ' ') == Continue(c) && merge(' ', c) == Continue(c)
+      }
+    }
+
+  private def encode(action: MergeAction[Char]): Int =
+    action match {
+      case Continue(value)    => value.toInt
+      case CurrentLast(value) => value.toInt | CurrentLastFlag
+      case MergeAction.Stop   => Stop
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.colofabrix.scala.figlet4s.rendering
+
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.options._
+import scala.concurrent._
+
+/**
+ * A Renderer renders any number of texts using the same RenderOptions
+ *
+ * All the work that depends only on the options, like choosing the merge rules and preparing the FIGcharacters of the
+ * FIGfont, is done once when the Renderer is created and then reused by every rendering. A Renderer can be shared
+ * between threads.
+ *
+ * A Renderer cannot be instantiated directly but it is obtained through the client APIs, from an OptionsBuilder or from
+ * RenderOptions.
+ *
+ * @param options The RenderOptions used to render all the texts
+ */
+final class Renderer private[figlet4s] (val options: RenderOptions) {
+
+  private val rendering: Rendering =
+    Rendering.compile(options)
+
+  /**
+   * Renders a text into a FIGure
+   *
+   * @param text The text to render
+   * @return A FIGure representing the rendered text
+   */
+  private[figlet4s] def renderText(text: String): FIGure =
+    rendering.render(text)
+
+  /**
+   * Renders a text after the text of a FIGure
+   *
+   * @param figure The FIGure to extend
+   * @param text   The text to render after the text of the FIGure
+   * @return A FIGure representing the text of the FIGure followed by the new text
+   */
+  private[figlet4s] def appendText(figure: FIGure, text: String): FIGure =
+    rendering.append(figure, text)
+
+  /**
+   * Renders a collection of texts in parallel, splitting them in batches executed on the given ExecutionContext
+   *
+   * @param texts The texts to render
+   * @param ec    The ExecutionContext where the batches are executed
+   * @return A Future of the FIGures of the texts, in the same order of the texts
+   */
+  private[figlet4s] def renderTextsPar(texts: Seq[String])(implicit ec: ExecutionContext): Future[Vector[FIGure]] =
+    Future
+      .traverse(texts.grouped(Renderer.BatchSize).toVector)(batch => Future(batch.map(renderText)))
+      .map(_.flatten)
+
+}
+
+private[figlet4s] object Renderer {
+
+  /** Number of texts rendered by each task of a parallel rendering, so that short texts don't pay a task each */
+  val BatchSize: Int = 32
+
+}
@@ -1,11 +1,11 @@
 package com.colofabrix.scala.figlet4s.rendering
 
 import cats.implicits._
+import com.colofabrix.scala.figlet4s.control._
 import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.instrumentation._
 import com.colofabrix.scala.figlet4s.options._
-import com.colofabrix.scala.figlet4s.rendering.MergeAction._
-import com.colofabrix.scala.figlet4s.rendering.Rendering._
-import scala.annotation.tailrec
+import com.colofabrix.scala.figlet4s.rendering.Canvas._
 
 /**
  * Rendering functions
@@ -82,15 +82,18 @@ import scala.annotation.tailrec
  * }}}
  *
  * NOTES:
- * - Each recursive iteration works with a certain amount of overlapping columns. The entire overlapping area is merged
- *   but it's only the "active columns" that decide the outcome of the iteration as the subsequent ones will merge for
- *   sure. Once the overlapping area has been process it decides between 3 options:
+ * - The line being rendered is kept in a [[Canvas]], a mutable row-major matrix of sub-characters. The overlap of an
+ *   incoming FIGcharacter is computed in place against the last columns of the Canvas and the merged sub-characters
+ *   are written directly into it, without building intermediate columns.
+ * - Each iteration works with a certain amount of overlapping columns. The entire overlapping area is merged but it's
+ *   only the "active columns" that decide the outcome of the iteration as the subsequent ones will merge for sure. Once
+ *   the overlapping area has been process it decides between 3 options:
  *   - the overlap of the current iteration results in a valid merge, the overlap can be increased further and thus runs
  *     a new iteration with `overlap + 1`;
- *   - the overlap of the current iteration results in a valid merge but the overlap cannot be increased and returns the
- *     result of the current iteration as the final result;
- *   - the overlap of the current iteration does not results in a valid merge and the result of the previous iteration
- *     is used as the final result.
+ *   - the overlap of the current iteration results in a valid merge but the overlap cannot be increased and the
+ *     current overlap is the final overlap;
+ *   - the overlap of the current iteration does not results in a valid merge and the overlap of the previous iteration
+ *     is the final overlap.
  * - At `overlap = n` the `n - 1` overlap values have already passed through the merge algorithm and their result is
  *   assumed to be a valid merge.
  * - The "A active column" and the "B active column" (see figures above) are the columns that decide the result of the
@@ -98,114 +101,252 @@ import scala.annotation.tailrec
  * - Each pair of corresponding characters of the active columns are passed to a custom merge function.
  * - The custom merge function returns the character resulting from merge of the two corresponding character together
  *   with the decision of how to proceed with the algorithm.
- * - The result value of the custom merge function is an Applicative Functor.
+ * - Only once the final overlap is known the FIGcharacter is written into the Canvas and the Canvas is copied into a
+ *   packed line of the FIGure only when a line of the FIGure is complete.
+ * - A FIGcharacter that would exceed the maximum width is never merged into the line: a [[LineBreaker]] completes the
+ *   line and starts a new one with the FIGcharacter. With [[LineBreaking.Words]] the line is completed at the boundary
+ *   of the last word when possible, and each completed line is justified within the maximum width.
  *
- * @param text          The text to render
  * @param options       The options of the rendering
+ * @param glyphs        The function that returns the Glyph of each code point to render
+ * @param continuations The Continuations of the rendered FIGures, to render more text after them with [[append]]
  */
-final private[rendering] class Rendering(options: RenderOptions) {
+final private[figlet4s] class Rendering private[rendering] (
+    options: RenderOptions,
+    glyphs: Rendering.Glyphs,
+    continuations: Option[Continuations],
+) {
+
+  import Rendering._
 
   /**
    * Renders a String into a FIGure for a given FIGfont and options
    *
+   * The text is rendered one code point at a time, so characters outside of the Basic Multilingual Plane are rendered
+   * as a single FIGcharacter.
+   *
+   * @param text The text to render
    * @return A FIGure containing the rendered text following the rendering options
    */
-  def render(text: String): FIGure = {
-    val figures = text.map(options.font(_).columns.value.toVector).toVector
-    val zero    = Vector(options.font.zero.lines.toSubcolumns.value.toVector)
-    val result  = appendLoop(figures, zero, AppendLoopState()).map(SubColumns(_))
-    FIGure(options.font, text, result)
-  }
-
-  //  ----  //
+  def render(text: String): FIGure =
+    renderFrom("", Vector.empty, newCanvas(), None, NoPendingHigh, text)
 
-  private val mergeStrategy: MergeStrategy = HorizontalMergeRules.mergeStrategy(options)
-
-  @tailrec
-  private def appendLoop(figures: Vector[Columns], partial: Vector[Columns], state: AppendLoopState): Vector[Columns] =
-    (figures, partial) match {
-      case (Vector(), _) =>
-        partial
-      case (figChar +: remainingChars, upperLines :+ lastLine) =>
-        val merged    = merge(MergeLoopState(lastLine, figChar, appendLoopState = state))
-        def onBorder  = merge(MergeLoopState(b = figChar))
-        val result    = if (merged.lengthIs <= options.maxWidth) upperLines :+ merged else partial :+ onBorder
-        val nextState = state.copy(lastCharWidth = figChar.length)
-        appendLoop(remainingChars, result, nextState)
-      case _ =>
-        partial
+  /**
+   * Renders a String after the text of a FIGure, producing the same FIGure of rendering the concatenation of the texts
+   *
+   * When the FIGure is one of the last ones rendered or extended by this Rendering only the new characters are merged,
+   * starting from the last line of the FIGure, and the lines completed before it are shared with the new FIGure. The
+   * text of any other FIGure is broken into lines again and its Continuation is kept, so that extending it again
+   * doesn't need to.
+   *
+   * @param figure The FIGure to extend
+   * @param text   The text to render after the text of the FIGure
+   * @return A FIGure containing the text of the given FIGure followed by the new text
+   */
+  def append(figure: FIGure, text: String): FIGure =
+    continuations match {
+      case Some(table) =>
+        val start = table.get(figure).getOrElse(continuationOf(table, figure))
+        renderFrom(figure.value, start.completed, start.canvas.copy(), Some(start.breaker), start.pendingHigh, text)
+      case None =>
+        render(figure.value + text)
     }
 
-  //  ----  //
+  /**
+   * Computes the size of the FIGure of a String without building the FIGure
+   *
+   * The text is broken into lines exactly like [[render]] does, merging the FIGcharacters into a Canvas to find their
+   * overlaps, but the completed lines are only measured and never copied.
+   *
+   * @param text The text to measure
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  @SuppressWarnings(Array("org.wartremover.warts.Var"))
+  def measure(text: String): FIGureSize = {
+    val canvas = newCanvas()
+    val height = options.font.header.height
+    var width  = 0
+    var rows   = 0
+    var lines  = 0
+    val measureLine: Canvas => Unit = line => {
+      if (line.width > 0) {
+        width = Math.max(width, padding(line.width) + line.width)
+        rows += height
+      }
+      lines += 1
+    }
+    val breaker = new LineBreaker(this, canvas, measureLine)
+    val pending = appendAll(text, breaker, NoPendingHigh)
+    if (pending =!= NoPendingHigh) breaker.append(glyphs(pending), isSpace = false)
+    measureLine(canvas)
+    FIGureSize(width, rows, lines)
+  }
 
-  @tailrec
-  private def merge(state: MergeLoopState): Columns =
-    if (state.overlap === 0) {
-      merge(state.copy(overlap = 1, partialResult = state.a ++ state.b))
+  /**
+   * Starts the rendering of a text that is received in pieces, that returns the lines of the FIGure as soon as they are
+   * complete
+   *
+   * @return A new IncrementalRendering that uses the options of this Rendering
+   */
+  def incremental(): IncrementalRendering =
+    new IncrementalRendering(this)
 
-    } else if (state.overlap > state.b.length) {
-      state.partialResult
+  /**
+   * Creates an empty Canvas to draw a line of the FIGure
+   */
+  private[rendering] def newCanvas(): Canvas =
+    new Canvas(options.font.header.height, options.font.header.hardblank, mergeTable)
 
-    } else {
-      val mState = MergeState(state.overlap, state.b.length, state.appendLoopState.lastCharWidth)
+  /**
+   * The Glyph of a code point
+   */
+  private[rendering] def glyph(codePoint: Int): Glyph =
+    glyphs(codePoint)
 
-      val aLeftCut  = Math.max(0, state.a.length - state.overlap)
-      val aRightCut = Math.min(state.a.length, (state.a.length - state.overlap) + state.b.length)
-      val aSections = splitSections(aLeftCut, aRightCut, state.a)
+  /**
+   * Merges a Glyph into the Canvas if the result doesn't exceed the maximum width, otherwise leaves the Canvas as it is
+   *
+   * @return True if the Glyph has been merged into the Canvas, false if a new line must be started
+   */
+  private[rendering] def tryAppend(canvas: Canvas, glyph: Glyph, lastCharWidth: Int): Boolean = {
+    val overlap = canvas.overlap(glyph, lastCharWidth)
+    val fits    = canvas.width + glyph.width - overlap <= options.maxWidth
+    if (fits) canvas.append(glyph, overlap, lastCharWidth)
+    fits
+  }
 
-      val bLeftCut  = Math.max(0, state.overlap - state.a.length)
-      val bRightCut = Math.min(state.overlap, state.b.length)
-      val bSections = splitSections(bLeftCut, bRightCut, state.b)
+  /**
+   * Empties the Canvas to start a new line with the given Glyph
+   */
+  private[rendering] def startLine(canvas: Canvas, glyph: Glyph): Unit = {
+    canvas.clear()
+    canvas.append(glyph, canvas.overlap(glyph, 0), 0)
+  }
 
-      val leftSide  = mergeOnLeftBorder(mState, bSections.left)
-      val merged    = mergeOverlappingSections(mState, aSections.overlap, bSections.overlap)
-      val rightSide = Continue(aSections.right ++ bSections.right)
+  /**
+   * True if the lines are broken at the boundaries of the words and justified, false if they are broken at the
+   * FIGcharacter that doesn't fit
+   */
+  private[rendering] val breaksWords: Boolean =
+    options.lineBreaking match {
+      case LineBreaking.Words      => true
+      case LineBreaking.Characters => false
+    }
 
-      val result = (leftSide, merged, rightSide).mapN { (_, merged, right) =>
-        aSections.left ++ merged ++ right
+  /**
+   * The number of blank columns to add before a line to justify it within the maximum width. The lines are justified
+   * only when they are broken at the boundaries of the words, and when the maximum width is not limited the text is
+   * always on a single line, so it's not padded.
+   */
+  private[rendering] def padding(lineWidth: Int): Int =
+    if (!breaksWords || options.maxWidth === Int.MaxValue) 0
+    else
+      justification match {
+        case Justification.Center     => Math.max(0, options.maxWidth - lineWidth) / 2
+        case Justification.FlushRight => Math.max(0, options.maxWidth - lineWidth)
+        case _                        => 0
       }
 
-      result match {
-        case Stop                 => state.partialResult
-        case CurrentLast(current) => current
-        case Continue(value)      => merge(state.copy(overlap = state.overlap + 1, partialResult = value))
-      }
+  //  ----  //
+
+  /**
+   * Renders a text after the given state of a line, adding the completed lines to the given ones
+   *
+   * @param previous    The text rendered before
+   * @param completed   The lines completed by the text rendered before
+   * @param canvas      The Canvas with the last line of the text rendered before, owned by this rendering
+   * @param from        The LineBreaker at the end of the text rendered before, if any
+   * @param pendingHigh The high surrogate at the end of the text rendered before that is not drawn yet, if any
+   * @param text        The text to render
+   */
+  @SuppressWarnings(Array("org.wartremover.warts.Var"))
+  private def renderFrom(
+      previous: String,
+      completed: Vector[FIGureBuffer.Line],
+      canvas: Canvas,
+      from: Option[LineBreaker],
+      pendingHigh: Int,
+      text: String,
+  ): FIGure = {
+    val span                   = Instrumentation.current.render()
+    var lines                  = completed
+    val onLine: Canvas => Unit = line => lines = lines :+ line.toLine(padding(line.width))
+    val breaker                = from.fold(new LineBreaker(this, canvas, onLine))(_.copy(canvas, onLine))
+    val pending                = appendAll(text, breaker, pendingHigh)
+    val completedLines         = lines
+
+    // A high surrogate at the end is drawn only on the FIGure, as the text appended later could still complete it
+    var lastCanvas = canvas
+    if (pending =!= NoPendingHigh && continuations.isDefined) {
+      lastCanvas = canvas.copy()
+      breaker.copy(lastCanvas, onLine).append(glyphs(pending), isSpace = false)
+    } else if (pending =!= NoPendingHigh) {
+      breaker.append(glyphs(pending), isSpace = false)
     }
 
-  /** Divides a set of columns into 3 sections with cuts in 2 points */
-  private def splitSections(aPoint: Int, bPoint: Int, figure: Columns): Sections =
+    val result = FIGureBuffer.fromLines(lines :+ lastCanvas.toLine(padding(lastCanvas.width)))
+    if (span.isRecording) {
+      val outputWidth = result.packed.foldLeft(0)((width, line) => Math.max(width, line.width))
+      val wraps       = result.size - completed.size - 1
+      val font        = options.font
+      span.end(RenderMeasurement(font.name, font.id, text.length, outputWidth, canvas.mergeIterations, wraps))
+    }
+
+    val figure = FIGure(options.font, previous + text, result)
+    continuations.foreach(_.put(figure, new Continuation(completedLines, canvas, breaker, pending)))
     figure
-      .zipWithIndex
-      .foldLeft(Sections(Vector.empty[String], Vector.empty[String], Vector.empty[String])) {
-        case (store, (column, i)) =>
-          if (i < aPoint)
-            store.copy(left = store.left :+ column)
-          else if (i >= bPoint)
-            store.copy(right = store.right :+ column)
-          else
-            store.copy(overlap = store.overlap :+ column)
-      }
+  }
 
-  /** Merges the two overlapping sections of two characters */
-  private def mergeOverlappingSections(state: MergeState, aSection: Columns, bSection: Columns): MergeAction[Columns] =
-    (aSection zip bSection)
-      .traverse {
-        case (aActiveColumn, bActiveColumn) =>
-          (aActiveColumn zip bActiveColumn)
-            .toVector
-            .traverse(mergeStrategy(state).tupled)
-            .map(_.mkString)
+  /**
+   * Breaks the text of a FIGure into lines without building them into a FIGure, keeping the Continuation at the end of
+   * the text in the table
+   */
+  @SuppressWarnings(Array("org.wartremover.warts.Var"))
+  private def continuationOf(table: Continuations, figure: FIGure): Continuation = {
+    var lines   = Vector.empty[FIGureBuffer.Line]
+    val canvas  = newCanvas()
+    val breaker = new LineBreaker(this, canvas, line => lines = lines :+ line.toLine(padding(line.width)))
+    val pending = appendAll(figure.value, breaker, NoPendingHigh)
+    val result  = new Continuation(lines, canvas, breaker, pending)
+    table.put(figure, result)
+    result
+  }
+
+  /**
+   * Breaks the text into lines, one code point at a time, starting with the high surrogate left by a previous text
+   *
+   * @return The high surrogate at the end of the text, that is not drawn, or [[NoPendingHigh]]
+   */
+  @SuppressWarnings(
+    Array("org.wartremover.warts.Equals", "org.wartremover.warts.Var", "org.wartremover.warts.While"),
+  )
+  private def appendAll(text: String, breaker: LineBreaker, pendingHigh: Int): Int = {
+    var i = 0
+    if (pendingHigh =!= NoPendingHigh) {
+      if (text.nonEmpty && Character.isLowSurrogate(text.charAt(0))) {
+        breaker.append(glyphs(Character.toCodePoint(pendingHigh.toChar, text.charAt(0))), isSpace = false)
+        i = 1
+      } else if (text.nonEmpty) {
+        breaker.append(glyphs(pendingHigh), isSpace = false)
+      }
+    }
+    var pending = if (text.isEmpty) pendingHigh else NoPendingHigh
+    while (i < text.length) {
+      val codePoint = text.codePointAt(i)
+      if (i == text.length - 1 && Character.isHighSurrogate(text.charAt(i))) {
+        pending = codePoint
+      } else {
+        breaker.append(glyphs(codePoint), codePoint == ' ')
       }
+      i += Character.charCount(codePoint)
+    }
+    pending
+  }
+
+  private val mergeTable: MergeTable = HorizontalMergeRules.mergeTable(options)
 
-  /** Merges a character on the left border */
-  private def mergeOnLeftBorder(state: MergeState, section: Columns): MergeAction[Unit] =
-    section
-      .traverse {
-        _.toVector.traverse {
-          case ' ' => mergeStrategy(state)(options.font.header.hardblank, ' ')
-          case _   => Stop
-        }
-      }.map(_ => ())
+  private val justification: Justification =
+    Justification.resolve(options.font, options.printDirection)(options.justification)
 
 }
 
@@ -217,6 +358,11 @@ private[figlet4s] object Rendering {
   /** Function that, given a MergeState, merges two characters and determines the resulting MergeAction */
   type MergeStrategy = MergeState => (Char, Char) => MergeAction[Char]
 
+  /** Function that returns the Glyph of a code point, without boxing the code point */
+  trait Glyphs {
+    def apply(codePoint: Int): Glyph
+  }
+
   /**
    * Renders a String into a FIGure for a given FIGfont and options
    *
@@ -225,26 +371,56 @@ private[figlet4s] object Rendering {
    * @return A FIGure containing the rendered text following the rendering options
    */
   def render(text: String, options: RenderOptions): FIGure =
-    new Rendering(options).render(text)
+    direct(options).render(text)
+
+  /**
+   * Computes the size of the FIGure of a String for a given FIGfont and options, without building the FIGure
+   *
+   * @param text    The String to measure
+   * @param options The RenderOptions used to render the text
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measure(text: String, options: RenderOptions): FIGureSize =
+    direct(options).measure(text)
+
+  /**
+   * Creates a Rendering that can be reused to render any number of texts with the same options
+   *
+   * The Glyphs of all the FIGcharacters of the FIGfont are built once and indexed by code point, so that they are
+   * looked up without allocating. The Rendering can be shared between threads and it keeps the Continuations of the
+   * last FIGures it renders, so that they can be extended with [[Rendering.append]].
+   *
+   * @param options The RenderOptions used to render the texts
+   * @return A Rendering for the given options
+   */
+  def compile(options: RenderOptions): Rendering = {
+    val font    = options.font
+    val zero    = Glyph(font.zero)
+    val entries = font.table.codePoints.toArray
+    val index   = CodePointIndex(entries.map(_._1))
+    val glyphs  = entries.map { case (_, figChar) => Glyph(figChar) }
+    val lookup: Glyphs = codePoint => {
+      val slot = index.slotOf(codePoint)
+      if (slot >= 0) glyphs(slot) else zero
+    }
+    new Rendering(options, translated(options.translation)(lookup), Some(new Continuations(ContinuationSlots)))
+  }
 
   //  ----  //
 
-  /** Status of the append loop */
-  final protected case class AppendLoopState(lastCharWidth: Int = 0)
+  /** Marker of the absence of a high surrogate waiting for its low surrogate */
+  private val NoPendingHigh: Int = -1
 
-  /** Status of the merge loop */
-  final protected case class MergeLoopState(
-      a: Columns = Vector.empty,
-      b: Columns = Vector.empty,
-      overlap: Int = 0,
-      partialResult: Columns = Vector.empty,
-      appendLoopState: AppendLoopState = AppendLoopState(),
-  )
+  /** Number of FIGures of a compiled Rendering whose Continuation is kept at the same time */
+  private val ContinuationSlots: Int = 64
 
-  /** Represents the three sections of a set of columns */
-  final protected case class Sections(left: Columns, overlap: Columns, right: Columns)
+  /** Creates a Rendering that builds the Glyphs of the FIGcharacters while it renders */
+  private def direct(options: RenderOptions): Rendering =
+    new Rendering(options, translated(options.translation)(codePoint => Glyph(options.font(codePoint))), None)
 
-  /** Shortcut for a set of columns */
-  protected type Columns = Vector[String]
+  /** Applies the translation of the control files to the code points before looking up their Glyphs */
+  private def translated(translation: Translation)(glyphs: Glyphs): Glyphs =
+    if (translation.isIdentity) glyphs
+    else codePoint => glyphs(translation(codePoint))
 
 }
@@ -3,6 +3,7 @@ package com.colofabrix.scala.figlet4s.unsafe
 import cats._
 import com.colofabrix.scala.figlet4s.api._
 import com.colofabrix.scala.figlet4s.figfont._
+import java.io.IOException
 
 private[unsafe] trait FIGureMixin {
 
@@ -22,6 +23,15 @@ private[unsafe] trait FIGureMixin {
     def print(): Unit =
       self.foreachLine(println)
 
+    /**
+     * Writes the FIGure one displayable line at a time, without building the lines or the String of the whole FIGure
+     *
+     * @param out The destination of the lines of the FIGure
+     */
+    @throws(classOf[IOException])
+    def writeTo(out: Appendable): Unit =
+      self.writeCleanLines(out)
+
     /**
      * The figure as a collection of String, one String per displayable line
      *
@@ -7,6 +7,9 @@ import com.colofabrix.scala.figlet4s.errors._
 import com.colofabrix.scala.figlet4s.validatedCompat._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
+import scala.concurrent._
+import scala.concurrent.duration._
 import scala.io.Codec
 
 /**
@@ -25,6 +28,15 @@ object Figlet4s extends Figlet4sAPI[Id] {
   def internalFonts: Seq[String] =
     Figlet4sClient.internalFonts[Id]
 
+  /**
+   * The description of all the available internal fonts, obtained without loading any of them
+   *
+   * @return The collection of descriptions of the FIGfonts shipped with this library
+   */
+  @throws(classOf[FigletException])
+  def internalFontsMetadata: Seq[FontMetadata] =
+    Figlet4sClient.internalFontsMetadata[Id]
+
   /**
    * Loads one of the internal FIGfont
    *
@@ -50,6 +62,155 @@ object Figlet4s extends Figlet4sAPI[Id] {
       .loadFont[Id](path, codec)
       .unsafeGet
 
+  /**
+   * Loads a FIGfont of a catalog of FIGfonts
+   *
+   * @param entry The FIGfont of the catalog to load
+   * @return The FIGfont loaded from the file described by the entry
+   */
+  @throws(classOf[FigletException])
+  def loadFont(entry: FontCatalogEntry): FIGfont =
+    Figlet4sClient
+      .loadFont[Id](entry)
+      .unsafeGet
+
+  /**
+   * Loads a FIGfont from a file on any file system, from a buffer, like a memory-mapped file, or from a stream
+   *
+   * @param source The source of the font file to load. It can be a .flf file or a zipped file.
+   * @param codec  The codec of the file if textual. If it is a zipped file it will be ignored
+   * @return The FIGfont loaded from the specified source
+   */
+  @throws(classOf[FigletException])
+  def loadFontFrom(source: FontSource, codec: Codec = Codec.ISO8859): FIGfont =
+    Figlet4sClient
+      .loadFontFrom[Id](source, codec)
+      .unsafeGet
+
+  /**
+   * Loads all the FIGfonts of a ZIP archive of FLF files, reading the archive only once
+   *
+   * @param source The source of the ZIP archive. If it's a single font file, it's the only FIGfont loaded
+   * @param codec  The codec of the font files
+   * @return The FIGfonts of the archive, named after their entries
+   */
+  @throws(classOf[FigletException])
+  def loadFontsFrom(source: FontSource, codec: Codec = Codec.ISO8859): Seq[FIGfont] =
+    Figlet4sClient
+      .loadFontsFrom[Id](source, codec)
+      .unsafeGet
+
+  /**
+   * Indexes the FIGfonts of a directory and of its subdirectories in parallel, reading only their headers
+   *
+   * @param directory The directory containing FLF files, zipped or not, and ZIP archives of FLF files
+   * @param ec        The ExecutionContext where the files are indexed
+   * @return The catalog of the FIGfonts of the directory
+   */
+  @throws(classOf[FigletException])
+  def indexFonts(directory: String)(implicit ec: ExecutionContext): FontCatalog =
+    Figlet4sClient.indexFonts[Id](directory) { batches =>
+      Await.result(Future.traverse(batches)(batch => Future(batch.index())), Duration.Inf)
+    }
+
+  /**
+   * Reads a catalog of FIGfonts previously saved with [[writeFontCatalog]]
+   *
+   * @param path The path of the file of the catalog
+   * @return The catalog read from the file
+   */
+  @throws(classOf[FigletException])
+  def readFontCatalog(path: String): FontCatalog =
+    Figlet4sClient
+      .readFontCatalog[Id](path)
+      .unsafeGet
+
+  /**
+   * Saves a catalog of FIGfonts into a file, replacing it if it exists
+   *
+   * @param catalog The catalog to save
+   * @param path    The path of the file of the catalog
+   */
+  @throws(classOf[FigletException])
+  def writeFontCatalog(catalog: FontCatalog, path: String): Unit =
+    Figlet4sClient.writeFontCatalog[Id](catalog, path)
+
+  /**
+   * Loads one of the internal FIGfont into the cache of loaded FIGfonts, shared by all client APIs, measuring the time
+   * spent
+   *
+   * @param name   The name of the internal font to preload
+   * @param warmUp If true the FIGfont is used to render a sample text after it's loaded
+   * @return The time spent to load and to warm up the FIGfont
+   */
+  @throws(classOf[FigletException])
+  def preloadFontInternal(name: String, warmUp: Boolean = false): FontLoadTiming =
+    Figlet4sClient
+      .preloadFontInternal[Id](name, warmUp)
+      .unsafeGet
+
+  /**
+   * Loads many internal FIGfonts concurrently into the cache of loaded FIGfonts, shared by all client APIs, measuring
+   * the time spent for each one
+   *
+   * @param names  The names of the internal fonts to preload, like the ones returned by [[internalFonts]]
+   * @param warmUp If true each FIGfont is used to render a sample text after it's loaded
+   * @param ec     The ExecutionContext where the FIGfonts are loaded
+   * @return The time spent to load and to warm up each FIGfont, in the same order of the names
+   */
+  @throws(classOf[FigletException])
+  def preloadFontsInternal(
+      names: Seq[String],
+      warmUp: Boolean = false,
+  )(implicit ec: ExecutionContext): Seq[FontLoadTiming] =
+    Await.result(Future.traverse(names)(name => Future(preloadFontInternal(name, warmUp))), Duration.Inf)
+
+  /**
+   * The statistics of usage of the cache of loaded FIGfonts, shared by all client APIs
+   *
+   * @return The current statistics of the FIGfont cache
+   */
+  def fontCacheStats: FontCacheStats =
+    Figlet4sClient.fontCacheStats[Id]
+
+  /**
+   * Removes all FIGfonts from the cache of loaded FIGfonts
+   */
+  def clearFontCache(): Unit =
+    Figlet4sClient.clearFontCache[Id]
+
+  /**
+   * Changes the maximum number of FIGfonts kept in the cache of loaded FIGfonts
+   *
+   * @param maxSize The new maximum number of FIGfonts, where zero disables the cache
+   */
+  @throws(classOf[FigletException])
+  def resizeFontCache(maxSize: Int): Unit =
+    Figlet4sClient.resizeFontCache[Id](maxSize)
+
+  /**
+   * The statistics of usage of the cache of rendered FIGures, shared by all client APIs
+   *
+   * @return The current statistics of the FIGure cache
+   */
+  def renderCacheStats: RenderCacheStats =
+    Figlet4sClient.renderCacheStats[Id]
+
+  /**
+   * Removes all FIGures from the cache of rendered FIGures
+   */
+  def clearRenderCache(): Unit =
+    Figlet4sClient.clearRenderCache[Id]
+
+  /**
+   * Changes the maximum weight of the cache of rendered FIGures. The cache is disabled until it's given a weight.
+   *
+   * @param maxWeight The new maximum number of characters of all the cached FIGures, where zero disables the cache
+   */
+  @throws(classOf[FigletException])
+  def resizeRenderCache(maxWeight: Long): Unit =
+    Figlet4sClient.resizeRenderCache[Id](maxWeight)
+
   /**
    * Renders a given text as a FIGure
    *
@@ -60,6 +221,37 @@ object Figlet4s extends Figlet4sAPI[Id] {
   def renderString(text: String, options: RenderOptions): FIGure =
     Figlet4sClient.renderString[Id](text, options)
 
+  /**
+   * Computes the size of the FIGure of a given text without building the FIGure
+   *
+   * @param text    The text to measure
+   * @param options The rendering options used to render the text
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measureString(text: String, options: RenderOptions): FIGureSize =
+    Figlet4sClient.measureString[Id](text, options)
+
+  /**
+   * Finds the first FIGfont that renders a given text within a width, measuring the text without building any FIGure
+   *
+   * @param text    The text to render
+   * @param options The rendering options used to render the text, where the FIGfont is replaced by each candidate
+   * @param fonts   The candidate FIGfonts, in order of preference
+   * @param width   The maximum width of the FIGure
+   * @return The first FIGfont with which the FIGure is not wider than the given width, if any
+   */
+  def fittingFont(text: String, options: RenderOptions, fonts: Seq[FIGfont], width: Int): Option[FIGfont] =
+    Figlet4sClient.fittingFont[Id](text, options, fonts, width)
+
+  /**
+   * Creates a renderer that renders any number of texts with the same options
+   *
+   * @param options The rendering options used to render the texts
+   * @return A Renderer that reuses the work that depends only on the options
+   */
+  def renderer(options: RenderOptions): Renderer =
+    Figlet4sClient.renderer[Id](options)
+
   //  Builder  //
 
   /**
@@ -8,6 +8,7 @@ import com.colofabrix.scala.figlet4s.errors._
 import com.colofabrix.scala.figlet4s.validatedCompat._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
 
 private[unsafe] trait OptionsBuilderMixin {
 
@@ -44,6 +45,36 @@ private[unsafe] trait OptionsBuilderMixin {
         .text(text)
         .render()
 
+    /**
+     * Builds the options and then computes the size of the FIGure of the text, without building the FIGure
+     *
+     * @return The size of the FIGure that rendering the text would produce
+     */
+    @throws(classOf[FigletException])
+    def measure(): FIGureSize =
+      Figlet4s.measureString(buildOptions.text, options)
+
+    /**
+     * Builds the options and then computes the size of the FIGure of the text, without building the FIGure
+     *
+     * @param text The text to measure
+     * @return The size of the FIGure that rendering the text would produce
+     */
+    @throws(classOf[FigletException])
+    def measure(text: String): FIGureSize =
+      self
+        .text(text)
+        .measure()
+
+    /**
+     * Builds the options and then creates a renderer that renders any number of texts with them
+     *
+     * @return A Renderer that uses the RenderOptions resulting from building the internal state
+     */
+    @throws(classOf[FigletException])
+    def renderer(): Renderer =
+      Figlet4s.renderer(options)
+
     /**
      * Builds and returns the render options
      *
@@ -64,12 +95,19 @@ private[unsafe] trait OptionsBuilderMixin {
           .maxWidth
           .getOrElse(Figlet4sClient.defaultMaxWidth)
 
+      val controlFiles =
+        buildOptions
+          .controlFiles
+          .map(_.unsafeGet)
+
       RenderOptions(
         font,
         maxWidth,
         buildOptions.horizontalLayout,
         buildOptions.printDirection,
         buildOptions.justification,
+        controlFiles,
+        buildOptions.lineBreaking,
       )
     }
 
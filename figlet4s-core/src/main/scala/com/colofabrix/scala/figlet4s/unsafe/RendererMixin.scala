@@ -0,0 +1,76 @@
+package com.colofabrix.scala.figlet4s.unsafe
+
+import cats._
+import com.colofabrix.scala.figlet4s.api._
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
+import scala.concurrent._
+import scala.concurrent.duration._
+
+private[unsafe] trait RendererMixin {
+
+  implicit class RendererOps(val self: Renderer) extends RendererAPI[Id] {
+
+    /**
+     * The options used to render all the texts
+     *
+     * @return The RenderOptions of this renderer
+     */
+    def options: RenderOptions =
+      self.options
+
+    /**
+     * Renders a text into a FIGure
+     *
+     * @param text The text to render
+     * @return A FIGure representing the rendered text
+     */
+    def render(text: String): FIGure =
+      self.renderText(text)
+
+    /**
+     * Renders a text after the text of a FIGure, producing the same FIGure of rendering the concatenation of the texts
+     *
+     * When the FIGure has been rendered by this renderer only the new characters are rendered and the lines of the
+     * FIGure that are already complete are reused, otherwise the whole text is rendered again.
+     *
+     * @param figure The FIGure to extend
+     * @param text   The text to render after the text of the FIGure
+     * @return A FIGure representing the text of the FIGure followed by the new text
+     */
+    def append(figure: FIGure, text: String): FIGure =
+      self.appendText(figure, text)
+
+    /**
+     * Renders a collection of texts into FIGures
+     *
+     * @param texts The texts to render
+     * @return The FIGures representing the rendered texts, in the same order of the texts
+     */
+    def renderAll(texts: Seq[String]): Seq[FIGure] =
+      texts.map(self.renderText)
+
+    /**
+     * Renders the texts of an Iterator into FIGures, one at a time when the resulting Iterator is consumed
+     *
+     * @param texts The texts to render
+     * @return An Iterator of the FIGures representing the rendered texts
+     */
+    def renderAll(texts: Iterator[String]): Iterator[FIGure] =
+      texts.map(self.renderText)
+
+    /**
+     * Renders a collection of texts into FIGures in parallel, splitting them in batches executed on an ExecutionContext
+     * and waiting for all of them to complete
+     *
+     * @param texts The texts to render
+     * @param ec    The ExecutionContext where the renderings are executed
+     * @return The FIGures representing the rendered texts, in the same order of the texts
+     */
+    def renderAllPar(texts: Seq[String])(implicit ec: ExecutionContext): Seq[FIGure] =
+      Await.result(self.renderTextsPar(texts), Duration.Inf)
+
+  }
+
+}
@@ -55,7 +55,7 @@ import scala.concurrent.duration.FiniteDuration
  *
  * If you want to manage effects in a purely functional fashion see the additional dependency figlet4s-effects
  */
-package object unsafe extends OptionsBuilderMixin with FIGureMixin {
+package object unsafe extends OptionsBuilderMixin with FIGureMixin with RendererMixin {
 
   /**
    * Sync instance for Id for impure calculations.
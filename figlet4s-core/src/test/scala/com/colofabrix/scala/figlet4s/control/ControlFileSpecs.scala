@@ -0,0 +1,89 @@
+package com.colofabrix.scala.figlet4s.control
+
+import com.colofabrix.scala.figlet4s.control.ControlFileCommand._
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+
+class ControlFileSpecs extends AnyFlatSpec with Matchers {
+
+  //  Parsing  //
+
+  "ControlFile" should "parse single characters and ranges" in {
+    val computed = parse("flc2a", "# comment", "t a-c x-z", "t \\t \\-5", "t # \\0x23")
+    computed.sections shouldBe Vector(Vector(TCommand('a', 'c', 'x'), TCommand('\t', -5), TCommand('#', 0x23)))
+  }
+
+  it should "parse decimal, octal and hexadecimal codes" in {
+    val computed = parse("t \\65 \\0101", "t \\0x42 \\-0x10", "67 -0x7f")
+    computed.sections shouldBe Vector(Vector(TCommand(65, 65), TCommand(0x42, -0x10), TCommand(67, -0x7f)))
+  }
+
+  it should "split the commands into a section for each freeze command" in {
+    val computed = parse("t a b", "f", "t b c", "f")
+    computed.sections shouldBe Vector(Vector(TCommand('a', 'b')), Vector(TCommand('b', 'c')), Vector())
+  }
+
+  it should "record the extended commands" in {
+    val computed = parse("u", "g1 96", "gR 2", "j")
+    computed.extended shouldBe Vector(UCommand, GCommand(1), GCommand(2), JCommand)
+    computed.sections shouldBe empty
+  }
+
+  it should "ignore the blanks at the beginning of the lines" in {
+    val computed = parse("  # comment", "  t a b", "\t12 65", "   ")
+    computed.sections shouldBe Vector(Vector(TCommand('a', 'b'), TCommand(12, 65)))
+  }
+
+  it should "ignore the lines with unknown commands" in {
+    val computed = parse("x what is this", "t a b")
+    computed.sections shouldBe Vector(Vector(TCommand('a', 'b')))
+  }
+
+  it should "fail on ranges of different size" in {
+    ControlFile(Iterator("t a-c x-y")).isInvalid shouldBe true
+    ControlFile(Iterator("t c-a x-z")).isInvalid shouldBe true
+  }
+
+  it should "fail on commands it can't parse" in {
+    ControlFile(Iterator("t a")).isInvalid shouldBe true
+    ControlFile(Iterator("t \\0x100000000 a")).isInvalid shouldBe true
+    ControlFile(Iterator("12 z")).isInvalid shouldBe true
+  }
+
+  //  Translation  //
+
+  "Translation" should "translate with the first command that matches" in {
+    val translation = Translation(Vector(parse("t a-z A-Z", "t a-c 1-3", "t x y")))
+    translation('a') shouldBe 'A'
+    translation('x') shouldBe 'X'
+    translation('-') shouldBe '-'
+  }
+
+  it should "apply the stages and the control files in sequence" in {
+    val first       = parse("t a b", "f", "t b c")
+    val second      = parse("t c d")
+    val translation = Translation(Vector(first, second))
+    translation('a') shouldBe 'd'
+    translation('b') shouldBe 'd'
+    translation('e') shouldBe 'e'
+  }
+
+  it should "translate code points outside of the dense range" in {
+    val translation = Translation(Vector(parse("t \\0x1f600-\\0x1f602 a-c", "f", "t a-b \\-2-\\-1", "t \\300 \\0x1f600")))
+    translation(0x1f600) shouldBe -2
+    translation(0x1f602) shouldBe 'c'
+    translation(300) shouldBe 0x1f600
+    translation(-2) shouldBe -2
+  }
+
+  it should "leave all the code points unchanged without commands" in {
+    Translation(Vector(parse("flc2a", "u"))).isIdentity shouldBe true
+    Translation.identity(0x1f600) shouldBe 0x1f600
+  }
+
+  //  Support  //
+
+  private def parse(lines: String*): ControlFile =
+    ControlFile(lines.iterator).fold(errors => fail(errors.toString), identity)
+
+}
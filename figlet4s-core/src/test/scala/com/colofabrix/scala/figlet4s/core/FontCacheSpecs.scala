@@ -0,0 +1,97 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.effect._
+import cats.effect.unsafe.implicits.global
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.core.FontCache._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.figfont._
+import java.io.File
+import java.util.concurrent.atomic.AtomicInteger
+import org.scalatest.flatspec.AnyFlatSpec
+import org.scalatest.matchers.should._
+import scala.concurrent.duration._
+
+class FontCacheSpecs extends AnyFlatSpec with Matchers {
+
+  "FontCache" should "load a FIGfont only the first time it is requested" in {
+    val cache = new FontCache(2)
+    val loads = new AtomicInteger(0)
+
+    val program =
+      cache.getOrLoad[IO](standardKey)(countedLoad(loads)) *>
+      cache.getOrLoad[IO](standardKey)(countedLoad(loads))
+
+    program.unsafeRunSync().isValid shouldBe true
+    loads.get shouldBe 1
+    cache.stats shouldBe FontCacheStats(hits = 1, misses = 1, evictions = 0, size = 1, maxSize = 2)
+  }
+
+  it should "evict the least recently used FIGfont when full" in {
+    val cache = new FontCache(2)
+    val loads = new AtomicInteger(0)
+
+    val program =
+      List(keyA, keyB, keyA, keyC, keyA, keyB)
+        .traverse(cache.getOrLoad[IO](_)(countedLoad(loads)))
+
+    program.unsafeRunSync()
+    loads.get shouldBe 4
+    cache.stats shouldBe FontCacheStats(hits = 2, misses = 4, evictions = 2, size = 2, maxSize = 2)
+  }
+
+  it should "load a FIGfont once when requested concurrently" in {
+    val cache = new FontCache(2)
+    val loads = new AtomicInteger(0)
+    val slowLoad = IO.sleep(100.millis) *> countedLoad(loads)
+
+    val results = (1 to 8).toList.parTraverse(_ => cache.getOrLoad[IO](standardKey)(slowLoad)).unsafeRunSync()
+
+    results.forall(_.isValid) shouldBe true
+    loads.get shouldBe 1
+  }
+
+  it should "not store failed loadings" in {
+    val cache  = new FontCache(2)
+    val failed = IO.raiseError[FigletResult[FIGfont]](FigletLoadingError("Test error"))
+
+    cache.getOrLoad[IO](standardKey)(failed).attempt.unsafeRunSync().isLeft shouldBe true
+    cache.getOrLoad[IO](standardKey)(load).unsafeRunSync().isValid shouldBe true
+    cache.stats.size shouldBe 1
+  }
+
+  it should "not store FIGfonts when the maximum size is zero" in {
+    val cache = new FontCache(0)
+    val loads = new AtomicInteger(0)
+
+    (cache.getOrLoad[IO](standardKey)(countedLoad(loads)) *> cache.getOrLoad[IO](standardKey)(countedLoad(loads)))
+      .unsafeRunSync()
+
+    loads.get shouldBe 2
+    cache.stats.size shouldBe 0
+  }
+
+  it should "evict FIGfonts when its size is reduced" in {
+    val cache = new FontCache(3)
+    List(keyA, keyB, keyC).traverse(cache.getOrLoad[IO](_)(load)).unsafeRunSync()
+
+    cache.resize(1)
+
+    cache.stats.size shouldBe 1
+    cache.stats.evictions shouldBe 2
+  }
+
+  //  Support  //
+
+  private val standardKey: Key = InternalFontKey("standard", "ISO-8859-1")
+  private val keyA: Key        = InternalFontKey("a", "ISO-8859-1")
+  private val keyB: Key        = InternalFontKey("b", "ISO-8859-1")
+  private val keyC: Key        = FileFontKey("/c.flf", 0L, "ISO-8859-1")
+
+  private def load: IO[FigletResult[FIGfont]] =
+    IO(FIGfont(new File("test"), TestFont().allLines().iterator))
+
+  private def countedLoad(counter: AtomicInteger): IO[FigletResult[FIGfont]] =
+    IO(counter.incrementAndGet()) *> load
+
+}
@@ -0,0 +1,111 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.effect._
+import cats.effect.unsafe.implicits.global
+import com.colofabrix.scala.figlet4s.errors._
+import java.io._
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.util.zip._
+import org.scalatest.flatspec.AnyFlatSpec
+import org.scalatest.matchers.should._
+import scala.io._
+
+class FontFileReaderSpecs extends AnyFlatSpec with Matchers {
+
+  private val text: String = "flf2a$ 1\r\nfirst\rsecond\n\n\r\nthird éÿ\r\rlast"
+
+  "FontFileReader" should "split the lines of ISO-8859-1 content like a BufferedSource" in {
+    val expected = Source.fromString(text).getLines().toVector
+    readLines(FontSource.FromBuffer(latin1(text), "test.flf"), Codec.ISO8859) shouldBe expected
+  }
+
+  it should "split the lines of content encoded with other codecs like a BufferedSource" in {
+    val expected = Source.fromString(text).getLines().toVector
+    val content  = ByteBuffer.wrap(text.getBytes(StandardCharsets.UTF_8))
+    readLines(FontSource.FromBuffer(content, "test.flf"), Codec.UTF8) shouldBe expected
+  }
+
+  it should "read only the content between the position and the limit of a buffer without changing it" in {
+    val bytes  = latin1(s"skipped\n$text\nskipped")
+    val direct = ByteBuffer.allocateDirect(bytes.remaining)
+    val _      = direct.put(bytes).flip()
+    val slices = Vector(bytes, direct).map(_.position(8).limit(8 + text.length))
+
+    slices.foreach { buffer =>
+      readLines(FontSource.FromBuffer(buffer, "test.flf"), Codec.ISO8859) shouldBe
+        Source.fromString(text).getLines().toVector
+      buffer.position() shouldBe 8
+      buffer.limit() shouldBe 8 + text.length
+    }
+  }
+
+  it should "read the first entry of a ZIP archive" in {
+    val archive = zip(Seq("first.flf" -> "first\nfont", "second.flf" -> "second"))
+    readLines(FontSource.FromStream(new ByteArrayInputStream(archive), "fonts.zip"), Codec.ISO8859) shouldBe
+      Vector("first", "font")
+  }
+
+  it should "read every FLF entry of a ZIP archive naming the files after the entries" in {
+    val archive = zip(Seq("first.flf" -> "a\nb", "notes.txt" -> "c", "sub/second.flf" -> "d"))
+    val source  = FontSource.FromBuffer(ByteBuffer.wrap(archive), "fonts.zip")
+
+    val computed =
+      FontFileReader
+        .readSourceAll[IO, (String, Vector[String])](source, Codec.ISO8859) { content =>
+          IO.pure(content.file.getPath -> content.lines.toVector)
+        }
+        .unsafeRunSync()
+
+    computed shouldBe Vector("first.flf" -> Vector("a", "b"), new File("sub/second.flf").getPath -> Vector("d"))
+  }
+
+  it should "compute the identifier from the raw bytes of the font file whatever the codec" in {
+    val bytes      = text.getBytes(StandardCharsets.UTF_8)
+    val latin1Text = new String(bytes, StandardCharsets.ISO_8859_1)
+    val expected   = MessageDigest.getInstance("MD5").digest(bytes).map(b => f"${b & 0xff}%02x").mkString
+
+    Vector(Codec.ISO8859, Codec.UTF8).foreach { codec =>
+      val archive = new ByteArrayInputStream(zip(Seq("test.flf" -> latin1Text)))
+      readId(FontSource.FromBuffer(ByteBuffer.wrap(bytes), "test.flf"), codec) shouldBe expected
+      readId(FontSource.FromStream(archive, "test.zip"), codec) shouldBe expected
+    }
+  }
+
+  it should "fail to read a ZIP archive without FLF entries" in {
+    val source   = FontSource.FromBuffer(ByteBuffer.wrap(zip(Seq("notes.txt" -> "c"))), "fonts.zip")
+    val computed = FontFileReader.readSourceAll[IO, Unit](source, Codec.ISO8859)(_ => IO.unit).attempt
+
+    computed.unsafeRunSync().left.map(_.getClass) shouldBe Left(classOf[FigletLoadingError])
+  }
+
+  //  Support  //
+
+  private def readLines(source: FontSource, codec: Codec): Vector[String] =
+    FontFileReader
+      .readSource[IO, Vector[String]](source, codec)(content => IO.pure(content.lines.toVector))
+      .unsafeRunSync()
+
+  private def readId(source: FontSource, codec: Codec): String =
+    FontFileReader
+      .readSource[IO, String](source, codec)(content => IO.pure(content.id))
+      .unsafeRunSync()
+
+  private def latin1(value: String): ByteBuffer =
+    ByteBuffer.wrap(value.getBytes(StandardCharsets.ISO_8859_1))
+
+  private def zip(entries: Seq[(String, String)]): Array[Byte] = {
+    val bytes = new ByteArrayOutputStream()
+    val zip   = new ZipOutputStream(bytes)
+    entries.foreach {
+      case (name, content) =>
+        zip.putNextEntry(new ZipEntry(name))
+        zip.write(content.getBytes(StandardCharsets.ISO_8859_1))
+        zip.closeEntry()
+    }
+    zip.close()
+    bytes.toByteArray
+  }
+
+}
@@ -0,0 +1,95 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.effect._
+import cats.implicits._
+import cats.effect.unsafe.implicits.global
+import cats.scalatest._
+import com.colofabrix.scala.figlet4s.errors._
+import com.colofabrix.scala.figlet4s.figfont._
+import java.io._
+import java.nio.charset.StandardCharsets
+import java.nio.file._
+import java.util.zip._
+import org.scalatest.flatspec.AnyFlatSpec
+import org.scalatest.matchers.should._
+
+class FontIndexerSpecs extends AnyFlatSpec with Matchers with ValidatedMatchers with ValidatedValues {
+
+  private val inParallel: Vector[FontIndexer.Batch] => IO[Vector[FontCatalog]] =
+    _.parTraverse(batch => IO.blocking(batch.index()))
+
+  "FontIndexer" should "index the FIGfonts of the files and of the ZIP archives of a directory" in new FontScope {
+    val directory = fontsDirectory(content(font))
+    val computed  = FontIndexer.index[IO](directory.toString)(inParallel).unsafeRunSync()
+
+    computed.names shouldBe Vector("a", "pack/fonts/x", "pack/y", "sub/b")
+    computed.invalid shouldBe Vector(directory.resolve("broken.flf").toString)
+    computed.find("pack/y").flatMap(_.archiveEntry) shouldBe Some("y.flf")
+    computed.find("sub/b").map(_.path) shouldBe Some(directory.resolve("sub").resolve("b.flf").toString)
+  }
+
+  it should "describe each FIGfont with the same values of the loaded FIGfont" in new FontScope {
+    val expected = FIGfont(new File("test"), font.allLines().iterator).value
+    val computed = FontIndexer.index[IO](fontsDirectory(content(font)).toString)(inParallel).unsafeRunSync()
+
+    computed.entries.map(_.id).distinct shouldBe Vector(expected.id)
+    computed.entries.map(_.metadata.header).distinct shouldBe Vector(expected.header)
+    computed.entries.map(_.metadata.settings).distinct shouldBe Vector(expected.settings)
+  }
+
+  it should "search the FIGfonts by name ignoring the case" in new FontScope {
+    val catalog = FontIndexer.index[IO](fontsDirectory(content(font)).toString)(inParallel).unsafeRunSync()
+
+    catalog.search("PACK").map(_.name) shouldBe Vector("pack/fonts/x", "pack/y")
+    catalog.search("missing") shouldBe Vector.empty
+    catalog.find("missing") shouldBe None
+  }
+
+  it should "read the same catalog it writes" in new FontScope {
+    val catalog = FontIndexer.index[IO](fontsDirectory(content(font)).toString)(inParallel).unsafeRunSync()
+    val path    = Files.createTempFile("figlet4s", ".tsv").toString
+
+    val computed = (FontIndexer.write[IO](catalog, path) *> FontIndexer.read[IO](path)).unsafeRunSync()
+
+    computed.value shouldBe catalog.copy(invalid = Vector.empty)
+  }
+
+  it should "fail to index a directory that doesn't exist" in {
+    val computed = FontIndexer.index[IO]("/this/directory/does/not/exist")(inParallel).attempt.unsafeRunSync()
+    computed.left.map(_.getClass) shouldBe Left(classOf[FigletLoadingError])
+  }
+
+  //  Support  //
+
+  private def content(font: TestFont): Array[Byte] =
+    font.allLines().map(_ + "\n").mkString.getBytes(StandardCharsets.ISO_8859_1)
+
+  private def fontsDirectory(font: Array[Byte]): Path = {
+    val directory = Files.createTempDirectory("figlet4s")
+    write(directory.resolve("a.flf"), font)
+    write(directory.resolve("broken.flf"), "not a font".getBytes(StandardCharsets.ISO_8859_1))
+    write(directory.resolve("readme.txt"), "not indexed".getBytes(StandardCharsets.ISO_8859_1))
+    write(directory.resolve("sub").resolve("b.flf"), zip(Seq("b.flf" -> font)))
+    write(directory.resolve("pack.zip"), zip(Seq("y.flf" -> font, "fonts/x.flf" -> font, "notes.txt" -> font)))
+    directory
+  }
+
+  private def write(path: Path, content: Array[Byte]): Unit = {
+    val _ = Files.createDirectories(path.getParent)
+    val _ = Files.write(path, content)
+  }
+
+  private def zip(entries: Seq[(String, Array[Byte])]): Array[Byte] = {
+    val bytes = new ByteArrayOutputStream()
+    val zip   = new ZipOutputStream(bytes)
+    entries.foreach {
+      case (name, content) =>
+        zip.putNextEntry(new ZipEntry(name))
+        zip.write(content)
+        zip.closeEntry()
+    }
+    zip.close()
+    bytes.toByteArray
+  }
+
+}
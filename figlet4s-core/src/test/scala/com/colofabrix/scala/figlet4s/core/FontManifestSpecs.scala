@@ -0,0 +1,35 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.scalatest._
+import com.colofabrix.scala.figlet4s.figfont._
+import java.io.File
+import java.nio.charset.StandardCharsets
+import org.scalatest.flatspec.AnyFlatSpec
+import org.scalatest.matchers.should._
+
+class FontManifestSpecs extends AnyFlatSpec with Matchers with ValidatedMatchers with ValidatedValues {
+
+  "FontManifest" should "describe a FIGfont with the same values of the loaded FIGfont" in new FontScope {
+    val content  = font.allLines().map(_ + "\n").mkString.getBytes(StandardCharsets.ISO_8859_1)
+    val expected = FIGfont(new File("test"), font.allLines().iterator).value
+    val computed = FontManifest.parse(FontManifest.line("dir/test", content)).value
+
+    computed.name shouldBe "dir/test"
+    computed.id shouldBe expected.id
+    computed.fileSize shouldBe content.length.toLong
+    computed.header shouldBe expected.header
+    computed.settings shouldBe expected.settings
+  }
+
+  it should "extract the name of the FIGfont from a line" in new FontScope {
+    val content = font.allLines().mkString("\n").getBytes(StandardCharsets.ISO_8859_1)
+    FontManifest.name(FontManifest.line("dir/test", content)) shouldBe "dir/test"
+  }
+
+  it should "fail to parse a line that is not valid" in {
+    FontManifest.parse("test\t10") should be(invalid)
+    FontManifest.parse("test\tten\tid\tflf2a$ 6 5 16 15 11 0 24463 229") should be(invalid)
+    FontManifest.parse("test\t10\tid\tinvalid") should be(invalid)
+  }
+
+}
@@ -0,0 +1,130 @@
+package com.colofabrix.scala.figlet4s.core
+
+import cats.scalatest._
+import com.colofabrix.scala.figlet4s.control._
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
+import java.io.File
+import java.util.concurrent.atomic.AtomicInteger
+import org.scalatest.flatspec.AnyFlatSpec
+import org.scalatest.matchers.should._
+import scala.concurrent._
+import scala.concurrent.duration._
+
+class RenderCacheSpecs extends AnyFlatSpec with Matchers with ValidatedValues {
+
+  "RenderCache" should "render a text only the first time it is requested" in {
+    val cache   = new RenderCache(1000, 1)
+    val renders = new AtomicInteger(0)
+
+    val first  = cache.getOrRender("ab", options)(countedRender("ab", renders))
+    val second = cache.getOrRender("ab", options)(countedRender("ab", renders))
+
+    second should be theSameInstanceAs first
+    renders.get shouldBe 1
+    cache.stats shouldBe RenderCacheStats(1, 1, 0, 1, RenderCache.weightOf(first), 1000)
+    cache.stats.hitRatio shouldBe 0.5
+  }
+
+  it should "share the FIGures of options that resolve to the same layout" in {
+    val cache   = new RenderCache(1000, 1)
+    val renders = new AtomicInteger(0)
+
+    cache.getOrRender("ab", options)(countedRender("ab", renders))
+    cache.getOrRender("ab", options.copy(horizontalLayout = HorizontalLayout.HorizontalSmushing))(
+      countedRender("ab", renders),
+    )
+    cache.getOrRender("ab", options.copy(horizontalLayout = HorizontalLayout.FullWidth))(countedRender("ab", renders))
+
+    renders.get shouldBe 2
+  }
+
+  it should "not share the FIGures of a text translated by different control files" in {
+    val cache      = new RenderCache(10000, 1)
+    val translated = options.copy(controlFiles = Vector(ControlFile(Iterator("t a b")).value))
+
+    val plain    = cache.getOrRender("a", options)(Rendering.render("a", options))
+    val computed = cache.getOrRender("a", translated)(Rendering.render("a", translated))
+
+    computed should not be theSameInstanceAs(plain)
+    computed.columns shouldBe render("b").columns
+    cache.getOrRender("a", options)(render("a")) should be theSameInstanceAs plain
+  }
+
+  it should "evict the least recently used FIGures when its weight is exceeded" in {
+    val weight = RenderCache.weightOf(render("a"))
+    val cache  = new RenderCache(2 * weight, 1)
+
+    List("a", "b", "a", "c").foreach(text => cache.getOrRender(text, options)(render(text)))
+
+    val stats = cache.stats
+    stats.size shouldBe 2
+    stats.evictions shouldBe 1
+    stats.weight should be <= stats.maxWeight
+
+    val renders = new AtomicInteger(0)
+    cache.getOrRender("a", options)(countedRender("a", renders))
+    renders.get shouldBe 0
+  }
+
+  it should "not store FIGures heavier than the cache" in {
+    val cache = new RenderCache(1, 1)
+    cache.getOrRender("a", options)(render("a"))
+    cache.stats.size shouldBe 0
+  }
+
+  it should "not store FIGures nor count requests when the maximum weight is zero" in {
+    val cache   = new RenderCache(0)
+    val renders = new AtomicInteger(0)
+
+    cache.getOrRender("a", options)(countedRender("a", renders))
+    cache.getOrRender("a", options)(countedRender("a", renders))
+
+    renders.get shouldBe 2
+    cache.stats shouldBe RenderCacheStats(0, 0, 0, 0, 0, 0)
+  }
+
+  it should "evict FIGures when its weight is reduced" in {
+    val cache = new RenderCache(10000, 1)
+    List("a", "b", "c").foreach(text => cache.getOrRender(text, options)(render(text)))
+
+    cache.resize(RenderCache.weightOf(render("a")))
+
+    cache.stats.size shouldBe 1
+    cache.stats.evictions shouldBe 2
+  }
+
+  it should "stay within its weight under concurrent renderings" in {
+    implicit val ec: ExecutionContext = ExecutionContext.global
+    val cache                         = new RenderCache(50 * RenderCache.weightOf(render("a")))
+    val texts                         = (1 to 2000).map(i => (i % 200).toString)
+
+    val results = Await.result(
+      Future.traverse(texts)(text => Future(cache.getOrRender(text, options)(render(text)))),
+      30.seconds,
+    )
+
+    results.map(_.value) shouldBe texts
+    val stats = cache.stats
+    (stats.hits + stats.misses) shouldBe 2000
+    stats.weight should be <= stats.maxWeight
+  }
+
+  //  Support  //
+
+  private val font: FIGfont =
+    FIGfont(new File("test"), TestFont().allLines().iterator).value
+
+  private val options: RenderOptions =
+    RenderOptions(font, 80, HorizontalLayout.FontDefault, PrintDirection.FontDefault, Justification.FontDefault)
+
+  private def render(text: String): FIGure =
+    Rendering.render(text, options)
+
+  private def countedRender(text: String, counter: AtomicInteger): FIGure = {
+    counter.incrementAndGet()
+    render(text)
+  }
+
+}
@@ -0,0 +1,37 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+
+class CodePointIndexSpecs extends AnyFlatSpec with Matchers {
+
+  "CodePointIndex" should "find the slot of dense and sparse code points" in {
+    val index = CodePointIndex(Array('A'.toInt, 255, 256, 0x1f600, -2))
+    index.slotOf('A'.toInt) shouldBe 0
+    index.slotOf(255) shouldBe 1
+    index.slotOf(256) shouldBe 2
+    index.slotOf(0x1f600) shouldBe 3
+    index.slotOf(-2) shouldBe 4
+  }
+
+  it should "not find code points that are not indexed" in {
+    val index = CodePointIndex(Array('A'.toInt, 0x1f600))
+    index.slotOf('B'.toInt) shouldBe -1
+    index.slotOf(0xf600) shouldBe -1
+    index.slotOf(-1) shouldBe -1
+  }
+
+  it should "associate a repeated code point with its last slot" in {
+    val index = CodePointIndex(Array('A'.toInt, 0x1f600, 'A'.toInt, 0x1f600))
+    index.slotOf('A'.toInt) shouldBe 2
+    index.slotOf(0x1f600) shouldBe 3
+  }
+
+  it should "find all the code points of a large sparse set" in {
+    val codePoints = (0 until 5000).map(i => 0x10000 + i * 7).toArray
+    val index      = CodePointIndex(codePoints)
+    codePoints.indices.forall(i => index.slotOf(codePoints(i)) == i) shouldBe true
+    index.iterator.toMap shouldBe codePoints.zipWithIndex.toMap
+  }
+
+}
@@ -0,0 +1,35 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import cats.scalatest._
+import java.io._
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+
+class CompiledFontSpecs extends AnyFlatSpec with Matchers with ValidatedMatchers with ValidatedValues {
+
+  "CompiledFont" should "read back the same FIGfont that was written" in new FontScope {
+    val file     = new File("test.flf")
+    val expected = FIGfont(file, font.allLines().iterator).value
+    val output   = new ByteArrayOutputStream()
+    CompiledFont.write(expected, output)
+
+    val computed = CompiledFont.read(file, output.toByteArray)
+    computed should be(valid)
+    computed.value shouldBe expected
+  }
+
+  it should "fail to read data that is not a compiled FIGfont" in new FontScope {
+    val computed = adaptError(CompiledFont.read(new File("test.flf"), "flf2a$ 6 5 16 15 11 0 24463".getBytes))
+    computed should be(invalid)
+    computed.invalidValue.head should startWith("FigletLoadingError - Unsupported format of the compiled FIGfont")
+  }
+
+  it should "fail to read a truncated compiled FIGfont" in new FontScope {
+    val output = new ByteArrayOutputStream()
+    CompiledFont.write(FIGfont(new File("test.flf"), font.allLines().iterator).value, output)
+
+    val computed = adaptError(CompiledFont.read(new File("test.flf"), output.toByteArray.take(100)))
+    computed should haveInvalid("FigletLoadingError - Cannot read the compiled FIGfont test.flf")
+  }
+
+}
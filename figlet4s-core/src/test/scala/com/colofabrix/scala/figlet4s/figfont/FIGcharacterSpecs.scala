@@ -128,4 +128,18 @@ class FIGcharacterSpecs extends AnyFlatSpec with Matchers with ValidatedMatchers
     )
   }
 
+  //  Blank profiles  //
+
+  "Blank profiles" should "count the blank sub-characters at the beginning of each line" in new CharacterScope {
+    val lines    = TestCharacter.getFlatMap("034")((line, _) => Vector(line))
+    val computed = TestCharacter.get('"', lines).value.leftBlanks.toVector
+    computed should equal(Vector(2, 1, 2, 3, 3, 6))
+  }
+
+  it should "count the blank sub-characters at the end of each line" in new CharacterScope {
+    val lines    = TestCharacter.getFlatMap("034")((line, _) => Vector(line))
+    val computed = TestCharacter.get('"', lines).value.rightBlanks.toVector
+    computed should equal(Vector(1, 0, 1, 2, 2, 6))
+  }
+
 }
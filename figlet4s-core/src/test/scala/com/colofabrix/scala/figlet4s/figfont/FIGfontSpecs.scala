@@ -4,6 +4,10 @@ import cats.scalatest._
 import org.scalatest.flatspec._
 import org.scalatest.matchers.should._
 import java.io.File
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import scala.concurrent._
+import scala.concurrent.duration._
 
 class FIGfontSpecs extends AnyFlatSpec with Matchers with ValidatedMatchers with ValidatedValues {
 
@@ -12,6 +16,64 @@ class FIGfontSpecs extends AnyFlatSpec with Matchers with ValidatedMatchers with
     computed should be(valid)
   }
 
+  // Indexed creation
+
+  "FIGfont indexed creation" should "create the same FIGfont of the eager creation" in new FontScope {
+    val expected = FIGfont(new File("test"), font.allLines().iterator)
+    val computed = FIGfont.indexed(new File("test"), font.allLines().iterator)
+    computed.value shouldBe expected.value
+  }
+
+  it should "create a FIGcharacter only once, even when requested concurrently" in new FontScope {
+    implicit val ec: ExecutionContext = ExecutionContext.global
+    val computed = FIGfont.indexed(new File("test"), font.allLines().iterator).value
+    val created  = Await.result(Future.traverse((1 to 16).toList)(_ => Future(computed('A'))), 10.seconds)
+    all(created) should be theSameInstanceAs created.head
+    computed('A') shouldBe FIGfont(new File("test"), font.allLines().iterator).value('A')
+  }
+
+  it should "treat a FIGcharacter that is not valid as missing" in new FontScope {
+    val iterator = font
+      .flatMapChars(false) { (char, i) =>
+        if (i == 1) Vector(char.replace("@@", "")) else Vector(char)
+      }.iterator
+    val computed = FIGfont.indexed(new File("test"), iterator)
+    computed should be(valid)
+    computed.value.characters.get('!') shouldBe None
+    computed.value('!') shouldBe computed.value.zero
+  }
+
+  it should "fail if required characters are missing" in new FontScope {
+    val iterator = font
+      .flatMapChars(false) { (char, i) =>
+        if (i == 1) Vector.empty else Vector(char)
+      }.iterator
+    val computed = adaptError(FIGfont.indexed(new File("test"), iterator))
+    computed should be(invalid)
+    computed.invalidValue.head should startWith("FIGcharacterError - Missing definition for required FIGlet")
+  }
+
+  // Identifier
+
+  "FIGfont id" should "be the MD5 digest of all the lines of the file encoded in ISO-8859-1" in new FontScope {
+    val lines    = font.allLines()
+    val content  = lines.map(_ + "\n").mkString.getBytes(StandardCharsets.ISO_8859_1)
+    val expected = MessageDigest.getInstance("MD5").digest(content).map(b => f"${b & 0xff}%02x").mkString
+    val computed = FIGfont(new File("test"), lines.iterator)
+    computed.value.id should equal(expected)
+  }
+
+  it should "be shared by all the FIGcharacters of the FIGfont" in new FontScope {
+    val computed = FIGfont(new File("test"), font.allLines().iterator)
+    computed.value.characters.values.map(_.fontId).toSet should equal(Set(computed.value.id))
+  }
+
+  it should "change when a line of the file changes" in new FontScope {
+    val original = FIGfont(new File("test"), font.allLines().iterator)
+    val changed  = FIGfont(new File("test"), font.allLines().patch(1, Seq("Another comment"), 1).iterator)
+    changed.value.id should not equal original.value.id
+  }
+
   // Required chars
 
   "FIGfont required chars" should "follow the FIGfont standard" in new FontScope {
@@ -28,6 +90,11 @@ class FIGfontSpecs extends AnyFlatSpec with Matchers with ValidatedMatchers with
     computed.invalidValue.head should startWith("FIGcharacterError - Missing definition for required FIGlet characters:")
   }
 
+  it should "fail if the Iterator is empty" in new FontScope {
+    val computed = adaptError(FIGfont(new File("test"), Iterator.empty))
+    computed should haveInvalid("FIGheaderError - Missing FLF header")
+  }
+
   it should "fail if a line of the Iterator is missing" in new FontScope {
     val iterator = font.allLines(false).zipWithIndex.filter { case (_, i) => i != 150 }.map(_._1).iterator
     val computed = adaptError(FIGfont(new File("test"), iterator))
@@ -107,6 +174,35 @@ class FIGfontSpecs extends AnyFlatSpec with Matchers with ValidatedMatchers with
     computed.invalidValue.head should startWith("FIGcharacterError - Couldn't convert character code 'ABCD'")
   }
 
+  it should "keep the full code point of tags outside of the Basic Multilingual Plane or negative" in new FontScope {
+    val iterator = font.flatMapTagged { (char, i) =>
+      val tail = char.split("\n").tail
+      if (i == 0) Vector(("0x1F600  GRINNING FACE" +: tail).mkString("\n"))
+      else if (i == 1) Vector(("-0x2  NEGATIVE CODE" +: tail).mkString("\n"))
+      else Vector(char)
+    }.toVector
+    val eager   = FIGfont(new File("test"), iterator.iterator).value
+    val indexed = FIGfont.indexed(new File("test"), iterator.iterator).value
+    eager(0x1f600).comment shouldBe Some("GRINNING FACE")
+    eager(-2).comment shouldBe Some("NEGATIVE CODE")
+    eager('\uf600') shouldBe eager.zero
+    eager.characters.get('\uf600').flatMap(_.comment) shouldBe Some("GRINNING FACE")
+    indexed(0x1f600) shouldBe eager(0x1f600)
+    indexed(-2) shouldBe eager(-2)
+  }
+
+  it should "fail if the name of a tag doesn't fit a code point" in new FontScope {
+    val iterator = font.flatMapTagged { (char, i) =>
+      if (i == 0)
+        Vector(("0x1FFFFFFFF  NO-BREAK SPACE" +: char.split("\n").tail).mkString("\n"))
+      else
+        Vector(char)
+    }.iterator
+    val computed = adaptError(FIGfont(new File("test"), iterator))
+    computed should be(invalid)
+    computed.invalidValue.head should startWith("FIGcharacterError - Couldn't convert character code '0x1FFFFFFFF'")
+  }
+
   it should "not fail if the comment of a tag is missing" in new FontScope {
     val iterator = font.flatMapTagged { (char, i) =>
       if (i == 0)
@@ -0,0 +1,50 @@
+package com.colofabrix.scala.figlet4s.figfont
+
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+
+class FIGureBufferSpecs extends AnyFlatSpec with Matchers {
+
+  private val columns: Vector[SubColumns] = Vector(
+    SubColumns(Vector("ab$", "$cd", "efg", "hij")),
+    SubColumns(Vector.empty),
+    SubColumns(Vector("k$", "lm")),
+  )
+
+  "FIGureBuffer" should "read the same columns it packs" in {
+    val computed = FIGureBuffer(columns)
+    computed shouldBe columns
+    computed.map(_.height) shouldBe Vector(3, 0, 2)
+  }
+
+  it should "read the lines as the transposed columns" in {
+    FIGureBuffer(columns).lines shouldBe columns.map(_.toSublines)
+  }
+
+  it should "replace the hardblanks when the clean columns and lines are read" in {
+    val buffer = FIGureBuffer(columns)
+    buffer.cleanColumns('$') shouldBe columns.map(_.replace("$", " "))
+    buffer.cleanLines('$') shouldBe columns.map(_.toSublines.replace("$", " "))
+  }
+
+  it should "compute the width from the lines with at least one row" in {
+    FIGureBuffer(columns).width shouldBe 4
+    FIGureBuffer(Vector(SubColumns(Vector("", "")))).width shouldBe 0
+    FIGureBuffer(Vector.empty).width shouldBe 0
+  }
+
+  it should "be equal to another buffer with the same characters" in {
+    val first  = FIGureBuffer(columns)
+    val second = FIGureBuffer(columns.map(c => SubColumns(c.value.map(identity))))
+    first shouldBe second
+    first.hashCode shouldBe second.hashCode
+    first should not be FIGureBuffer(columns.take(2))
+  }
+
+  it should "fail to read outside of the columns and of the rows" in {
+    val buffer = FIGureBuffer(columns)
+    an[IndexOutOfBoundsException] should be thrownBy buffer(0).value(4)
+    an[IndexOutOfBoundsException] should be thrownBy buffer.lines(0).value(3)
+  }
+
+}
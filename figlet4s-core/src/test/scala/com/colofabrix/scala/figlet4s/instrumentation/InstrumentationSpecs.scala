@@ -0,0 +1,105 @@
+package com.colofabrix.scala.figlet4s.instrumentation
+
+import com.colofabrix.scala.figlet4s.figfont._
+import com.colofabrix.scala.figlet4s.unsafe._
+import java.io.File
+import java.nio.file.Files
+import java.util.concurrent.ConcurrentLinkedQueue
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordingFile
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+import scala.io.Source
+import scala.jdk.CollectionConverters._
+
+class InstrumentationSpecs extends AnyFlatSpec with Matchers {
+
+  "Instrumentation" should "measure the rendering of a text" in {
+    val text         = "Instrumented rendering of a text"
+    val measurements = recorded(Figlet4s.builder(text).withMaxWidth(80).render())
+
+    val renders = measurements.collect { case m: RenderMeasurement if m.inputLength == text.length => m }
+    renders should not be empty
+    renders.foreach { m =>
+      m.fontName shouldBe "standard"
+      m.outputWidth should be <= 80
+      m.mergeIterations should be > 0L
+      m.wraps should be > 0
+    }
+  }
+
+  it should "measure the compilation of the options" in {
+    val measurements = recorded(Figlet4s.builder().withInternalFont("alligator").withMaxWidth(120).options)
+    measurements should contain(OptionsCompileMeasurement(2, "alligator"))
+  }
+
+  it should "measure the parsing of a FIGfont" in {
+    val file         = new File(s"${System.getProperty("user.dir")}/figlet4s-core/src/main/resources/fonts/banner.flf")
+    def lines        = Source.fromFile(file, "ISO-8859-1")
+    val lineCount    = lines.getLines().size
+    val measurements = recorded(FIGfont(file, lines.getLines()))
+
+    val parses = measurements.collect { case m: FontParseMeasurement if m.file == file.getPath => m }
+    parses should not be empty
+    parses.foreach { m =>
+      m.lines shouldBe lineCount
+      m.characters should be >= FIGfont.requiredChars.size
+      m.eager shouldBe true
+      m.valid shouldBe true
+    }
+  }
+
+  "JfrInstrumentation" should "record the phases as JDK Flight Recorder events" in {
+    val text      = "Recorded by the JDK Flight Recorder"
+    val recording = new Recording()
+    val dump      = Files.createTempFile("figlet4s", ".jfr")
+    val previous  = Instrumentation.current
+
+    try {
+      recording.enable("figlet4s.Render")
+      recording.start()
+      Instrumentation.install(JfrInstrumentation)
+      Figlet4s.builder(text).render()
+      recording.stop()
+      recording.dump(dump)
+
+      val events = RecordingFile.readAllEvents(dump).asScala
+      val render = events.filter(_.getEventType.getName == "figlet4s.Render")
+      render.map(_.getInt("inputLength")) should contain(text.length)
+      render.map(_.getString("fontName")) should contain("standard")
+    } finally {
+      Instrumentation.install(previous)
+      recording.close()
+      val _ = Files.deleteIfExists(dump)
+    }
+  }
+
+  //  Support  //
+
+  /** Runs an action recording all the measurements taken in the meantime */
+  private def recorded[A](action: => A): Vector[Measurement] = {
+    val measurements = new ConcurrentLinkedQueue[Measurement]()
+    val previous     = Instrumentation.current
+
+    def recording[M <: Measurement]: Span[M] =
+      new Span[M] {
+        def isRecording: Boolean      = true
+        def end(measurement: M): Unit = { val _ = measurements.add(measurement) }
+      }
+
+    Instrumentation.install(new Instrumentation {
+      def fontRead(): Span[FontReadMeasurement]             = recording
+      def fontParse(): Span[FontParseMeasurement]           = recording
+      def optionsCompile(): Span[OptionsCompileMeasurement] = recording
+      def render(): Span[RenderMeasurement]                 = recording
+    })
+
+    try {
+      val _ = action
+      measurements.asScala.toVector
+    } finally {
+      Instrumentation.install(previous)
+    }
+  }
+
+}
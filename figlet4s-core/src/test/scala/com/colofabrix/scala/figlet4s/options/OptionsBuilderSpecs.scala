@@ -139,6 +139,26 @@ class OptionsBuilderSpecs extends AnyFlatSpec with Matchers {
     computed should equal(expected)
   }
 
+  //  Line Breaking  //
+
+  "defaultLineBreaking/withLineBreaking" should "break the lines at the FIGcharacters by default" in {
+    val computed = Figlet4s.builder().defaultLineBreaking().options.lineBreaking
+    val expected = LineBreaking.Characters
+    computed should equal(expected)
+  }
+
+  it should "use the last set line breaking" in {
+    val expected = LineBreaking.Words
+    val computed = Figlet4s
+      .builder()
+      .withLineBreaking(LineBreaking.Words)
+      .defaultLineBreaking()
+      .withLineBreaking(expected)
+      .options
+      .lineBreaking
+    computed should equal(expected)
+  }
+
   //  Print Direction  //
 
   "defaultPrintDirection/withPrintDirection" should "set the PrintDirection to font default" in {
@@ -165,4 +185,48 @@ class OptionsBuilderSpecs extends AnyFlatSpec with Matchers {
     computed should equal(expected)
   }
 
+
+  //  Control Files  //
+
+  "defaultControlFiles/withInternalControlFile" should "not translate the text by default" in {
+    val computed = Figlet4s.builder().defaultControlFiles().options.controlFiles
+    computed shouldBe empty
+  }
+
+  it should "translate the text with an internal control file" in {
+    val expected = Figlet4s.builder("HELLO, WORLD!").render().asString()
+    val computed = Figlet4s.builder("hello, World!").withInternalControlFile("upper").render().asString()
+    computed should equal(expected)
+  }
+
+  it should "apply the control files in the order they are set" in {
+    val expected = Figlet4s.builder("uryyb").render().asString()
+    val computed = Figlet4s
+      .builder("HELLO")
+      .withInternalControlFile("lower")
+      .withInternalControlFile("rot13")
+      .render()
+      .asString()
+    computed should equal(expected)
+  }
+
+  it should "remove all the control files set before the default" in {
+    val computed = Figlet4s
+      .builder()
+      .withInternalControlFile("upper")
+      .defaultControlFiles()
+      .withInternalControlFile("rot13")
+      .options
+      .controlFiles
+    computed should have size 1
+  }
+
+  it should "set a control file from file" in {
+    val expected = Figlet4s.builder("HELLO").render().asString()
+    val cwd      = System.getProperty("user.dir")
+    val file     = s"$cwd/figlet4s-core/src/main/resources/fonts/upper.flc"
+    val computed = Figlet4s.builder("hello").withControlFile(file).render().asString()
+    computed should equal(expected)
+  }
+
 }
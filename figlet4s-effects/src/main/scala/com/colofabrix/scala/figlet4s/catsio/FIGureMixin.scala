@@ -25,6 +25,15 @@ private[catsio] trait FIGureMixin {
       self.cleanLines.foreach(_.foreach(System.out.println))
     }
 
+    /**
+     * Writes the FIGure one displayable line at a time, without building the lines or the String of the whole FIGure
+     *
+     * @param out The destination of the lines of the FIGure
+     */
+    def writeTo(out: Appendable): IO[Unit] = IO.blocking {
+      self.writeCleanLines(out)
+    }
+
     /**
      * The figure as a collection of String, one String per displayable line
      *
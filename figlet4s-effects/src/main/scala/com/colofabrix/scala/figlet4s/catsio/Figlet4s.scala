@@ -1,11 +1,15 @@
 package com.colofabrix.scala.figlet4s.catsio
 
 import cats.effect._
+import cats.implicits._
 import cats.effect.unsafe.implicits.global
 import com.colofabrix.scala.figlet4s.api._
 import com.colofabrix.scala.figlet4s.core._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
+import fs2.{ Pipe, Stream }
+import scala.concurrent.ExecutionContext
 import scala.io.Codec
 
 /**
@@ -23,6 +27,14 @@ object Figlet4s extends Figlet4sAPI[IO] with Figlet4sEffectfulAPI[IO] {
   def internalFonts: IO[Seq[String]] =
     Figlet4sClient.internalFonts[IO]
 
+  /**
+   * The description of all the available internal fonts, obtained without loading any of them
+   *
+   * @return The collection of descriptions of the FIGfonts shipped with this library
+   */
+  def internalFontsMetadata: IO[Seq[FontMetadata]] =
+    Figlet4sClient.internalFontsMetadata[IO]
+
   /**
    * Loads one of the internal FIGfont
    *
@@ -46,6 +58,167 @@ object Figlet4s extends Figlet4sAPI[IO] with Figlet4sEffectfulAPI[IO] {
       .loadFont[IO](path, codec)
       .flatMap(toIO)
 
+  /**
+   * Loads a FIGfont of a catalog of FIGfonts
+   *
+   * @param entry The FIGfont of the catalog to load
+   * @return The FIGfont loaded from the file described by the entry
+   */
+  def loadFont(entry: FontCatalogEntry): IO[FIGfont] =
+    Figlet4sClient
+      .loadFont[IO](entry)
+      .flatMap(toIO)
+
+  /**
+   * Loads a FIGfont from a file on any file system, from a buffer, like a memory-mapped file, or from a stream
+   *
+   * @param source The source of the font file to load. It can be a .flf file or a zipped file.
+   * @param codec  The codec of the file if textual. If it is a zipped file it will be ignored
+   * @return The FIGfont loaded from the specified source
+   */
+  def loadFontFrom(source: FontSource, codec: Codec = Codec.ISO8859): IO[FIGfont] =
+    Figlet4sClient
+      .loadFontFrom[IO](source, codec)
+      .flatMap(toIO)
+
+  /**
+   * Loads all the FIGfonts of a ZIP archive of FLF files, reading the archive only once
+   *
+   * @param source The source of the ZIP archive. If it's a single font file, it's the only FIGfont loaded
+   * @param codec  The codec of the font files
+   * @return The FIGfonts of the archive, named after their entries
+   */
+  def loadFontsFrom(source: FontSource, codec: Codec = Codec.ISO8859): IO[Seq[FIGfont]] =
+    Figlet4sClient
+      .loadFontsFrom[IO](source, codec)
+      .flatMap(toIO)
+
+  /**
+   * Indexes the FIGfonts of a directory and of its subdirectories in parallel, reading only their headers
+   *
+   * @param directory The directory containing FLF files, zipped or not, and ZIP archives of FLF files
+   * @param ec        The ExecutionContext where the files are indexed
+   * @return The catalog of the FIGfonts of the directory
+   */
+  def indexFonts(directory: String)(implicit ec: ExecutionContext): IO[FontCatalog] =
+    Figlet4sClient.indexFonts[IO](directory)(_.parTraverse(batch => IO(batch.index()).evalOn(ec)))
+
+  /**
+   * Reads a catalog of FIGfonts previously saved with [[writeFontCatalog]]
+   *
+   * @param path The path of the file of the catalog
+   * @return The catalog read from the file
+   */
+  def readFontCatalog(path: String): IO[FontCatalog] =
+    Figlet4sClient
+      .readFontCatalog[IO](path)
+      .flatMap(toIO)
+
+  /**
+   * Saves a catalog of FIGfonts into a file, replacing it if it exists
+   *
+   * @param catalog The catalog to save
+   * @param path    The path of the file of the catalog
+   * @return Unit when the catalog has been saved
+   */
+  def writeFontCatalog(catalog: FontCatalog, path: String): IO[Unit] =
+    Figlet4sClient.writeFontCatalog[IO](catalog, path)
+
+  /**
+   * Loads one of the internal FIGfont into the cache of loaded FIGfonts, shared by all client APIs, measuring the time
+   * spent
+   *
+   * @param name   The name of the internal font to preload
+   * @param warmUp If true the FIGfont is used to render a sample text after it's loaded
+   * @return The time spent to load and to warm up the FIGfont
+   */
+  def preloadFontInternal(name: String, warmUp: Boolean = false): IO[FontLoadTiming] =
+    Figlet4sClient
+      .preloadFontInternal[IO](name, warmUp)
+      .flatMap(toIO)
+
+  /**
+   * Loads many internal FIGfonts concurrently into the cache of loaded FIGfonts, shared by all client APIs, measuring
+   * the time spent for each one
+   *
+   * @param names  The names of the internal fonts to preload, like the ones returned by [[internalFonts]]
+   * @param warmUp If true each FIGfont is used to render a sample text after it's loaded
+   * @param ec     The ExecutionContext where the FIGfonts are loaded
+   * @return The time spent to load and to warm up each FIGfont, in the same order of the names
+   */
+  def preloadFontsInternal(
+      names: Seq[String],
+      warmUp: Boolean = false,
+  )(implicit ec: ExecutionContext): IO[Seq[FontLoadTiming]] =
+    names
+      .toVector
+      .parTraverse(name => preloadFontInternal(name, warmUp).evalOn(ec))
+      .map(timings => timings: Seq[FontLoadTiming])
+
+  /**
+   * Loads many internal FIGfonts concurrently into the cache of loaded FIGfonts, shared by all client APIs, measuring
+   * the time spent for each one and loading at most the given number of FIGfonts at the same time
+   *
+   * @param names       The names of the internal fonts to preload, like the ones returned by [[internalFonts]]
+   * @param parallelism The maximum number of FIGfonts loaded at the same time
+   * @param warmUp      If true each FIGfont is used to render a sample text after it's loaded
+   * @return The time spent to load and to warm up each FIGfont, in the same order of the names
+   */
+  def preloadFontsInternalN(names: Seq[String], parallelism: Int, warmUp: Boolean = false): IO[Seq[FontLoadTiming]] =
+    IO
+      .parTraverseN(parallelism)(names.toVector)(preloadFontInternal(_, warmUp))
+      .map(timings => timings: Seq[FontLoadTiming])
+
+  /**
+   * The statistics of usage of the cache of loaded FIGfonts, shared by all client APIs
+   *
+   * @return The current statistics of the FIGfont cache
+   */
+  def fontCacheStats: IO[FontCacheStats] =
+    Figlet4sClient.fontCacheStats[IO]
+
+  /**
+   * Removes all FIGfonts from the cache of loaded FIGfonts
+   *
+   * @return Unit when the cache has been emptied
+   */
+  def clearFontCache(): IO[Unit] =
+    Figlet4sClient.clearFontCache[IO]
+
+  /**
+   * Changes the maximum number of FIGfonts kept in the cache of loaded FIGfonts
+   *
+   * @param maxSize The new maximum number of FIGfonts, where zero disables the cache
+   * @return Unit when the cache has been resized
+   */
+  def resizeFontCache(maxSize: Int): IO[Unit] =
+    Figlet4sClient.resizeFontCache[IO](maxSize)
+
+  /**
+   * The statistics of usage of the cache of rendered FIGures, shared by all client APIs
+   *
+   * @return The current statistics of the FIGure cache
+   */
+  def renderCacheStats: IO[RenderCacheStats] =
+    Figlet4sClient.renderCacheStats[IO]
+
+  /**
+   * Removes all FIGures from the cache of rendered FIGures
+   *
+   * @return Unit when the cache has been emptied
+   */
+  def clearRenderCache(): IO[Unit] =
+    Figlet4sClient.clearRenderCache[IO]
+
+  /**
+   * Changes the maximum weight of the cache of rendered FIGures. The cache is disabled until it's given a weight.
+   *
+   * @param maxWeight The new maximum number of characters of all the cached FIGures, where zero disables the cache
+   * @return Unit when the cache has been resized
+   */
+  def resizeRenderCache(maxWeight: Long): IO[Unit] =
+    Figlet4sClient.resizeRenderCache[IO](maxWeight)
+
   /**
    * Renders a given text as a FIGure
    *
@@ -56,6 +229,37 @@ object Figlet4s extends Figlet4sAPI[IO] with Figlet4sEffectfulAPI[IO] {
   def renderString(text: String, options: RenderOptions): FIGure =
     renderStringF(text, options).unsafeRunSync()
 
+  /**
+   * Computes the size of the FIGure of a given text without building the FIGure
+   *
+   * @param text    The text to measure
+   * @param options The rendering options used to render the text
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measureString(text: String, options: RenderOptions): FIGureSize =
+    measureStringF(text, options).unsafeRunSync()
+
+  /**
+   * Finds the first FIGfont that renders a given text within a width, measuring the text without building any FIGure
+   *
+   * @param text    The text to render
+   * @param options The rendering options used to render the text, where the FIGfont is replaced by each candidate
+   * @param fonts   The candidate FIGfonts, in order of preference
+   * @param width   The maximum width of the FIGure
+   * @return The first FIGfont with which the FIGure is not wider than the given width, if any
+   */
+  def fittingFont(text: String, options: RenderOptions, fonts: Seq[FIGfont], width: Int): Option[FIGfont] =
+    fittingFontF(text, options, fonts, width).unsafeRunSync()
+
+  /**
+   * Creates a renderer that renders any number of texts with the same options
+   *
+   * @param options The rendering options used to render the texts
+   * @return A Renderer that reuses the work that depends only on the options
+   */
+  def renderer(options: RenderOptions): Renderer =
+    rendererF(options).unsafeRunSync()
+
   /**
    * Returns a new options builder with default settings
    *
@@ -83,6 +287,54 @@ object Figlet4s extends Figlet4sAPI[IO] with Figlet4sEffectfulAPI[IO] {
   def renderStringF(text: String, options: RenderOptions): IO[FIGure] =
     Figlet4sClient.renderString[IO](text, options)
 
+  /**
+   * Computes the size of the FIGure of a given text without building the FIGure
+   *
+   * @param text    The text to measure
+   * @param options The rendering options used to render the text
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measureStringF(text: String, options: RenderOptions): IO[FIGureSize] =
+    Figlet4sClient.measureString[IO](text, options)
+
+  /**
+   * Finds the first FIGfont that renders a given text within a width, measuring the text without building any FIGure
+   *
+   * @param text    The text to render
+   * @param options The rendering options used to render the text, where the FIGfont is replaced by each candidate
+   * @param fonts   The candidate FIGfonts, in order of preference
+   * @param width   The maximum width of the FIGure
+   * @return The first FIGfont with which the FIGure is not wider than the given width, if any
+   */
+  def fittingFontF(text: String, options: RenderOptions, fonts: Seq[FIGfont], width: Int): IO[Option[FIGfont]] =
+    Figlet4sClient.fittingFont[IO](text, options, fonts, width)
+
+  /**
+   * Creates a renderer that renders any number of texts with the same options
+   *
+   * @param options The rendering options used to render the texts
+   * @return A Renderer that reuses the work that depends only on the options
+   */
+  def rendererF(options: RenderOptions): IO[Renderer] =
+    Figlet4sClient.renderer[IO](options)
+
+  /**
+   * Renders a stream of texts as a single text, emitting the rows of the FIGure as soon as each of its lines is complete
+   *
+   * The texts are rendered as if they were concatenated and the FIGure wraps at the maximum width of the options. Only
+   * the line of the FIGure being rendered is kept in memory, whatever the size of the input, and the last line is
+   * emitted when the input ends.
+   *
+   * @param options The rendering options used to render the texts
+   * @return A Pipe that transforms pieces of text into the rows of their FIGure, with hardblanks replaced by spaces
+   */
+  def renderPipe(options: RenderOptions): Pipe[IO, String, String] =
+    texts =>
+      Stream.eval(Figlet4sClient.incrementalRendering[IO](options)).flatMap { rendering =>
+        texts.flatMap(text => Stream.fromIterator[IO](rendering.append(text), 1).flatMap(Stream.emits)) ++
+        Stream.evalSeq(IO(rendering.finish()))
+      }
+
   /**
    * Returns a new options builder with default settings
    *
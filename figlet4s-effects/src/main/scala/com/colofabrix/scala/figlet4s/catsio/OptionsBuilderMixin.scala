@@ -1,10 +1,13 @@
 package com.colofabrix.scala.figlet4s.catsio
 
 import cats.effect.IO
+import cats.implicits._
 import com.colofabrix.scala.figlet4s.api._
+import com.colofabrix.scala.figlet4s.control._
 import com.colofabrix.scala.figlet4s.core._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
 
 private[catsio] trait OptionsBuilderMixin {
 
@@ -41,6 +44,37 @@ private[catsio] trait OptionsBuilderMixin {
         .text(text)
         .render()
 
+    /**
+     * Builds the options and then computes the size of the FIGure of the text, without building the FIGure
+     *
+     * @return The size of the FIGure that rendering the text would produce
+     */
+    def measure(): IO[FIGureSize] =
+      for {
+        options  <- options
+        text     <- text
+        measured <- Figlet4sClient.measureString[IO](text, options)
+      } yield measured
+
+    /**
+     * Builds the options and then computes the size of the FIGure of the text, without building the FIGure
+     *
+     * @param text The text to measure
+     * @return The size of the FIGure that rendering the text would produce
+     */
+    def measure(text: String): IO[FIGureSize] =
+      self
+        .text(text)
+        .measure()
+
+    /**
+     * Builds the options and then creates a renderer that renders any number of texts with them
+     *
+     * @return A Renderer that uses the RenderOptions resulting from building the internal state
+     */
+    def renderer(): IO[Renderer] =
+      options.flatMap(Figlet4sClient.renderer[IO])
+
     /**
      * Builds the options and then renders the text into a FIGure
      *
@@ -53,8 +87,10 @@ private[catsio] trait OptionsBuilderMixin {
         horizontalLayout <- buildOptions.map(_.horizontalLayout)
         printDirection   <- buildOptions.map(_.printDirection)
         justification    <- buildOptions.map(_.justification)
+        controlFiles     <- builtControlFiles
+        lineBreaking     <- buildOptions.map(_.lineBreaking)
       } yield {
-        RenderOptions(font, maxWidth, horizontalLayout, printDirection, justification)
+        RenderOptions(font, maxWidth, horizontalLayout, printDirection, justification, controlFiles, lineBreaking)
       }
 
     //  Support  //
@@ -70,6 +106,9 @@ private[catsio] trait OptionsBuilderMixin {
         .loadFontInternal[IO](Figlet4sClient.defaultFont)
         .flatMap(toIO)
 
+    private def builtControlFiles: IO[Vector[ControlFile]] =
+      buildOptions.flatMap(_.controlFiles.traverse(toIO))
+
     private def builtMaxWidth: IO[Int] =
       for {
         optionMaxWidth <- buildOptions.map(_.maxWidth)
@@ -48,7 +48,7 @@ import com.colofabrix.scala.figlet4s.errors._
  *   .handleError(error => IO(println(s"Error while working with FIGlet: $$error")))
  * }}}
  */
-package object catsio extends FIGureMixin with OptionsBuilderMixin {
+package object catsio extends FIGureMixin with OptionsBuilderMixin with RendererMixin {
 
   /**
    * Transforms the FigletResult into a Cat's IO capturing the first error in IO
@@ -1,5 +1,6 @@
 package com.colofabrix.scala.figlet4s.either
 
+import cats.effect._
 import scala.util._
 import com.colofabrix.scala.figlet4s.api._
 import com.colofabrix.scala.figlet4s.figfont._
@@ -23,6 +24,14 @@ private[either] trait FIGureMixin {
     def print(): FigletEither[Unit] =
       self.foreachLine(println)
 
+    /**
+     * Writes the FIGure one displayable line at a time, without building the lines or the String of the whole FIGure
+     *
+     * @param out The destination of the lines of the FIGure
+     */
+    def writeTo(out: Appendable): FigletEither[Unit] =
+      Sync[FigletEither].blocking(self.writeCleanLines(out))
+
     /**
      * The figure as a collection of String, one String per displayable line
      *
@@ -1,9 +1,13 @@
 package com.colofabrix.scala.figlet4s.either
 
+import cats.effect._
 import com.colofabrix.scala.figlet4s.api._
 import com.colofabrix.scala.figlet4s.core._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
+import scala.concurrent._
+import scala.concurrent.duration._
 import scala.io.Codec
 
 /**
@@ -21,6 +25,14 @@ object Figlet4s extends Figlet4sAPI[FigletEither] with Figlet4sEffectfulAPI[Figl
   def internalFonts: FigletEither[Seq[String]] =
     Figlet4sClient.internalFonts[FigletEither]
 
+  /**
+   * The description of all the available internal fonts, obtained without loading any of them
+   *
+   * @return The collection of descriptions of the FIGfonts shipped with this library
+   */
+  def internalFontsMetadata: FigletEither[Seq[FontMetadata]] =
+    Figlet4sClient.internalFontsMetadata[FigletEither]
+
   /**
    * Loads one of the internal FIGfont
    *
@@ -44,6 +56,157 @@ object Figlet4s extends Figlet4sAPI[FigletEither] with Figlet4sEffectfulAPI[Figl
       .loadFont[FigletEither](path, encoding)
       .flatMap(toEither)
 
+  /**
+   * Loads a FIGfont of a catalog of FIGfonts
+   *
+   * @param entry The FIGfont of the catalog to load
+   * @return The FIGfont loaded from the file described by the entry
+   */
+  def loadFont(entry: FontCatalogEntry): FigletEither[FIGfont] =
+    Figlet4sClient
+      .loadFont[FigletEither](entry)
+      .flatMap(toEither)
+
+  /**
+   * Loads a FIGfont from a file on any file system, from a buffer, like a memory-mapped file, or from a stream
+   *
+   * @param source The source of the font file to load. It can be a .flf file or a zipped file.
+   * @param codec  The codec of the file if textual. If it is a zipped file it will be ignored
+   * @return The FIGfont loaded from the specified source
+   */
+  def loadFontFrom(source: FontSource, codec: Codec = Codec.ISO8859): FigletEither[FIGfont] =
+    Figlet4sClient
+      .loadFontFrom[FigletEither](source, codec)
+      .flatMap(toEither)
+
+  /**
+   * Loads all the FIGfonts of a ZIP archive of FLF files, reading the archive only once
+   *
+   * @param source The source of the ZIP archive. If it's a single font file, it's the only FIGfont loaded
+   * @param codec  The codec of the font files
+   * @return The FIGfonts of the archive, named after their entries
+   */
+  def loadFontsFrom(source: FontSource, codec: Codec = Codec.ISO8859): FigletEither[Seq[FIGfont]] =
+    Figlet4sClient
+      .loadFontsFrom[FigletEither](source, codec)
+      .flatMap(toEither)
+
+  /**
+   * Indexes the FIGfonts of a directory and of its subdirectories in parallel, reading only their headers
+   *
+   * @param directory The directory containing FLF files, zipped or not, and ZIP archives of FLF files
+   * @param ec        The ExecutionContext where the files are indexed
+   * @return The catalog of the FIGfonts of the directory
+   */
+  def indexFonts(directory: String)(implicit ec: ExecutionContext): FigletEither[FontCatalog] =
+    Figlet4sClient.indexFonts[FigletEither](directory) { batches =>
+      Sync[FigletEither].blocking {
+        Await.result(Future.traverse(batches)(batch => Future(batch.index())), Duration.Inf)
+      }
+    }
+
+  /**
+   * Reads a catalog of FIGfonts previously saved with [[writeFontCatalog]]
+   *
+   * @param path The path of the file of the catalog
+   * @return The catalog read from the file
+   */
+  def readFontCatalog(path: String): FigletEither[FontCatalog] =
+    Figlet4sClient
+      .readFontCatalog[FigletEither](path)
+      .flatMap(toEither)
+
+  /**
+   * Saves a catalog of FIGfonts into a file, replacing it if it exists
+   *
+   * @param catalog The catalog to save
+   * @param path    The path of the file of the catalog
+   * @return Unit when the catalog has been saved
+   */
+  def writeFontCatalog(catalog: FontCatalog, path: String): FigletEither[Unit] =
+    Figlet4sClient.writeFontCatalog[FigletEither](catalog, path)
+
+  /**
+   * Loads one of the internal FIGfont into the cache of loaded FIGfonts, shared by all client APIs, measuring the time
+   * spent
+   *
+   * @param name   The name of the internal font to preload
+   * @param warmUp If true the FIGfont is used to render a sample text after it's loaded
+   * @return The time spent to load and to warm up the FIGfont
+   */
+  def preloadFontInternal(name: String, warmUp: Boolean = false): FigletEither[FontLoadTiming] =
+    Figlet4sClient
+      .preloadFontInternal[FigletEither](name, warmUp)
+      .flatMap(toEither)
+
+  /**
+   * Loads many internal FIGfonts concurrently into the cache of loaded FIGfonts, shared by all client APIs, measuring
+   * the time spent for each one
+   *
+   * @param names  The names of the internal fonts to preload, like the ones returned by [[internalFonts]]
+   * @param warmUp If true each FIGfont is used to render a sample text after it's loaded
+   * @param ec     The ExecutionContext where the FIGfonts are loaded
+   * @return The time spent to load and to warm up each FIGfont, in the same order of the names
+   */
+  def preloadFontsInternal(
+      names: Seq[String],
+      warmUp: Boolean = false,
+  )(implicit ec: ExecutionContext): FigletEither[Seq[FontLoadTiming]] =
+    Sync[FigletEither]
+      .blocking {
+        Await.result(Future.traverse(names)(name => Future(unsafeGet(preloadFontInternal(name, warmUp)))), Duration.Inf)
+      }
+
+  /**
+   * The statistics of usage of the cache of loaded FIGfonts, shared by all client APIs
+   *
+   * @return The current statistics of the FIGfont cache
+   */
+  def fontCacheStats: FigletEither[FontCacheStats] =
+    Figlet4sClient.fontCacheStats[FigletEither]
+
+  /**
+   * Removes all FIGfonts from the cache of loaded FIGfonts
+   *
+   * @return Unit when the cache has been emptied
+   */
+  def clearFontCache(): FigletEither[Unit] =
+    Figlet4sClient.clearFontCache[FigletEither]
+
+  /**
+   * Changes the maximum number of FIGfonts kept in the cache of loaded FIGfonts
+   *
+   * @param maxSize The new maximum number of FIGfonts, where zero disables the cache
+   * @return Unit when the cache has been resized
+   */
+  def resizeFontCache(maxSize: Int): FigletEither[Unit] =
+    Figlet4sClient.resizeFontCache[FigletEither](maxSize)
+
+  /**
+   * The statistics of usage of the cache of rendered FIGures, shared by all client APIs
+   *
+   * @return The current statistics of the FIGure cache
+   */
+  def renderCacheStats: FigletEither[RenderCacheStats] =
+    Figlet4sClient.renderCacheStats[FigletEither]
+
+  /**
+   * Removes all FIGures from the cache of rendered FIGures
+   *
+   * @return Unit when the cache has been emptied
+   */
+  def clearRenderCache(): FigletEither[Unit] =
+    Figlet4sClient.clearRenderCache[FigletEither]
+
+  /**
+   * Changes the maximum weight of the cache of rendered FIGures. The cache is disabled until it's given a weight.
+   *
+   * @param maxWeight The new maximum number of characters of all the cached FIGures, where zero disables the cache
+   * @return Unit when the cache has been resized
+   */
+  def resizeRenderCache(maxWeight: Long): FigletEither[Unit] =
+    Figlet4sClient.resizeRenderCache[FigletEither](maxWeight)
+
   /**
    * Renders a given text as a FIGure
    *
@@ -54,6 +217,37 @@ object Figlet4s extends Figlet4sAPI[FigletEither] with Figlet4sEffectfulAPI[Figl
   def renderString(text: String, options: RenderOptions): FIGure =
     unsafeGet(renderStringF(text, options))
 
+  /**
+   * Computes the size of the FIGure of a given text without building the FIGure
+   *
+   * @param text    The text to measure
+   * @param options The rendering options used to render the text
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measureString(text: String, options: RenderOptions): FIGureSize =
+    unsafeGet(measureStringF(text, options))
+
+  /**
+   * Finds the first FIGfont that renders a given text within a width, measuring the text without building any FIGure
+   *
+   * @param text    The text to render
+   * @param options The rendering options used to render the text, where the FIGfont is replaced by each candidate
+   * @param fonts   The candidate FIGfonts, in order of preference
+   * @param width   The maximum width of the FIGure
+   * @return The first FIGfont with which the FIGure is not wider than the given width, if any
+   */
+  def fittingFont(text: String, options: RenderOptions, fonts: Seq[FIGfont], width: Int): Option[FIGfont] =
+    unsafeGet(fittingFontF(text, options, fonts, width))
+
+  /**
+   * Creates a renderer that renders any number of texts with the same options
+   *
+   * @param options The rendering options used to render the texts
+   * @return A Renderer that reuses the work that depends only on the options
+   */
+  def renderer(options: RenderOptions): Renderer =
+    unsafeGet(rendererF(options))
+
   /**
    * Returns a new options builder with default settings
    *
@@ -81,6 +275,42 @@ object Figlet4s extends Figlet4sAPI[FigletEither] with Figlet4sEffectfulAPI[Figl
   def renderStringF(text: String, options: RenderOptions): FigletEither[FIGure] =
     Figlet4sClient.renderString[FigletEither](text, options)
 
+  /**
+   * Computes the size of the FIGure of a given text without building the FIGure
+   *
+   * @param text    The text to measure
+   * @param options The rendering options used to render the text
+   * @return The size of the FIGure that rendering the text would produce
+   */
+  def measureStringF(text: String, options: RenderOptions): FigletEither[FIGureSize] =
+    Figlet4sClient.measureString[FigletEither](text, options)
+
+  /**
+   * Finds the first FIGfont that renders a given text within a width, measuring the text without building any FIGure
+   *
+   * @param text    The text to render
+   * @param options The rendering options used to render the text, where the FIGfont is replaced by each candidate
+   * @param fonts   The candidate FIGfonts, in order of preference
+   * @param width   The maximum width of the FIGure
+   * @return The first FIGfont with which the FIGure is not wider than the given width, if any
+   */
+  def fittingFontF(
+      text: String,
+      options: RenderOptions,
+      fonts: Seq[FIGfont],
+      width: Int,
+  ): FigletEither[Option[FIGfont]] =
+    Figlet4sClient.fittingFont[FigletEither](text, options, fonts, width)
+
+  /**
+   * Creates a renderer that renders any number of texts with the same options
+   *
+   * @param options The rendering options used to render the texts
+   * @return A Renderer that reuses the work that depends only on the options
+   */
+  def rendererF(options: RenderOptions): FigletEither[Renderer] =
+    Figlet4sClient.renderer[FigletEither](options)
+
   /**
    * Returns a new options builder with default settings
    *
@@ -2,9 +2,11 @@ package com.colofabrix.scala.figlet4s.either
 
 import scala.util._
 import com.colofabrix.scala.figlet4s.api._
+import com.colofabrix.scala.figlet4s.control._
 import com.colofabrix.scala.figlet4s.core._
 import com.colofabrix.scala.figlet4s.figfont._
 import com.colofabrix.scala.figlet4s.options._
+import com.colofabrix.scala.figlet4s.rendering._
 
 private[either] trait OptionsBuilderMixin {
 
@@ -29,6 +31,28 @@ private[either] trait OptionsBuilderMixin {
         .text(text)
         .render()
 
+    /** @inheritdoc */
+    def measure(): FigletEither[FIGureSize] =
+      for {
+        options  <- options
+        text     <- text
+        measured <- Figlet4sClient.measureString[FigletEither](text, options)
+      } yield measured
+
+    /** @inheritdoc */
+    def measure(text: String): FigletEither[FIGureSize] =
+      self
+        .text(text)
+        .measure()
+
+    /**
+     * Builds the options and then creates a renderer that renders any number of texts with them
+     *
+     * @return A Renderer that uses the RenderOptions resulting from building the internal state
+     */
+    def renderer(): FigletEither[Renderer] =
+      options.flatMap(Figlet4sClient.renderer[FigletEither])
+
     /** @inheritdoc */
     def options: FigletEither[RenderOptions] =
       for {
@@ -37,8 +61,10 @@ private[either] trait OptionsBuilderMixin {
         horizontalLayout <- buildOptions.map(_.horizontalLayout)
         printDirection   <- buildOptions.map(_.printDirection)
         justification    <- buildOptions.map(_.justification)
+        controlFiles     <- builtControlFiles
+        lineBreaking     <- buildOptions.map(_.lineBreaking)
       } yield {
-        RenderOptions(font, maxWidth, horizontalLayout, printDirection, justification)
+        RenderOptions(font, maxWidth, horizontalLayout, printDirection, justification, controlFiles, lineBreaking)
       }
 
     //  Support  //
@@ -54,6 +80,13 @@ private[either] trait OptionsBuilderMixin {
         .loadFontInternal[FigletEither](Figlet4sClient.defaultFont)
         .flatMap(toEither)
 
+    private def builtControlFiles: FigletEither[Vector[ControlFile]] =
+      buildOptions.flatMap {
+        _.controlFiles.foldLeft[FigletEither[Vector[ControlFile]]](Right(Vector.empty)) { (controlFiles, controlFile) =>
+          controlFiles.flatMap(loaded => toEither(controlFile).map(loaded :+ _))
+        }
+      }
+
     private def builtMaxWidth: FigletEither[Int] =
       for {
         optionMaxWidth <- buildOptions.map(_.maxWidth)
@@ -62,7 +62,7 @@ import scala.util._
  * }
  * }}}
  */
-package object either extends FIGureMixin with OptionsBuilderMixin {
+package object either extends FIGureMixin with OptionsBuilderMixin with RendererMixin {
 
   type FigletEither[+A] = Either[FigletException, A]
 
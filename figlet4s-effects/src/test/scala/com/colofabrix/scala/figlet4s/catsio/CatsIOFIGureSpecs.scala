@@ -41,4 +41,17 @@ class CatsIOFIGureSpecs extends AnyFlatSpec with Matchers {
     computed should equal(expected)
   }
 
+  it should "write the same data as asString()" in {
+    val writer = new java.io.StringWriter()
+    val test =
+      for {
+        figure   <- standardBuilder.withMaxWidth(30).render(standardInput)
+        _        <- figure.writeTo(writer)
+        expected <- figure.asStringF()
+      } yield {
+        writer.toString should equal(expected)
+      }
+    run(test)
+  }
+
 }
@@ -3,7 +3,8 @@ package com.colofabrix.scala.figlet4s.catsio
 import cats.effect._
 import cats.effect.unsafe.implicits.global
 import cats.implicits._
-import com.colofabrix.scala.figlet4s.core.Figlet4sClient
+import com.colofabrix.scala.figlet4s.core.{ Figlet4sClient, FontSource }
+import com.colofabrix.scala.figlet4s.StandardTestData._
 import com.colofabrix.scala.figlet4s.errors._
 import org.scalatest._
 import org.scalatest.flatspec._
@@ -45,6 +46,26 @@ class CatsIOFiglet4sSpecs extends AnyFlatSpec with Matchers with OptionValues {
     }
   }
 
+  it should "preload internal fonts with a bounded parallelism, in the same order of the names" in {
+    val fonts    = run(Figlet4s.internalFonts).take(10)
+    val computed = run(Figlet4s.preloadFontsInternalN(fonts, 4, warmUp = true))
+    computed.map(_.name) should contain theSameElementsInOrderAs fonts
+    all(computed.map(_.warmUpTime.toNanos)) should be > 0L
+  }
+
+  it should "preload the same fonts that are then loaded" in {
+    val timing = run(Figlet4s.preloadFontInternal("small"))
+    val font   = run(Figlet4s.loadFontInternal("small"))
+    timing.id shouldBe font.id
+    timing.warmUpTime.toNanos shouldBe 0L
+  }
+
+  it should "result in a FigletLoadingError when trying to preload a font that doesn't exist" in {
+    assertThrows[FigletLoadingError] {
+      run(Figlet4s.preloadFontsInternalN(Seq("standard", "non_existent"), 2))
+    }
+  }
+
   //  Fonts  //
 
   "Fonts API" should "read a font from the file system" in {
@@ -59,6 +80,50 @@ class CatsIOFiglet4sSpecs extends AnyFlatSpec with Matchers with OptionValues {
     }
   }
 
+  it should "index the fonts of a directory and load them from the catalog" in {
+    implicit val ec: scala.concurrent.ExecutionContext = scala.concurrent.ExecutionContext.global
+    val cwd = System.getProperty("user.dir")
+    val test =
+      for {
+        catalog <- Figlet4s.indexFonts(s"$cwd/figlet4s-core/src/main/resources/fonts")
+        entry   <- IO.fromOption(catalog.find("standard"))(FigletError("Font not indexed"))
+        font    <- Figlet4s.loadFont(entry)
+      } yield {
+        font.id shouldBe entry.id
+      }
+    run(test)
+  }
+
+  it should "load the same font from a path and from a buffer" in {
+    val cwd  = System.getProperty("user.dir")
+    val path = java.nio.file.Paths.get(s"$cwd/figlet4s-core/src/main/resources/fonts/standard.flf")
+    val test =
+      for {
+        expected <- Figlet4s.loadFont(path.toString)
+        bytes    <- IO.blocking(java.nio.file.Files.readAllBytes(path))
+        fromPath <- Figlet4s.loadFontFrom(FontSource.FromPath(path))
+        fromData <- Figlet4s.loadFontFrom(FontSource.FromBuffer(java.nio.ByteBuffer.wrap(bytes), "standard.flf"))
+      } yield {
+        fromPath.id shouldBe expected.id
+        fromData.id shouldBe expected.id
+      }
+    run(test)
+  }
+
+  //  Rendering  //
+
+  "Rendering API" should "measure a text with the size of its FIGure" in {
+    val test =
+      for {
+        computed <- standardBuilder.measure(standardInput)
+        expected <- standardBuilder.render(standardInput)
+      } yield {
+        computed.width shouldBe expected.width
+        computed.lines shouldBe expected.columns.size
+      }
+    run(test)
+  }
+
   //  Builder  //
 
   "Builder API" should "create a builder" in {
@@ -0,0 +1,69 @@
+package com.colofabrix.scala.figlet4s.catsio
+
+import cats.effect.IO
+import cats.effect.unsafe.implicits.global
+import com.colofabrix.scala.figlet4s.StandardTestData._
+import fs2.Stream
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+
+class CatsIORenderPipeSpecs extends AnyFlatSpec with Matchers {
+
+  private def run[A](a: IO[A]): A = a.unsafeRunSync()
+
+  private val longText: String = (1 to 20).map(i => s"$standardInput $i").mkString(" ")
+
+  "Render pipe" should "emit the same rows of the clean lines of the rendered FIGure" in {
+    val test =
+      for {
+        options  <- standardBuilder.withMaxWidth(80).options
+        expected <- Figlet4s.renderStringF(longText, options)
+        computed <- Stream.emit(longText).through(Figlet4s.renderPipe(options)).compile.toList
+      } yield {
+        computed should equal(expected.cleanLines.flatMap(_.value))
+      }
+    run(test)
+  }
+
+  it should "render the pieces of text as a single text" in {
+    val pieces = longText.grouped(7).toList
+    val test =
+      for {
+        options  <- standardBuilder.withMaxWidth(80).options
+        expected <- Stream.emit(longText).through(Figlet4s.renderPipe(options)).compile.toList
+        computed <- Stream.emits(pieces).through(Figlet4s.renderPipe(options)).compile.toList
+      } yield {
+        computed should equal(expected)
+      }
+    run(test)
+  }
+
+  it should "emit the rows of a line before the input ends" in {
+    val test =
+      for {
+        options <- standardBuilder.withMaxWidth(80).options
+        height   = options.font.header.height
+        computed <- (Stream.emit(longText) ++ Stream.never[IO])
+                      .through(Figlet4s.renderPipe(options))
+                      .take(height.toLong)
+                      .compile
+                      .toList
+      } yield {
+        computed should have size height.toLong
+        all(computed.map(_.length)) should be <= 80
+      }
+    run(test)
+  }
+
+  it should "emit nothing for an empty input" in {
+    val test =
+      for {
+        options  <- standardBuilder.options
+        computed <- Stream.empty.covary[IO].through(Figlet4s.renderPipe(options)).compile.toList
+      } yield {
+        computed shouldBe empty
+      }
+    run(test)
+  }
+
+}
@@ -0,0 +1,59 @@
+package com.colofabrix.scala.figlet4s.catsio
+
+import cats.effect.IO
+import cats.effect.unsafe.implicits.global
+import cats.implicits._
+import com.colofabrix.scala.figlet4s.StandardTestData._
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+import scala.concurrent.ExecutionContext
+
+class CatsIORendererSpecs extends AnyFlatSpec with Matchers {
+
+  private def run[A](a: IO[A]): A = a.unsafeRunSync()
+
+  private val texts: Seq[String] = (1 to 100).map(i => s"$standardInput $i")
+
+  "Renderer" should "render the same FIGure as the OptionsBuilder" in {
+    val test =
+      for {
+        renderer <- standardBuilder.renderer()
+        computed <- renderer.render(standardInput)
+        expected <- standardBuilder.render(standardInput)
+      } yield {
+        computed should equal(expected)
+      }
+    run(test)
+  }
+
+  it should "append a text to a FIGure as if the concatenation of the texts was rendered" in {
+    val test =
+      for {
+        renderer <- standardBuilder.renderer()
+        first    <- renderer.render(standardInput)
+        computed <- renderer.append(first, " again")
+        expected <- renderer.render(s"$standardInput again")
+      } yield {
+        computed should equal(expected)
+      }
+    run(test)
+  }
+
+  it should "render all the texts in order, sequentially and in parallel" in {
+    implicit val ec: ExecutionContext = ExecutionContext.global
+    val test =
+      for {
+        renderer <- standardBuilder.renderer()
+        expected <- texts.toList.traverse(renderer.render)
+        computed <- renderer.renderAll(texts)
+        iterated <- renderer.renderAll(texts.iterator)
+        parallel <- renderer.renderAllPar(texts)
+      } yield {
+        computed should equal(expected)
+        iterated.toList should equal(expected)
+        parallel should equal(expected)
+      }
+    run(test)
+  }
+
+}
@@ -36,4 +36,31 @@ class EitherFIGureSpecs extends AnyFlatSpec with Matchers with EitherMatchers wi
     computed should equal(expected)
   }
 
+  it should "write the same data as asString()" in {
+    val writer = new java.io.StringWriter()
+    val test =
+      for {
+        figure   <- standardBuilder.withMaxWidth(30).render(standardInput)
+        _        <- figure.writeTo(writer)
+        expected <- figure.asStringF()
+      } yield {
+        (writer.toString, expected)
+      }
+
+    test should be(right)
+
+    val (computed, expected) = test.value
+    computed should equal(expected)
+  }
+
+  it should "return the errors of the destination" in {
+    val failing = new java.io.Writer {
+      def write(cbuf: Array[Char], off: Int, len: Int): Unit = throw new java.io.IOException("Broken destination")
+      def flush(): Unit                                         = ()
+      def close(): Unit                                         = ()
+    }
+    val test = standardBuilder.render(standardInput).flatMap(_.writeTo(failing))
+    test should be(left)
+  }
+
 }
@@ -4,7 +4,8 @@ import cats.effect._
 import cats.effect.unsafe.implicits.global
 import cats.implicits._
 import cats.scalatest._
-import com.colofabrix.scala.figlet4s.core.Figlet4sClient
+import com.colofabrix.scala.figlet4s.core.{ Figlet4sClient, FontSource }
+import com.colofabrix.scala.figlet4s.StandardTestData._
 import com.colofabrix.scala.figlet4s.errors._
 import org.scalatest.flatspec._
 import org.scalatest.matchers.should._
@@ -46,6 +47,20 @@ class EitherFiglet4sSpecs extends AnyFlatSpec with Matchers with EitherMatchers
     }
   }
 
+  it should "preload internal fonts on an ExecutionContext, in the same order of the names" in {
+    implicit val ec: scala.concurrent.ExecutionContext = scala.concurrent.ExecutionContext.global
+    val fonts    = Figlet4s.internalFonts.value.take(10)
+    val computed = Figlet4s.preloadFontsInternal(fonts)
+    computed.value.map(_.name) should contain theSameElementsInOrderAs fonts
+  }
+
+  it should "result in a FigletLoadingError when trying to preload a font that doesn't exist" in {
+    implicit val ec: scala.concurrent.ExecutionContext = scala.concurrent.ExecutionContext.global
+    assertThrows[FigletLoadingError] {
+      unsafeGet(Figlet4s.preloadFontsInternal(Seq("standard", "non_existent")))
+    }
+  }
+
   //  Fonts  //
 
   "Fonts API" should "read a font from the file system" in {
@@ -60,6 +75,47 @@ class EitherFiglet4sSpecs extends AnyFlatSpec with Matchers with EitherMatchers
     }
   }
 
+  it should "index the fonts of a directory and load them from the catalog" in {
+    implicit val ec: scala.concurrent.ExecutionContext = scala.concurrent.ExecutionContext.global
+    val cwd = System.getProperty("user.dir")
+    val computed =
+      for {
+        catalog <- Figlet4s.indexFonts(s"$cwd/figlet4s-core/src/main/resources/fonts")
+        entry   <- catalog.find("standard").toRight(FigletError("Font not indexed"))
+        font    <- Figlet4s.loadFont(entry)
+      } yield (font.id, entry.id)
+
+    computed should be(right)
+    computed.value._1 shouldBe computed.value._2
+  }
+
+  it should "load the same font from a path and from a stream" in {
+    val cwd    = System.getProperty("user.dir")
+    val path   = java.nio.file.Paths.get(s"$cwd/figlet4s-core/src/main/resources/fonts/standard.flf")
+    val stream = java.nio.file.Files.newInputStream(path)
+    val computed =
+      try {
+        for {
+          expected <- Figlet4s.loadFont(path.toString)
+          fromData <- Figlet4s.loadFontFrom(FontSource.FromStream(stream, "standard.flf"))
+        } yield (fromData.id, expected.id)
+      } finally {
+        stream.close()
+      }
+
+    computed should be(right)
+    computed.value._1 shouldBe computed.value._2
+  }
+
+  //  Rendering  //
+
+  "Rendering API" should "measure a text with the size of its FIGure" in {
+    val computed = standardBuilder.measure(standardInput)
+    val expected = standardBuilder.render(standardInput)
+    computed.map(_.width) shouldBe expected.map(_.width)
+    computed.map(_.lines) shouldBe expected.map(_.columns.size)
+  }
+
   //  Builder  //
 
   "Builder API" should "create a builder" in {
@@ -0,0 +1,65 @@
+package com.colofabrix.scala.figlet4s.either
+
+import cats.scalatest._
+import com.colofabrix.scala.figlet4s.StandardTestData._
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+import scala.concurrent.ExecutionContext
+
+class EitherRendererSpecs extends AnyFlatSpec with Matchers with EitherMatchers with EitherValues {
+
+  private val texts: Seq[String] = (1 to 100).map(i => s"$standardInput $i")
+
+  "Renderer" should "render the same FIGure as the OptionsBuilder" in {
+    val test =
+      for {
+        renderer <- standardBuilder.renderer()
+        computed <- renderer.render(standardInput)
+        expected <- standardBuilder.render(standardInput)
+      } yield {
+        (computed, expected)
+      }
+
+    test should be(right)
+
+    val (computed, expected) = test.value
+    computed should equal(expected)
+  }
+
+  it should "append a text to a FIGure as if the concatenation of the texts was rendered" in {
+    val test =
+      for {
+        renderer <- standardBuilder.renderer()
+        first    <- renderer.render(standardInput)
+        computed <- renderer.append(first, " again")
+        expected <- renderer.render(s"$standardInput again")
+      } yield {
+        (computed, expected)
+      }
+
+    test should be(right)
+
+    val (computed, expected) = test.value
+    computed should equal(expected)
+  }
+
+  it should "render all the texts in order, sequentially and in parallel" in {
+    implicit val ec: ExecutionContext = ExecutionContext.global
+    val test =
+      for {
+        renderer <- standardBuilder.renderer()
+        computed <- renderer.renderAll(texts)
+        iterated <- renderer.renderAll(texts.iterator)
+        parallel <- renderer.renderAllPar(texts)
+      } yield {
+        (computed, iterated.toVector, parallel)
+      }
+
+    test should be(right)
+
+    val (computed, iterated, parallel) = test.value
+    iterated should equal(computed)
+    parallel should equal(computed)
+  }
+
+}
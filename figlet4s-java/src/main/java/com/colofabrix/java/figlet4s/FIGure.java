@@ -4,6 +4,7 @@ import com.colofabrix.scala.figlet4s.figfont.FIGfont;
 import com.colofabrix.scala.figlet4s.figfont.SubColumns;
 import com.colofabrix.scala.figlet4s.figfont.SubLines;
 import com.colofabrix.scala.figlet4s.unsafe.FIGureMixin;
+import java.io.IOException;
 import java.util.List;
 import java.util.function.Consumer;
 import scala.jdk.CollectionConverters;
@@ -26,6 +27,15 @@ public class FIGure implements FIGureMixin {
         this.fiGureOps = new FIGureOps(figure);
     }
 
+    /**
+     * Converts this FIGure into its Scala counterpart
+     *
+     * @return The Scala FIGure wrapped by this object
+     */
+    public com.colofabrix.scala.figlet4s.figfont.FIGure toScala() {
+        return this.figure;
+    }
+
     /**
      * Get the FIGfont used to render the FIGure
      *
@@ -105,6 +115,18 @@ public class FIGure implements FIGureMixin {
         this.fiGureOps.print();
     }
 
+    /**
+     * Writes the FIGure one displayable line at a time, without building the lines or the String of the whole FIGure.
+     * The output is the same as {@link #asString()} and the destination, like a {@link java.io.Writer} or a
+     * {@link java.nio.CharBuffer}, is not flushed nor closed at the end.
+     *
+     * @param out The destination of the lines of the FIGure
+     * @throws IOException If an error occurs while writing to the destination
+     */
+    public void writeTo(Appendable out) throws IOException {
+        this.fiGureOps.writeTo(out);
+    }
+
     /**
      * The figure as a collection of String, one String per displayable line
      *
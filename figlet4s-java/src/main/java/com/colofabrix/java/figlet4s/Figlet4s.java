@@ -1,13 +1,29 @@
 package com.colofabrix.java.figlet4s;
 
 import com.colofabrix.java.figlet4s.options.RenderOptions;
+import com.colofabrix.scala.figlet4s.core.FontCacheStats;
+import com.colofabrix.scala.figlet4s.core.FontCatalog;
+import com.colofabrix.scala.figlet4s.core.FontCatalogEntry;
+import com.colofabrix.scala.figlet4s.core.FontLoadTiming;
+import com.colofabrix.scala.figlet4s.core.FontMetadata;
+import com.colofabrix.scala.figlet4s.core.FontSource;
+import com.colofabrix.scala.figlet4s.core.RenderCacheStats;
 import com.colofabrix.scala.figlet4s.errors.*;
 import com.colofabrix.scala.figlet4s.figfont.FIGfont;
+import com.colofabrix.scala.figlet4s.figfont.FIGureSize;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 import scala.collection.Seq;
+import scala.concurrent.ExecutionContext$;
+import scala.concurrent.ExecutionContextExecutor;
 import scala.io.Codec$;
 import scala.io.Codec;
 import scala.jdk.CollectionConverters;
+import scala.jdk.javaapi.OptionConverters;
 
 /**
  * "FIGlet" stands for "Frank, Ian and Glenn's LETters and this is a pure Scala implementation.
@@ -26,6 +42,16 @@ public class Figlet4s {
         return CollectionConverters.SeqHasAsJava(result).asJava();
     }
 
+    /**
+     * The description of all the available internal fonts, obtained without loading any of them
+     *
+     * @return The collection of descriptions of the FIGfonts shipped with this library
+     */
+    public static List<FontMetadata> internalFontsMetadata() throws FigletException {
+        Seq<FontMetadata> result = com.colofabrix.scala.figlet4s.unsafe.Figlet4s.internalFontsMetadata();
+        return CollectionConverters.SeqHasAsJava(result).asJava();
+    }
+
     /**
      * Loads the FIGfont "standard"
      *
@@ -45,6 +71,49 @@ public class Figlet4s {
         return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.loadFontInternal(name);
     }
 
+    /**
+     * Loads one of the internal FIGfont into the cache of loaded FIGfonts, measuring the time spent
+     *
+     * @param name   The name of the internal font to preload
+     * @param warmUp If true the FIGfont is used to render a sample text after it's loaded
+     * @return The time spent to load and to warm up the FIGfont
+     */
+    public static FontLoadTiming preloadFontInternal(String name, boolean warmUp) throws FigletException {
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.preloadFontInternal(name, warmUp);
+    }
+
+    /**
+     * Loads many internal FIGfonts concurrently into the cache of loaded FIGfonts, measuring the time spent for each
+     * one and waiting for all of them to be loaded
+     *
+     * @param names    The names of the internal fonts to preload, like the ones returned by {@link #internalFonts()}
+     * @param executor The Executor where the FIGfonts are loaded, like one that starts a virtual thread for each task
+     * @return The time spent to load each FIGfont, in the same order of the names
+     */
+    public static List<FontLoadTiming> preloadFontsInternal(List<String> names, Executor executor)
+        throws FigletException {
+        return preloadFontsInternal(names, executor, false);
+    }
+
+    /**
+     * Loads many internal FIGfonts concurrently into the cache of loaded FIGfonts, measuring the time spent for each
+     * one and waiting for all of them to be loaded
+     *
+     * @param names    The names of the internal fonts to preload, like the ones returned by {@link #internalFonts()}
+     * @param executor The Executor where the FIGfonts are loaded, like one that starts a virtual thread for each task
+     * @param warmUp   If true each FIGfont is used to render a sample text after it's loaded
+     * @return The time spent to load and to warm up each FIGfont, in the same order of the names
+     */
+    public static List<FontLoadTiming> preloadFontsInternal(List<String> names, Executor executor, boolean warmUp)
+        throws FigletException {
+        ExecutionContextExecutor ec = ExecutionContext$.MODULE$.fromExecutor(executor);
+        scala.collection.immutable.Seq<String> scalaNames =
+            CollectionConverters.ListHasAsScala(names).asScala().toSeq();
+        Seq<FontLoadTiming> result =
+            com.colofabrix.scala.figlet4s.unsafe.Figlet4s.preloadFontsInternal(scalaNames, warmUp, ec);
+        return CollectionConverters.SeqHasAsJava(result).asJava();
+    }
+
     /**
      * Loads a FIGfont from file
      *
@@ -77,6 +146,169 @@ public class Figlet4s {
         return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.loadFont(path, codec);
     }
 
+    /**
+     * Loads a FIGfont of a catalog of FIGfonts
+     *
+     * @param entry The FIGfont of the catalog to load
+     * @return The FIGfont loaded from the file described by the entry
+     */
+    public static FIGfont loadFont(FontCatalogEntry entry) throws FigletException {
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.loadFont(entry);
+    }
+
+    /**
+     * Loads a FIGfont from a file on any file system
+     *
+     * @param path The path of the font file to load. It can be a .flf file or a zipped file.
+     * @return The FIGfont loaded from the specified path
+     */
+    public static FIGfont loadFont(Path path) throws FigletException {
+        return loadFont(path, Codec$.MODULE$.ISO8859());
+    }
+
+    /**
+     * Loads a FIGfont from a file on any file system
+     *
+     * @param path  The path of the font file to load. It can be a .flf file or a zipped file.
+     * @param codec The codec of the file if textual. If it is a zipped file it will be ignored
+     * @return The FIGfont loaded from the specified path
+     */
+    public static FIGfont loadFont(Path path, String codec) throws FigletException {
+        return loadFont(path, Codec$.MODULE$.apply(codec));
+    }
+
+    /**
+     * Loads a FIGfont from a file on any file system
+     *
+     * @param path  The path of the font file to load. It can be a .flf file or a zipped file.
+     * @param codec The codec of the file if textual. If it is a zipped file it will be ignored
+     * @return The FIGfont loaded from the specified path
+     */
+    public static FIGfont loadFont(Path path, Codec codec) throws FigletException {
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.loadFontFrom(new FontSource.FromPath(path), codec);
+    }
+
+    /**
+     * Loads a FIGfont from the content of a buffer, like a memory-mapped file, without changing the buffer
+     *
+     * @param buffer The content of the font file between its position and its limit. It can be a .flf file or a zipped
+     *               file.
+     * @param name   The name of the font file, like "standard.flf"
+     * @return The FIGfont loaded from the specified buffer
+     */
+    public static FIGfont loadFont(ByteBuffer buffer, String name) throws FigletException {
+        FontSource source = new FontSource.FromBuffer(buffer, name);
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.loadFontFrom(source, Codec$.MODULE$.ISO8859());
+    }
+
+    /**
+     * Loads a FIGfont reading a stream until its end. The stream is not closed.
+     *
+     * @param stream The stream of the content of the font file. It can be a .flf file or a zipped file.
+     * @param name   The name of the font file, like "standard.flf"
+     * @return The FIGfont loaded from the specified stream
+     */
+    public static FIGfont loadFont(InputStream stream, String name) throws FigletException {
+        FontSource source = new FontSource.FromStream(stream, name);
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.loadFontFrom(source, Codec$.MODULE$.ISO8859());
+    }
+
+    /**
+     * Loads all the FIGfonts of a ZIP archive of FLF files, reading the archive only once
+     *
+     * @param path The path of the ZIP archive. If it's a single font file, it's the only FIGfont loaded
+     * @return The FIGfonts of the archive, named after their entries
+     */
+    public static List<FIGfont> loadFonts(Path path) throws FigletException {
+        FontSource source = new FontSource.FromPath(path);
+        Seq<FIGfont> result =
+            com.colofabrix.scala.figlet4s.unsafe.Figlet4s.loadFontsFrom(source, Codec$.MODULE$.ISO8859());
+        return CollectionConverters.SeqHasAsJava(result).asJava();
+    }
+
+    /**
+     * Indexes the FIGfonts of a directory and of its subdirectories in parallel, reading only their headers, and waits
+     * for all of them to be indexed
+     *
+     * @param directory The directory containing FLF files, zipped or not, and ZIP archives of FLF files
+     * @param executor  The Executor where the files are indexed
+     * @return The catalog of the FIGfonts of the directory
+     */
+    public static FontCatalog indexFonts(String directory, Executor executor) throws FigletException {
+        ExecutionContextExecutor ec = ExecutionContext$.MODULE$.fromExecutor(executor);
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.indexFonts(directory, ec);
+    }
+
+    /**
+     * Reads a catalog of FIGfonts previously saved with {@link #writeFontCatalog(FontCatalog, String)}
+     *
+     * @param path The path of the file of the catalog
+     * @return The catalog read from the file
+     */
+    public static FontCatalog readFontCatalog(String path) throws FigletException {
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.readFontCatalog(path);
+    }
+
+    /**
+     * Saves a catalog of FIGfonts into a file, replacing it if it exists
+     *
+     * @param catalog The catalog to save
+     * @param path    The path of the file of the catalog
+     */
+    public static void writeFontCatalog(FontCatalog catalog, String path) throws FigletException {
+        com.colofabrix.scala.figlet4s.unsafe.Figlet4s.writeFontCatalog(catalog, path);
+    }
+
+    /**
+     * The statistics of usage of the cache of loaded FIGfonts, shared by all client APIs
+     *
+     * @return The current statistics of the FIGfont cache
+     */
+    public static FontCacheStats fontCacheStats() {
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.fontCacheStats();
+    }
+
+    /**
+     * Removes all FIGfonts from the cache of loaded FIGfonts
+     */
+    public static void clearFontCache() {
+        com.colofabrix.scala.figlet4s.unsafe.Figlet4s.clearFontCache();
+    }
+
+    /**
+     * Changes the maximum number of FIGfonts kept in the cache of loaded FIGfonts
+     *
+     * @param maxSize The new maximum number of FIGfonts, where zero disables the cache
+     */
+    public static void resizeFontCache(int maxSize) throws FigletException {
+        com.colofabrix.scala.figlet4s.unsafe.Figlet4s.resizeFontCache(maxSize);
+    }
+
+    /**
+     * The statistics of usage of the cache of rendered FIGures, shared by all client APIs
+     *
+     * @return The current statistics of the FIGure cache
+     */
+    public static RenderCacheStats renderCacheStats() {
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.renderCacheStats();
+    }
+
+    /**
+     * Removes all FIGures from the cache of rendered FIGures
+     */
+    public static void clearRenderCache() {
+        com.colofabrix.scala.figlet4s.unsafe.Figlet4s.clearRenderCache();
+    }
+
+    /**
+     * Changes the maximum weight of the cache of rendered FIGures. The cache is disabled until it's given a weight.
+     *
+     * @param maxWeight The new maximum number of characters of all the cached FIGures, where zero disables the cache
+     */
+    public static void resizeRenderCache(long maxWeight) throws FigletException {
+        com.colofabrix.scala.figlet4s.unsafe.Figlet4s.resizeRenderCache(maxWeight);
+    }
+
     /**
      * Renders a given text as a FIGure
      *
@@ -89,6 +321,49 @@ public class Figlet4s {
         return new FIGure(com.colofabrix.scala.figlet4s.unsafe.Figlet4s.renderString(text, scalaOptions));
     }
 
+    /**
+     * Computes the size of the FIGure of a given text without building the FIGure
+     *
+     * @param text    The text to measure
+     * @param options The rendering options used to render the text
+     * @return The size of the FIGure that rendering the text would produce
+     */
+    public static FIGureSize measureString(String text, RenderOptions options) {
+        com.colofabrix.scala.figlet4s.options.RenderOptions scalaOptions = options.toScala();
+        return com.colofabrix.scala.figlet4s.unsafe.Figlet4s.measureString(text, scalaOptions);
+    }
+
+    /**
+     * Finds the first FIGfont that renders a given text within a width, measuring the text without building any FIGure
+     *
+     * The lines of the text are measured without being broken, whatever the maximum width of the options.
+     *
+     * @param text    The text to render
+     * @param options The rendering options used to render the text, where the FIGfont is replaced by each candidate
+     * @param fonts   The candidate FIGfonts, in order of preference
+     * @param width   The maximum width of the FIGure
+     * @return The first FIGfont with which the lines of the text are not wider than the given width, if any
+     */
+    public static Optional<FIGfont> fittingFont(String text, RenderOptions options, List<FIGfont> fonts, int width) {
+        com.colofabrix.scala.figlet4s.options.RenderOptions scalaOptions = options.toScala();
+        scala.collection.immutable.Seq<FIGfont> scalaFonts =
+            CollectionConverters.ListHasAsScala(fonts).asScala().toSeq();
+        scala.Option<FIGfont> result =
+            com.colofabrix.scala.figlet4s.unsafe.Figlet4s.fittingFont(text, scalaOptions, scalaFonts, width);
+        return OptionConverters.toJava(result);
+    }
+
+    /**
+     * Creates a renderer that renders any number of texts with the same options
+     *
+     * @param options The rendering options used to render the texts
+     * @return A Renderer that reuses the work that depends only on the options
+     */
+    public static Renderer renderer(RenderOptions options) {
+        com.colofabrix.scala.figlet4s.options.RenderOptions scalaOptions = options.toScala();
+        return new Renderer(com.colofabrix.scala.figlet4s.unsafe.Figlet4s.renderer(scalaOptions));
+    }
+
     //  Builder  //
 
     /**
@@ -1,7 +1,9 @@
 package com.colofabrix.java.figlet4s;
 
 import com.colofabrix.scala.figlet4s.errors.*;
+import com.colofabrix.scala.figlet4s.control.ControlFile;
 import com.colofabrix.scala.figlet4s.figfont.FIGfont;
+import com.colofabrix.scala.figlet4s.figfont.FIGureSize;
 import com.colofabrix.java.figlet4s.options.*;
 import com.colofabrix.scala.figlet4s.unsafe.OptionsBuilderMixin;
 import scala.io.Codec$;
@@ -104,6 +106,47 @@ public class OptionsBuilder implements OptionsBuilderMixin {
         return new OptionsBuilder(this.optionsBuilder.withFont(fontPath, Codec$.MODULE$.apply(codec)));
     }
 
+    /**
+     * Use a font loaded from file, validating and creating each FIGcharacter only the first time it's used
+     *
+     * The loading of the font is performed when the [[RenderOptions]] is built. Only the header and the structure of
+     * the file are validated at that time, and a FIGcharacter that is not valid is rendered as missing.
+     *
+     * @param fontPath Path of the font, including the extension
+     * @return The option builder with the rendering font set to the loaded font
+     */
+    public OptionsBuilder withLazyFont(String fontPath) {
+        return new OptionsBuilder(this.optionsBuilder.withLazyFont(fontPath, Codec$.MODULE$.ISO8859()));
+    }
+
+    /**
+     * Use a font loaded from file, validating and creating each FIGcharacter only the first time it's used
+     *
+     * The loading of the font is performed when the [[RenderOptions]] is built. Only the header and the structure of
+     * the file are validated at that time, and a FIGcharacter that is not valid is rendered as missing.
+     *
+     * @param fontPath Path of the font, including the extension
+     * @param codec Encoding of the font. The default is ISO-8859
+     * @return The option builder with the rendering font set to the loaded font
+     */
+    public OptionsBuilder withLazyFont(String fontPath, Codec codec) {
+        return new OptionsBuilder(this.optionsBuilder.withLazyFont(fontPath, codec));
+    }
+
+    /**
+     * Use a font loaded from file, validating and creating each FIGcharacter only the first time it's used
+     *
+     * The loading of the font is performed when the [[RenderOptions]] is built. Only the header and the structure of
+     * the file are validated at that time, and a FIGcharacter that is not valid is rendered as missing.
+     *
+     * @param fontPath Path of the font, including the extension
+     * @param codec Encoding of the font. The default is ISO-8859
+     * @return The option builder with the rendering font set to the loaded font
+     */
+    public OptionsBuilder withLazyFont(String fontPath, String codec) {
+        return new OptionsBuilder(this.optionsBuilder.withLazyFont(fontPath, Codec$.MODULE$.apply(codec)));
+    }
+
     /**
      * Use a specific font that's already been loaded
      *
@@ -114,6 +157,66 @@ public class OptionsBuilder implements OptionsBuilderMixin {
         return new OptionsBuilder(this.optionsBuilder.withFont(font));
     }
 
+    //  Control Files  //
+
+    /**
+     * Don't use any control file, removing the ones added so far
+     *
+     * @return The option builder without control files
+     */
+    public OptionsBuilder defaultControlFiles() {
+        return new OptionsBuilder(this.optionsBuilder.defaultControlFiles());
+    }
+
+    /**
+     * Use one of the internal control files to translate the characters of the text, after the control files added so
+     * far
+     *
+     * The loading of the control file is performed when the [[RenderOptions]] is built.
+     *
+     * @param name Name of the internal control file to load
+     * @return The option builder with the control file added to the ones to apply
+     */
+    public OptionsBuilder withInternalControlFile(String name) {
+        return new OptionsBuilder(this.optionsBuilder.withInternalControlFile(name));
+    }
+
+    /**
+     * Use a control file loaded from file to translate the characters of the text, after the control files added so far
+     *
+     * The loading of the control file is performed when the [[RenderOptions]] is built.
+     *
+     * @param path Path of the control file, including the extension
+     * @return The option builder with the control file added to the ones to apply
+     */
+    public OptionsBuilder withControlFile(String path) {
+        return new OptionsBuilder(this.optionsBuilder.withControlFile(path, Codec$.MODULE$.ISO8859()));
+    }
+
+    /**
+     * Use a control file loaded from file to translate the characters of the text, after the control files added so far
+     *
+     * The loading of the control file is performed when the [[RenderOptions]] is built.
+     *
+     * @param path  Path of the control file, including the extension
+     * @param codec Encoding of the control file. The default is ISO-8859
+     * @return The option builder with the control file added to the ones to apply
+     */
+    public OptionsBuilder withControlFile(String path, Codec codec) {
+        return new OptionsBuilder(this.optionsBuilder.withControlFile(path, codec));
+    }
+
+    /**
+     * Use a specific control file that's already been loaded to translate the characters of the text, after the control
+     * files added so far
+     *
+     * @param controlFile The ControlFile to apply
+     * @return The option builder with the control file added to the ones to apply
+     */
+    public OptionsBuilder withControlFile(ControlFile controlFile) {
+        return new OptionsBuilder(this.optionsBuilder.withControlFile(controlFile));
+    }
+
     //  Horizontal Layout  //
 
     /**
@@ -210,6 +313,32 @@ public class OptionsBuilder implements OptionsBuilderMixin {
         );
     }
 
+    //  Line Breaking  //
+
+    /**
+     * Use the default line breaking, that breaks a line at the FIGcharacter that would exceed the maximum width
+     *
+     * @return The option builder with the line breaking set to the default one
+     */
+    public OptionsBuilder defaultLineBreaking() {
+        return new OptionsBuilder(this.optionsBuilder.defaultLineBreaking());
+    }
+
+    /**
+     * Use the specified line breaking to render the text. The lines are justified only when they are broken at the
+     * boundaries of the words.
+     *
+     * @param lineBreaking The line breaking to use
+     * @return The option builder with the line breaking set to the specified one
+     */
+    public OptionsBuilder withLineBreaking(LineBreaking lineBreaking) {
+        return new OptionsBuilder(
+            this.optionsBuilder.withLineBreaking(
+                LineBreaking.toScala(lineBreaking)
+            )
+        );
+    }
+
     //  Operations  //
 
     /**
@@ -240,6 +369,34 @@ public class OptionsBuilder implements OptionsBuilderMixin {
         return new FIGure(this.optionsBuilderOps.render(text));
     }
 
+    /**
+     * Builds the options and then computes the size of the FIGure of the text, without building the FIGure
+     *
+     * @return The size of the FIGure that rendering the text would produce
+     */
+    public FIGureSize measure() throws FigletException {
+        return this.optionsBuilderOps.measure();
+    }
+
+    /**
+     * Builds the options and then computes the size of the FIGure of the text, without building the FIGure
+     *
+     * @param text The text to measure
+     * @return The size of the FIGure that rendering the text would produce
+     */
+    public FIGureSize measure(String text) throws FigletException {
+        return this.optionsBuilderOps.measure(text);
+    }
+
+    /**
+     * Builds the options and then creates a renderer that renders any number of texts with them
+     *
+     * @return A Renderer that uses the RenderOptions resulting from building the internal state
+     */
+    public Renderer renderer() throws FigletException {
+        return new Renderer(this.optionsBuilderOps.renderer());
+    }
+
     /**
      * Builds and returns the render options
      *
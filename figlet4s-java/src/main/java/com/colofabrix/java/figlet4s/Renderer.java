@@ -0,0 +1,122 @@
+package com.colofabrix.java.figlet4s;
+
+import com.colofabrix.java.figlet4s.options.RenderOptions;
+import com.colofabrix.scala.figlet4s.unsafe.RendererMixin;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import scala.collection.immutable.Seq;
+import scala.concurrent.ExecutionContext$;
+import scala.concurrent.ExecutionContextExecutor;
+import scala.jdk.CollectionConverters;
+
+/**
+ * A renderer that renders any number of texts using the same rendering options.
+ *
+ * All the work that depends only on the options is done once when the renderer is created and then reused by every
+ * rendering. A Renderer is immutable and it can be shared between threads.
+ */
+public class Renderer implements RendererMixin {
+
+    private final com.colofabrix.scala.figlet4s.rendering.Renderer renderer;
+    private final RendererOps rendererOps;
+
+    /**
+     * Creates a new Renderer using a Scala Renderer object
+     *
+     * @param renderer The Scala Renderer instance that will we wrapped in this object
+     */
+    public Renderer(com.colofabrix.scala.figlet4s.rendering.Renderer renderer) {
+        this.renderer = renderer;
+        this.rendererOps = new RendererOps(renderer);
+    }
+
+    /**
+     * Get the options used to render all the texts
+     *
+     * @return The RenderOptions of this renderer
+     */
+    public RenderOptions getOptions() {
+        return new RenderOptions(this.renderer.options());
+    }
+
+    /**
+     * Renders a text into a FIGure
+     *
+     * @param text The text to render
+     * @return A FIGure representing the rendered text
+     */
+    public FIGure render(String text) {
+        return new FIGure(this.rendererOps.render(text));
+    }
+
+    /**
+     * Renders a text after the text of a FIGure, producing the same FIGure of rendering the concatenation of the texts
+     *
+     * When the FIGure has been rendered by this renderer only the new characters are rendered and the lines of the
+     * FIGure that are already complete are reused, otherwise the whole text is rendered again.
+     *
+     * @param figure The FIGure to extend
+     * @param text   The text to render after the text of the FIGure
+     * @return A FIGure representing the text of the FIGure followed by the new text
+     */
+    public FIGure append(FIGure figure, String text) {
+        return new FIGure(this.rendererOps.append(figure.toScala(), text));
+    }
+
+    /**
+     * Renders a list of texts into FIGures
+     *
+     * @param texts The texts to render
+     * @return The FIGures representing the rendered texts, in the same order of the texts
+     */
+    public List<FIGure> renderAll(List<String> texts) {
+        List<FIGure> result = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            result.add(this.render(text));
+        }
+        return result;
+    }
+
+    /**
+     * Renders the texts of an Iterator into FIGures, one at a time when the resulting Iterator is consumed
+     *
+     * @param texts The texts to render
+     * @return An Iterator of the FIGures representing the rendered texts
+     */
+    public Iterator<FIGure> renderAll(Iterator<String> texts) {
+        return new Iterator<FIGure>() {
+            @Override
+            public boolean hasNext() {
+                return texts.hasNext();
+            }
+
+            @Override
+            public FIGure next() {
+                return Renderer.this.render(texts.next());
+            }
+        };
+    }
+
+    /**
+     * Renders a list of texts into FIGures in parallel, splitting them in batches executed on an Executor and waiting
+     * for all of them to complete
+     *
+     * @param texts    The texts to render
+     * @param executor The Executor where the renderings are executed
+     * @return The FIGures representing the rendered texts, in the same order of the texts
+     */
+    public List<FIGure> renderAllParallel(List<String> texts, Executor executor) {
+        ExecutionContextExecutor ec = ExecutionContext$.MODULE$.fromExecutor(executor);
+        Seq<String> scalaTexts = CollectionConverters.ListHasAsScala(texts).asScala().toSeq();
+        return CollectionConverters
+            .SeqHasAsJava(this.rendererOps.renderAllPar(scalaTexts, ec))
+            .asJava()
+            .stream()
+            .map(FIGure::new)
+            .collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,52 @@
+package com.colofabrix.java.figlet4s.options;
+
+/**
+ * Option to choose where the text is broken into lines when it exceeds the maximum width
+ */
+public enum LineBreaking {
+    /** Break a line at the FIGcharacter that would exceed the maximum width, without justifying the lines */
+    CHARACTERS,
+    /** Break the lines at the boundaries of the words like FIGdrivers do and justify each line within the maximum width */
+    WORDS;
+
+    /**
+     * Converts the Java enum LineBreaking into the Scala LineBreaking ADT
+     *
+     * @param value The Java LineBreaking instance to convert
+     * @return The Scala LineBreaking instance equivalent to the input value
+     */
+    public static com.colofabrix.scala.figlet4s.options.LineBreaking toScala(LineBreaking value) {
+        com.colofabrix.scala.figlet4s.options.LineBreaking result;
+
+        switch (value) {
+            case WORDS:
+                result = com.colofabrix.scala.figlet4s.options.LineBreaking.Words$.MODULE$;
+                break;
+
+            default:
+            case CHARACTERS:
+                result = com.colofabrix.scala.figlet4s.options.LineBreaking.Characters$.MODULE$;
+        }
+
+        return result;
+    }
+
+    /**
+     * Converts the Scala LineBreaking ADT into the Java enum LineBreaking
+     *
+     * @param value The Scala LineBreaking instance to convert
+     * @return The Java LineBreaking instance equivalent to the input value
+     */
+    public static LineBreaking fromScala(com.colofabrix.scala.figlet4s.options.LineBreaking value) {
+        LineBreaking result;
+
+        if (value instanceof com.colofabrix.scala.figlet4s.options.LineBreaking.Words$) {
+            result = WORDS;
+        }
+        else {
+            result = CHARACTERS;
+        }
+
+        return result;
+    }
+}
@@ -1,6 +1,9 @@
 package com.colofabrix.java.figlet4s.options;
 
+import com.colofabrix.scala.figlet4s.control.ControlFile;
 import com.colofabrix.scala.figlet4s.figfont.FIGfont;
+import java.util.List;
+import scala.jdk.javaapi.CollectionConverters;
 
 /**
  * Rendering options, including the FIGfont to use
@@ -11,6 +14,8 @@ public class RenderOptions {
     private final HorizontalLayout horizontalLayout;
     private final PrintDirection printDirection;
     private final Justification justification;
+    private final List<ControlFile> controlFiles;
+    private final LineBreaking lineBreaking;
 
     /**
      * Creates a new RenderOptions
@@ -23,6 +28,8 @@ public class RenderOptions {
         this.horizontalLayout = HorizontalLayout.fromScala(options.horizontalLayout());
         this.printDirection = PrintDirection.fromScala(options.printDirection());
         this.justification = Justification.fromScala(options.justification());
+        this.controlFiles = CollectionConverters.asJava(options.controlFiles());
+        this.lineBreaking = LineBreaking.fromScala(options.lineBreaking());
     }
 
     /**
@@ -35,11 +42,42 @@ public class RenderOptions {
      * @param printDirection   The print direction
      */
     public RenderOptions(FIGfont font, int maxWidth, HorizontalLayout horizontalLayout, PrintDirection printDirection, Justification justification) {
+        this(font, maxWidth, horizontalLayout, printDirection, justification, List.of());
+    }
+
+    /**
+     * Creates a new RenderOptions
+     *
+     * @param font             The FIGfont to use to render the text
+     * @param horizontalLayout The desired horizontal layout to render the text
+     * @param justification    The text justification
+     * @param maxWidth         The maximum width of rendered text
+     * @param printDirection   The print direction
+     * @param controlFiles     The control files that translate the characters of the text, applied in order
+     */
+    public RenderOptions(FIGfont font, int maxWidth, HorizontalLayout horizontalLayout, PrintDirection printDirection, Justification justification, List<ControlFile> controlFiles) {
+        this(font, maxWidth, horizontalLayout, printDirection, justification, controlFiles, LineBreaking.CHARACTERS);
+    }
+
+    /**
+     * Creates a new RenderOptions
+     *
+     * @param font             The FIGfont to use to render the text
+     * @param horizontalLayout The desired horizontal layout to render the text
+     * @param justification    The text justification
+     * @param maxWidth         The maximum width of rendered text
+     * @param printDirection   The print direction
+     * @param controlFiles     The control files that translate the characters of the text, applied in order
+     * @param lineBreaking     Where the text is broken into lines when it exceeds the maximum width
+     */
+    public RenderOptions(FIGfont font, int maxWidth, HorizontalLayout horizontalLayout, PrintDirection printDirection, Justification justification, List<ControlFile> controlFiles, LineBreaking lineBreaking) {
         this.font = font;
         this.maxWidth = maxWidth;
         this.horizontalLayout = horizontalLayout;
         this.printDirection = printDirection;
         this.justification = justification;
+        this.controlFiles = List.copyOf(controlFiles);
+        this.lineBreaking = lineBreaking;
     }
 
     /**
@@ -51,7 +89,9 @@ public class RenderOptions {
         com.colofabrix.scala.figlet4s.options.HorizontalLayout horizontalLayout = HorizontalLayout.toScala(this.horizontalLayout);
         com.colofabrix.scala.figlet4s.options.Justification justification = Justification.toScala(this.justification);
         com.colofabrix.scala.figlet4s.options.PrintDirection printDirection = PrintDirection.toScala(this.printDirection);
-        return new com.colofabrix.scala.figlet4s.options.RenderOptions(this.font, this.maxWidth, horizontalLayout, printDirection, justification);
+        scala.collection.immutable.Seq<ControlFile> controlFiles = CollectionConverters.asScala(this.controlFiles).toVector();
+        com.colofabrix.scala.figlet4s.options.LineBreaking lineBreaking = LineBreaking.toScala(this.lineBreaking);
+        return new com.colofabrix.scala.figlet4s.options.RenderOptions(this.font, this.maxWidth, horizontalLayout, printDirection, justification, controlFiles, lineBreaking);
     }
 
     /**
@@ -98,4 +138,22 @@ public class RenderOptions {
     public Justification getJustification() {
         return this.justification;
     }
+
+    /**
+     * Get the control files that translate the characters of the text, applied in order
+     *
+      @return The control files that translate the characters of the text
+     */
+    public List<ControlFile> getControlFiles() {
+        return this.controlFiles;
+    }
+
+    /**
+     * Get where the text is broken into lines when it exceeds the maximum width
+     *
+      @return Where the text is broken into lines when it exceeds the maximum width
+     */
+    public LineBreaking getLineBreaking() {
+        return this.lineBreaking;
+    }
 }
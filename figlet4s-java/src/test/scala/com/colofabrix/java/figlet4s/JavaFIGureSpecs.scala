@@ -27,4 +27,11 @@ class JavaFIGureSpecs extends AnyFlatSpec with Matchers {
     computed should equal(expected)
   }
 
+  it should "write the same data as asString()" in {
+    val figure = standardBuilder.render(standardInput)
+    val writer = new java.io.StringWriter()
+    figure.writeTo(writer)
+    writer.toString should equal(figure.asString())
+  }
+
 }
@@ -1,6 +1,7 @@
 package com.colofabrix.java.figlet4s
 
 import com.colofabrix.scala.figlet4s.errors._
+import java.util.concurrent.Executors
 import org.scalatest.flatspec._
 import org.scalatest.matchers.should._
 import scala.jdk.CollectionConverters
@@ -28,6 +29,29 @@ class JavaFiglet4sSpecs extends AnyFlatSpec with Matchers {
     }
   }
 
+  it should "preload internal fonts on an Executor" in {
+    val executor = Executors.newFixedThreadPool(4)
+    try {
+      val fonts    = Figlet4s.internalFonts.subList(0, 10)
+      val computed = Figlet4s.preloadFontsInternal(fonts, executor, true)
+      CollectionConverters.ListHasAsScala(computed).asScala.map(_.name) should contain theSameElementsInOrderAs
+      CollectionConverters.ListHasAsScala(fonts).asScala
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  it should "throw a FigletLoadingError when trying to preload a font that doesn't exist" in {
+    val executor = Executors.newFixedThreadPool(2)
+    try {
+      assertThrows[FigletLoadingError] {
+        Figlet4s.preloadFontsInternal(java.util.List.of("standard", "non_existent"), executor)
+      }
+    } finally {
+      executor.shutdown()
+    }
+  }
+
   //  Fonts  //
 
   "Fonts API" should "read a font from the file system" in {
@@ -43,6 +67,51 @@ class JavaFiglet4sSpecs extends AnyFlatSpec with Matchers {
     }
   }
 
+  it should "index the fonts of a directory and load them from the catalog" in {
+    val cwd      = System.getProperty("user.dir")
+    val executor = Executors.newFixedThreadPool(2)
+    try {
+      val catalog = Figlet4s.indexFonts(s"$cwd/figlet4s-core/src/main/resources/fonts", executor)
+      val entry   = catalog.find("standard").get
+      Figlet4s.loadFont(entry).id should equal(entry.id)
+    } finally {
+      executor.shutdown()
+    }
+  }
+
+  it should "load the same font from a path, a buffer and a stream" in {
+    val cwd      = System.getProperty("user.dir")
+    val path     = java.nio.file.Paths.get(s"$cwd/figlet4s-core/src/main/resources/fonts/standard.flf")
+    val expected = Figlet4s.loadFont(path.toString)
+    val stream   = java.nio.file.Files.newInputStream(path)
+    try {
+      Figlet4s.loadFont(path).id should equal(expected.id)
+      Figlet4s.loadFont(java.nio.ByteBuffer.wrap(java.nio.file.Files.readAllBytes(path)), "standard.flf").id should
+        equal(expected.id)
+      Figlet4s.loadFont(stream, "standard.flf").id should equal(expected.id)
+      CollectionConverters.ListHasAsScala(Figlet4s.loadFonts(path)).asScala.map(_.id) should equal(List(expected.id))
+    } finally {
+      stream.close()
+    }
+  }
+
+  //  Rendering  //
+
+  "Rendering API" should "measure a text with the size of its FIGure" in {
+    val options  = Figlet4s.builder().withMaxWidth(40).getOptions
+    val computed = Figlet4s.measureString("Hello, World!", options)
+    val expected = Figlet4s.renderString("Hello, World!", options)
+    computed.width shouldBe expected.getWidth
+    computed.lines shouldBe expected.getCleanLines.size()
+  }
+
+  it should "find the first font that renders a text within a width" in {
+    val options = Figlet4s.builder().getOptions
+    val fonts   = java.util.List.of(Figlet4s.loadFontInternal("big"), Figlet4s.loadFontInternal("mini"))
+    Figlet4s.fittingFont("Hello", options, fonts, 20).map[String](_.name) shouldBe java.util.Optional.of("mini")
+    Figlet4s.fittingFont("Hello", options, fonts, 1).isPresent shouldBe false
+  }
+
   //  Builder  //
 
   "Builder API" should "create a builder" in {
@@ -164,4 +164,18 @@ class JavaOptionsBuilderSpecs extends AnyFlatSpec with Matchers {
     computed should equal(expected)
   }
 
+
+  //  Control Files  //
+
+  "defaultControlFiles/withInternalControlFile" should "not translate the text by default" in {
+    val computed = Figlet4s.builder().defaultControlFiles().getOptions.getControlFiles
+    computed.isEmpty shouldBe true
+  }
+
+  it should "translate the text with an internal control file" in {
+    val expected = Figlet4s.builder("HELLO").render().asString()
+    val computed = Figlet4s.builder("hello").withInternalControlFile("upper").render().asString()
+    computed should equal(expected)
+  }
+
 }
@@ -0,0 +1,37 @@
+package com.colofabrix.java.figlet4s
+
+import com.colofabrix.java.figlet4s.JavaStandardTestData._
+import java.util.concurrent.Executors
+import org.scalatest.flatspec._
+import org.scalatest.matchers.should._
+import scala.jdk.CollectionConverters._
+
+class JavaRendererSpecs extends AnyFlatSpec with Matchers {
+
+  private val texts: java.util.List[String] = (1 to 100).map(i => s"$standardInput $i").asJava
+
+  "Renderer" should "render the same data as the OptionsBuilder" in {
+    val renderer = standardBuilder.renderer()
+    renderer.render(standardInput).asString() should equal(standardBuilder.render(standardInput).asString())
+  }
+
+  it should "append a text to a FIGure as if the concatenation of the texts was rendered" in {
+    val renderer = standardBuilder.renderer()
+    val computed = renderer.append(renderer.render(standardInput), " again")
+    computed.getValue should equal(s"$standardInput again")
+    computed.asString() should equal(renderer.render(s"$standardInput again").asString())
+  }
+
+  it should "render all the texts in order, sequentially and in parallel" in {
+    val renderer = Figlet4s.renderer(standardBuilder.getOptions)
+    val expected = texts.asScala.map(renderer.render(_).asString()).toList
+
+    renderer.renderAll(texts).asScala.map(_.asString()).toList should equal(expected)
+    renderer.renderAll(texts.iterator()).asScala.map(_.asString()).toList should equal(expected)
+
+    val executor = Executors.newFixedThreadPool(4)
+    try renderer.renderAllParallel(texts, executor).asScala.map(_.asString()).toList should equal(expected)
+    finally executor.shutdown()
+  }
+
+}
@@ -14,10 +14,12 @@ object Dependencies {
   lazy val CatsEffectVersion = "3.6.3"
   lazy val CatsVersion       = "2.13.0"
   lazy val EnumeratumVersion = "1.7.6"
+  lazy val Fs2Version        = "3.12.2"
 
   lazy val CatsCoreDep   = "org.typelevel" %% "cats-core"   % CatsVersion
   lazy val CatsEffectDep = "org.typelevel" %% "cats-effect" % CatsEffectVersion
   lazy val CatsKernelDep = "org.typelevel" %% "cats-kernel" % CatsVersion
   lazy val EnumeratumDep = "com.beachape"  %% "enumeratum"  % EnumeratumVersion % Compile
+  lazy val Fs2CoreDep    = "co.fs2"        %% "fs2-core"    % Fs2Version
 
 }
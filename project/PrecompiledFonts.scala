@@ -0,0 +1,44 @@
+import sbt._
+import sbt.Keys._
+
+/**
+ * Build step that precompiles the FIGfonts shipped with the library into their binary format and generates the
+ * manifest that describes them
+ */
+object PrecompiledFonts {
+
+  /** Entry point of the compiler of FIGfonts, part of the project being built */
+  val FontCompilerClass: String = "com.colofabrix.scala.figlet4s.core.FontCompiler"
+
+  /** Name of the manifest of the FIGfonts written by the compiler, see FontManifest */
+  val ManifestFileName: String = "manifest.tsv"
+
+  /** Settings that generate the compiled FIGfonts and their manifest as managed resources of the project */
+  lazy val settings: Seq[Def.Setting[_]] = Seq(
+    Compile / resourceGenerators += compileFonts.taskValue,
+  )
+
+  private lazy val compileFonts: Def.Initialize[Task[Seq[File]]] = Def.task {
+    val log        = streams.value.log
+    val cacheDir   = streams.value.cacheDirectory / "compiled-fonts"
+    val sourceDir  = (Compile / resourceDirectory).value / "fonts"
+    val targetDir  = (Compile / resourceManaged).value / "fonts"
+    val classesDir = (Compile / classDirectory).value
+    val classpath  = classesDir +: (Compile / dependencyClasspath).value.files
+    val runner     = (Compile / Keys.runner).value
+    val _          = (Compile / compile).value
+
+    // The compiled fonts depend both on the FLF files and on the code of the compiler
+    val inputs = (sourceDir ** "*.flf").get.toSet ++ (classesDir ** "*.class").get.toSet
+
+    val cachedCompile = FileFunction.cached(cacheDir, FilesInfo.lastModified) { _ =>
+      IO.delete(targetDir)
+      log.info(s"Compiling FIGfonts from $sourceDir")
+      runner.run(FontCompilerClass, classpath, Seq(sourceDir.getPath, targetDir.getPath), log).get
+      (targetDir ** "*.flfb").get.toSet + (targetDir / ManifestFileName)
+    }
+
+    cachedCompile(inputs).toSeq
+  }
+
+}
@@ -6,19 +6,22 @@ import sbt._
 object SbtPluginsDeps {
 
   lazy val ErrorsSummaryVersion = "0.6.5"
+  lazy val JmhVersion           = "0.4.7"
   lazy val MicrositesVersion    = "1.4.4"
   lazy val TpolecatVersion      = "0.5.2"
   lazy val UnidocVersion        = "0.6.1"
   lazy val UpdatesVersion       = "0.6.4"
 
-  lazy val ErrorsSummaryDep = "com.github.duhemm" % "sbt-errors-summary" % ErrorsSummaryVersion
-  lazy val MicrositesDep    = "com.47deg"         % "sbt-microsites"     % MicrositesVersion
-  lazy val TpolecatDep      = "org.typelevel"     % "sbt-tpolecat"       % TpolecatVersion
-  lazy val UnidocDep        = "com.github.sbt"    % "sbt-unidoc"         % UnidocVersion
-  lazy val UpdatesDep       = "com.timushev.sbt"  % "sbt-updates"        % UpdatesVersion
+  lazy val ErrorsSummaryDep = "com.github.duhemm"  % "sbt-errors-summary" % ErrorsSummaryVersion
+  lazy val JmhDep           = "pl.project13.scala" % "sbt-jmh"            % JmhVersion
+  lazy val MicrositesDep    = "com.47deg"          % "sbt-microsites"     % MicrositesVersion
+  lazy val TpolecatDep      = "org.typelevel"      % "sbt-tpolecat"       % TpolecatVersion
+  lazy val UnidocDep        = "com.github.sbt"     % "sbt-unidoc"         % UnidocVersion
+  lazy val UpdatesDep       = "com.timushev.sbt"   % "sbt-updates"        % UpdatesVersion
 
   lazy val sbtPlugins = Seq(
     ErrorsSummaryDep,
+    JmhDep,
     MicrositesDep,
     TpolecatDep,
     UnidocDep,